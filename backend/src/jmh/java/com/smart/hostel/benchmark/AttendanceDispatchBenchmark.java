@@ -0,0 +1,118 @@
+package com.smart.hostel.benchmark;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.smart.hostel.dto.QrPassSubject;
+import com.smart.hostel.dto.StudentAttendanceDTO;
+import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.HostelAction;
+import com.smart.hostel.entity.MealType;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.exception.InvalidQRTokenException;
+import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.security.JwtUtil;
+import com.smart.hostel.security.QrPassCodec;
+import com.smart.hostel.service.AttendanceServiceImpl;
+import com.smart.hostel.service.QRCodeService;
+import com.smart.hostel.service.attendance.AttendanceStrategy;
+import com.smart.hostel.service.attendance.QrReplayGuard;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttendanceDispatchBenchmark {
+
+	private AttendanceServiceImpl attendanceService;
+	private AttendanceServiceImpl replayGuardedService;
+	private String qrToken;
+	private String compactPass;
+
+	@Setup
+	public void setUp() {
+		JwtUtil jwtUtil = new JwtUtil(Fixtures.JWT_SECRET);
+		Student student = Fixtures.student(1L, "student1");
+
+		UserRepository userRepository = Fixtures.stub(UserRepository.class,
+				Map.of("findByUsername", args -> Optional.of(student.getUser())));
+		StudentRepository studentRepository = Fixtures.stub(StudentRepository.class,
+				Map.of("findByUser", args -> Optional.of(student), "findAllWithUserByIds", args -> List.of(student)));
+		List<AttendanceStrategy> strategies = List.of(
+				new FixedStrategy(AttendanceType.HOSTEL, new StudentAttendanceDTO(1L, 1L, 1L, AttendanceType.HOSTEL,
+						HostelAction.IN, null, null, null, null)),
+				new FixedStrategy(AttendanceType.MESS, new StudentAttendanceDTO(2L, 1L, 1L, AttendanceType.MESS, null,
+						MealType.LUNCH, null, null, null)));
+
+		QrPassCodec qrPassCodec = new QrPassCodec("", "");
+		QRCodeService qrCodeService = new QRCodeService(jwtUtil, qrPassCodec, studentRepository, true, 300, 8, 100);
+		QrReplayGuard acceptAll = new QrReplayGuard(2000, new SimpleMeterRegistry()) {
+			@Override
+			public boolean firstUse(QrPassSubject pass) {
+				return true;
+			}
+		};
+		attendanceService = new AttendanceServiceImpl(null, null, qrCodeService, studentRepository, userRepository,
+				null, strategies, null, null, acceptAll);
+		replayGuardedService = new AttendanceServiceImpl(null, null, qrCodeService, studentRepository,
+				userRepository, null, strategies, null, null, new QrReplayGuard(2000, new SimpleMeterRegistry()));
+		qrToken = jwtUtil.generateQrToken("student1");
+		compactPass = qrPassCodec.issue(1L, Instant.now().plus(JwtUtil.QR_TOKEN_VALIDITY));
+	}
+
+	@Benchmark
+	public StudentAttendanceDTO markHostelByQr() {
+		return attendanceService.markStudentAttendanceByQR(qrToken, AttendanceType.HOSTEL);
+	}
+
+	@Benchmark
+	public StudentAttendanceDTO markMessByQr() {
+		return attendanceService.markStudentAttendanceByQR(qrToken, AttendanceType.MESS);
+	}
+
+	@Benchmark
+	public StudentAttendanceDTO markHostelByCompactPass() {
+		return attendanceService.markStudentAttendanceByQR(compactPass, AttendanceType.HOSTEL);
+	}
+
+	@Benchmark
+	public Object rejectReplayedPass() {
+		try {
+			return replayGuardedService.markStudentAttendanceByQR(compactPass, AttendanceType.HOSTEL);
+		} catch (InvalidQRTokenException e) {
+			return e;
+		}
+	}
+
+	private record FixedStrategy(AttendanceType type, StudentAttendanceDTO result) implements AttendanceStrategy {
+
+		@Override
+		public boolean supports(AttendanceType attendanceType) {
+			return type == attendanceType;
+		}
+
+		@Override
+		public StudentAttendanceDTO mark(Student student, AttendanceType attendanceType) {
+			return result;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.smart.hostel.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.smart.hostel.dto.ComplaintDTO;
+import com.smart.hostel.dto.StudentDTO;
+import com.smart.hostel.dto.VisitorDTO;
+import com.smart.hostel.entity.Complaint;
+import com.smart.hostel.entity.ComplaintCategory;
+import com.smart.hostel.entity.ComplaintStatus;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.entity.Visitor;
+import com.smart.hostel.entity.VisitorStatus;
+import com.smart.hostel.service.ComplaintServiceImpl;
+import com.smart.hostel.service.StudentServiceImpl;
+import com.smart.hostel.service.VisitorServiceImpl;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+	private StudentServiceImpl studentService;
+	private VisitorServiceImpl visitorService;
+	private ComplaintServiceImpl complaintService;
+	private MethodHandle studentMapper;
+	private MethodHandle visitorMapper;
+	private MethodHandle complaintMapper;
+
+	private Student student;
+	private Visitor visitor;
+	private Complaint complaint;
+
+	@Setup
+	public void setUp() {
+		studentService = Fixtures.withoutDependencies(StudentServiceImpl.class);
+		visitorService = Fixtures.withoutDependencies(VisitorServiceImpl.class);
+		complaintService = Fixtures.withoutDependencies(ComplaintServiceImpl.class);
+		studentMapper = Fixtures.privateMethod(StudentServiceImpl.class, "mapToDTO", StudentDTO.class, Student.class);
+		visitorMapper = Fixtures.privateMethod(VisitorServiceImpl.class, "mapToDTO", VisitorDTO.class, Visitor.class);
+		complaintMapper = Fixtures.privateMethod(ComplaintServiceImpl.class, "mapToDTO", ComplaintDTO.class,
+				Complaint.class);
+
+		student = Fixtures.student(1L, "student1");
+
+		visitor = new Visitor();
+		visitor.setVisitorId(1L);
+		visitor.setStudent(student);
+		visitor.setVisitorName("Visitor");
+		visitor.setContactNumber("9000000001");
+		visitor.setPurpose("Family visit");
+		visitor.setStatus(VisitorStatus.CHECKED_IN);
+		visitor.setVisitDate(LocalDateTime.now());
+		visitor.setInTime(LocalDateTime.now());
+
+		complaint = new Complaint();
+		complaint.setComplaintId(1L);
+		complaint.setStudent(student);
+		complaint.setBuilding(student.getBuilding());
+		complaint.setCategory(ComplaintCategory.MESS);
+		complaint.setDescription("Food was cold");
+		complaint.setStatus(ComplaintStatus.OPEN);
+		complaint.setCreatedAt(LocalDateTime.now());
+		complaint.setUpdatedAt(LocalDateTime.now());
+	}
+
+	@Benchmark
+	public StudentDTO mapStudent() throws Throwable {
+		return (StudentDTO) studentMapper.invokeExact(studentService, student);
+	}
+
+	@Benchmark
+	public VisitorDTO mapVisitor() throws Throwable {
+		return (VisitorDTO) visitorMapper.invokeExact(visitorService, visitor);
+	}
+
+	@Benchmark
+	public ComplaintDTO mapComplaint() throws Throwable {
+		return (ComplaintDTO) complaintMapper.invokeExact(complaintService, complaint);
+	}
+}
@@ -0,0 +1,88 @@
+package com.smart.hostel.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.smart.hostel.entity.BuildingType;
+import com.smart.hostel.entity.Gender;
+import com.smart.hostel.entity.HostelBuilding;
+import com.smart.hostel.entity.Role;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.entity.StudentStatus;
+import com.smart.hostel.entity.User;
+
+final class Fixtures {
+
+	static final String JWT_SECRET = "YmVuY2htYXJrLXNlY3JldC1iZW5jaG1hcmstc2VjcmV0LWJlbmNobWFyay1zZWNyZXQ=";
+
+	private Fixtures() {
+	}
+
+	static Student student(long id, String username) {
+		Role role = new Role();
+		role.setRoleId(2);
+		role.setRoleName("STUDENT");
+
+		User user = new User();
+		user.setUserId(id);
+		user.setRole(role);
+		user.setUsername(username);
+		user.setEmail(username + "@hostel.test");
+		user.setPhoneNumber("9000000000");
+		user.setCreatedAt(LocalDateTime.now());
+
+		HostelBuilding building = new HostelBuilding();
+		building.setBuildingId(1L);
+		building.setBuildingName("A");
+		building.setBuildingType(BuildingType.CO_ED);
+
+		Student student = new Student();
+		student.setStudentId(id);
+		student.setUser(user);
+		student.setFullName("Student " + id);
+		student.setGender(Gender.MALE);
+		student.setStatus(StudentStatus.APPROVED);
+		student.setBuilding(building);
+		student.setWalletBalance(new BigDecimal("500.00"));
+		student.setTotalFee(60000.0);
+		student.setPaidFee(30000.0);
+		student.setRoomNumber("A-101");
+		return student;
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			Function<Object[], Object> answer = answers.get(method.getName());
+			if (answer == null) {
+				throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+			}
+			return answer.apply(args);
+		});
+	}
+
+	static <T> T withoutDependencies(Class<T> type) {
+		try {
+			Constructor<?> constructor = type.getDeclaredConstructors()[0];
+			return type.cast(constructor.newInstance(new Object[constructor.getParameterCount()]));
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	static MethodHandle privateMethod(Class<?> owner, String name, Class<?> returnType, Class<?> parameterType) {
+		try {
+			return MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).findVirtual(owner, name,
+					MethodType.methodType(returnType, parameterType));
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
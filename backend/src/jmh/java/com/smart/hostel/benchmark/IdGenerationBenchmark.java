@@ -0,0 +1,116 @@
+package com.smart.hostel.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.smart.hostel.SmartHostelApplication;
+import com.smart.hostel.dto.NotificationDTO;
+import com.smart.hostel.entity.Notification;
+import com.smart.hostel.entity.User;
+import com.smart.hostel.repository.NotificationBatchRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(IdGenerationBenchmark.ROWS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+	static final int ROWS = 500;
+
+	private ConfigurableApplicationContext context;
+	private EntityManager entityManager;
+	private TransactionTemplate transactionTemplate;
+	private NotificationBatchRepository notificationBatchRepository;
+	private JdbcTemplate jdbcTemplate;
+	private User user;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(SmartHostelApplication.class).profiles("benchmark")
+				.web(WebApplicationType.NONE).run();
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+		jdbcTemplate.update("INSERT INTO roles (role_id, role_name) VALUES (2, 'STUDENT')");
+		jdbcTemplate.update("INSERT INTO users (user_id, role_id, username, password_hash, is_active) "
+				+ "VALUES (1, 2, 'student1', 'x', true)");
+		entityManager = SharedEntityManagerCreator
+				.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+		notificationBatchRepository = context.getBean(NotificationBatchRepository.class);
+		user = transactionTemplate.execute(status -> entityManager.find(User.class, 1L));
+	}
+
+	@Setup(Level.Iteration)
+	public void truncate() {
+		jdbcTemplate.update("DELETE FROM notifications");
+		jdbcTemplate.update("DELETE FROM benchmark_identity_notifications");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public void identityPerRowInsert() {
+		transactionTemplate.executeWithoutResult(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			for (int i = 0; i < ROWS; i++) {
+				IdentityNotification n = new IdentityNotification();
+				n.setUser(user);
+				n.setTitle("Benchmark");
+				n.setMessage("Row " + i);
+				n.setIsRead(false);
+				n.setCreatedAt(now);
+				entityManager.persist(n);
+			}
+		});
+	}
+
+	@Benchmark
+	public void pooledSequenceBatchedInsert() {
+		transactionTemplate.executeWithoutResult(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			for (int i = 0; i < ROWS; i++) {
+				entityManager.persist(new Notification(null, user, "Benchmark", "Row " + i, false, now));
+			}
+		});
+	}
+
+	@Benchmark
+	public List<Long> pooledSequenceJdbcBatch() {
+		LocalDateTime now = LocalDateTime.now();
+		List<NotificationDTO> rows = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			rows.add(new NotificationDTO(null, 1L, "Benchmark", "Row " + i, false, now));
+		}
+		return transactionTemplate.execute(status -> notificationBatchRepository.insert(rows));
+	}
+}
@@ -0,0 +1,44 @@
+package com.smart.hostel.benchmark;
+
+import java.time.LocalDateTime;
+
+import com.smart.hostel.entity.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "benchmark_identity_notifications")
+@Data
+@NoArgsConstructor
+public class IdentityNotification {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "notification_id")
+	private Long notificationId;
+
+	@ManyToOne
+	@JoinColumn(name = "user_id")
+	private User user;
+
+	@Column(name = "title")
+	private String title;
+
+	@Column(name = "message")
+	private String message;
+
+	@Column(name = "is_read")
+	private Boolean isRead;
+
+	@Column(name = "created_at")
+	private LocalDateTime createdAt;
+}
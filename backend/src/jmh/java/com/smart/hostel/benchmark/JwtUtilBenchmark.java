@@ -0,0 +1,79 @@
+package com.smart.hostel.benchmark;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.smart.hostel.security.JwtUtil;
+import com.smart.hostel.security.QrPassCodec;
+import com.smart.hostel.security.QrPassCodec.QrPass;
+
+import io.jsonwebtoken.Claims;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+	private JwtUtil jwtUtil;
+	private UserDetails userDetails;
+	private String token;
+	private String qrToken;
+	private QrPassCodec qrPassCodec;
+	private String compactPass;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = new JwtUtil(Fixtures.JWT_SECRET);
+		userDetails = User.withUsername("student1").password("x").roles("STUDENT").build();
+		token = jwtUtil.generateToken(userDetails);
+		qrToken = jwtUtil.generateQrToken("student1");
+		qrPassCodec = new QrPassCodec("", "");
+		compactPass = qrPassCodec.issue(1L, Instant.now().plus(JwtUtil.QR_TOKEN_VALIDITY));
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtUtil.generateToken(userDetails);
+	}
+
+	@Benchmark
+	public Claims parseClaims() {
+		return jwtUtil.parseClaims(token);
+	}
+
+	@Benchmark
+	public String generateQrToken() {
+		return jwtUtil.generateQrToken("student1");
+	}
+
+	@Benchmark
+	public Boolean validateQrToken() {
+		return jwtUtil.validateQrToken(qrToken);
+	}
+
+	@Benchmark
+	public String issueCompactPass() {
+		return qrPassCodec.issue(1L, Instant.now().plus(JwtUtil.QR_TOKEN_VALIDITY));
+	}
+
+	@Benchmark
+	public QrPass verifyCompactPass() {
+		return qrPassCodec.verify(compactPass, Instant.now());
+	}
+}
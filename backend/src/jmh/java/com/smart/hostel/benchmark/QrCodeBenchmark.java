@@ -0,0 +1,53 @@
+package com.smart.hostel.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.smart.hostel.dto.QrImageDTO;
+import com.smart.hostel.entity.QrImageFormat;
+import com.smart.hostel.security.JwtUtil;
+import com.smart.hostel.security.QrPassCodec;
+import com.smart.hostel.service.QRCodeService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QrCodeBenchmark {
+
+	private QRCodeService qrCodeService;
+	private long coldUser;
+
+	@Setup
+	public void setUp() {
+		qrCodeService = new QRCodeService(new JwtUtil(Fixtures.JWT_SECRET), new QrPassCodec("", ""), null, false,
+				300, 8, 1000);
+	}
+
+	@Benchmark
+	public String generateAttendanceQr() {
+		return qrCodeService.generateAttendanceQr("student1");
+	}
+
+	@Benchmark
+	public QrImageDTO renderPng() {
+		return qrCodeService.getAttendanceQr("student" + coldUser++, QrImageFormat.PNG);
+	}
+
+	@Benchmark
+	public QrImageDTO renderSvg() {
+		return qrCodeService.getAttendanceQr("student" + coldUser++, QrImageFormat.SVG);
+	}
+}
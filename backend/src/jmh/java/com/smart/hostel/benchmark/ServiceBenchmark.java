@@ -0,0 +1,107 @@
+package com.smart.hostel.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.smart.hostel.SmartHostelApplication;
+import com.smart.hostel.dto.CursorPage;
+import com.smart.hostel.dto.PaymentDTO;
+import com.smart.hostel.dto.StudentAttendanceDTO;
+import com.smart.hostel.dto.StudentDTO;
+import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.StudentStatus;
+import com.smart.hostel.security.JwtUtil;
+import com.smart.hostel.service.AttendanceService;
+import com.smart.hostel.service.PaymentService;
+import com.smart.hostel.service.StudentService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ServiceBenchmark {
+
+	private static final int STUDENTS = 500;
+	private static final int PAYMENTS_PER_STUDENT = 50;
+
+	private ConfigurableApplicationContext context;
+	private AttendanceService attendanceService;
+	private PaymentService paymentService;
+	private StudentService studentService;
+	private String qrToken;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(SmartHostelApplication.class).profiles("benchmark")
+				.web(WebApplicationType.NONE).run();
+		seed(context.getBean(JdbcTemplate.class));
+		attendanceService = context.getBean(AttendanceService.class);
+		paymentService = context.getBean(PaymentService.class);
+		studentService = context.getBean(StudentService.class);
+		qrToken = context.getBean(JwtUtil.class).generateQrToken("student1");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public StudentAttendanceDTO markHostelAttendanceByQr() {
+		return attendanceService.markStudentAttendanceByQR(qrToken, AttendanceType.HOSTEL);
+	}
+
+	@Benchmark
+	public CursorPage<PaymentDTO> paymentHistoryPage() {
+		return paymentService.getHistory("student1", null, 20);
+	}
+
+	@Benchmark
+	public CursorPage<StudentDTO> pendingStudentsPage() {
+		return studentService.getByStatus(StudentStatus.PENDING, null, 100);
+	}
+
+	private void seed(JdbcTemplate jdbc) {
+		jdbc.update("INSERT INTO roles (role_id, role_name) VALUES (1, 'ADMIN'), (2, 'STUDENT'), (3, 'WARDEN'), "
+				+ "(4, 'GUARD'), (5, 'STAFF')");
+		jdbc.update("INSERT INTO hostel_buildings (building_id, building_name, building_type, total_rooms, "
+				+ "total_capacity, available_rooms) VALUES (1, 'A', 'CO_ED', 100, 400, 50)");
+		for (int i = 1; i <= STUDENTS; i++) {
+			jdbc.update("INSERT INTO users (user_id, role_id, username, password_hash, is_active) VALUES (?, 2, ?, 'x', true)",
+					i, "student" + i);
+			jdbc.update("INSERT INTO students (student_id, user_id, full_name, status, building_id, wallet_balance, "
+					+ "total_fee, paid_fee) VALUES (?, ?, ?, ?, 1, 1000, 60000, 0)", i, i, "Student " + i,
+					i % 3 == 0 ? "PENDING" : "APPROVED");
+		}
+		List<Object[]> payments = new ArrayList<>();
+		long paymentId = 1;
+		for (int i = 1; i <= STUDENTS; i++) {
+			for (int p = 0; p < PAYMENTS_PER_STUDENT; p++) {
+				payments.add(new Object[] { paymentId++, i, 100 + p, "HOSTEL" });
+			}
+		}
+		jdbc.batchUpdate("INSERT INTO payments (payment_id, student_id, amount, payment_type, payment_date) "
+				+ "VALUES (?, ?, ?, ?, NOW())", payments);
+		jdbc.update("ALTER SEQUENCE payments_seq RESTART WITH " + (paymentId + 50));
+	}
+}
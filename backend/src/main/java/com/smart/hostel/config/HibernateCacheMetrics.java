@@ -0,0 +1,54 @@
+package com.smart.hostel.config;
+
+import java.util.function.ToDoubleFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheMetrics {
+
+	private static final String ENTITY_REGION = "reference";
+	private static final String QUERY_REGION = "default-query-results-region";
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final MeterRegistry meterRegistry;
+
+	@PostConstruct
+	void register() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		if (!statistics.isStatisticsEnabled()) {
+			return;
+		}
+		CacheRegionStatistics entities = statistics.getDomainDataRegionStatistics(ENTITY_REGION);
+		CacheRegionStatistics queries = statistics.getQueryRegionStatistics(QUERY_REGION);
+
+		counter("hibernate.second.level.cache.requests", ENTITY_REGION, "hit", entities,
+				CacheRegionStatistics::getHitCount);
+		counter("hibernate.second.level.cache.requests", ENTITY_REGION, "miss", entities,
+				CacheRegionStatistics::getMissCount);
+		counter("hibernate.second.level.cache.puts", ENTITY_REGION, null, entities, CacheRegionStatistics::getPutCount);
+		counter("hibernate.query.cache.requests", QUERY_REGION, "hit", queries, CacheRegionStatistics::getHitCount);
+		counter("hibernate.query.cache.requests", QUERY_REGION, "miss", queries, CacheRegionStatistics::getMissCount);
+		counter("hibernate.query.cache.puts", QUERY_REGION, null, queries, CacheRegionStatistics::getPutCount);
+	}
+
+	private void counter(String name, String region, String result, CacheRegionStatistics stats,
+			ToDoubleFunction<CacheRegionStatistics> count) {
+		FunctionCounter.Builder<CacheRegionStatistics> builder = FunctionCounter.builder(name, stats, count)
+				.tag("region", region);
+		if (result != null) {
+			builder.tag("result", result);
+		}
+		builder.register(meterRegistry);
+	}
+}
@@ -0,0 +1,82 @@
+package com.smart.hostel.config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ReflectionUtils;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class SqlStatementConfig {
+
+	@Bean
+	HibernatePropertiesCustomizer sqlStatementInspector(SqlStatementCounter counter) {
+		return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, counter);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "app.sql.statements.metrics-enabled", havingValue = "true", matchIfMissing = true)
+	static ServiceStatementPostProcessor serviceSqlStatementMetrics(ObjectProvider<SqlStatementCounter> counter,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		return new ServiceStatementPostProcessor(new ServiceStatementInterceptor(counter, meterRegistry));
+	}
+
+	static final class ServiceStatementPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+		ServiceStatementPostProcessor(MethodInterceptor interceptor) {
+			this.advisor = new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Service.class, true), interceptor);
+			setBeforeExistingAdvisors(true);
+			setProxyTargetClass(true);
+		}
+	}
+
+	private static final class ServiceStatementInterceptor implements MethodInterceptor {
+
+		private final ObjectProvider<SqlStatementCounter> counter;
+		private final ObjectProvider<MeterRegistry> meterRegistry;
+		private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+		ServiceStatementInterceptor(ObjectProvider<SqlStatementCounter> counter,
+				ObjectProvider<MeterRegistry> meterRegistry) {
+			this.counter = counter;
+			this.meterRegistry = meterRegistry;
+		}
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+			if (ReflectionUtils.isObjectMethod(invocation.getMethod())) {
+				return invocation.proceed();
+			}
+			SqlStatementCounter statements = counter.getObject();
+			long start = statements.current();
+			try {
+				return invocation.proceed();
+			} finally {
+				summary(invocation.getMethod()).record(statements.current() - start);
+			}
+		}
+
+		private DistributionSummary summary(Method method) {
+			return summaries.computeIfAbsent(method,
+					m -> DistributionSummary.builder("service.sql.statements")
+							.description("JDBC statements prepared inside a service method, including nested calls")
+							.tag("class", m.getDeclaringClass().getSimpleName()).tag("method", m.getName())
+							.register(meterRegistry.getObject()));
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.smart.hostel.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+	private static final ThreadLocal<Tally> TALLY = ThreadLocal.withInitial(Tally::new);
+
+	@Override
+	public String inspect(String sql) {
+		Tally tally = TALLY.get();
+		tally.count++;
+		for (Recording recording : tally.recordings) {
+			recording.statements.merge(sql, 1, Integer::sum);
+		}
+		return sql;
+	}
+
+	public long current() {
+		return TALLY.get().count;
+	}
+
+	public Recording record() {
+		Recording recording = new Recording();
+		TALLY.get().recordings.add(recording);
+		return recording;
+	}
+
+	private static final class Tally {
+		private long count;
+		private final List<Recording> recordings = new ArrayList<>();
+	}
+
+	public static final class Recording implements AutoCloseable {
+
+		private final Map<String, Integer> statements = new HashMap<>();
+
+		public int total() {
+			return statements.values().stream().mapToInt(Integer::intValue).sum();
+		}
+
+		public Map.Entry<String, Integer> mostRepeated() {
+			return statements.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+		}
+
+		public Map<String, Integer> statements() {
+			return Map.copyOf(statements);
+		}
+
+		@Override
+		public void close() {
+			TALLY.get().recordings.remove(this);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.smart.hostel.config;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "X-SQL-Statements";
+
+	private final SqlStatementCounter counter;
+	private final MeterRegistry meterRegistry;
+	private final boolean metricsEnabled;
+	private final boolean exposeHeader;
+	private final int nPlusOneThreshold;
+
+	public SqlStatementFilter(SqlStatementCounter counter, MeterRegistry meterRegistry,
+			@Value("${app.sql.statements.metrics-enabled:true}") boolean metricsEnabled,
+			@Value("${app.sql.statements.expose-header:false}") boolean exposeHeader,
+			@Value("${app.sql.statements.n-plus-one-threshold:0}") int nPlusOneThreshold) {
+		this.counter = counter;
+		this.meterRegistry = meterRegistry;
+		this.metricsEnabled = metricsEnabled;
+		this.exposeHeader = exposeHeader;
+		this.nPlusOneThreshold = nPlusOneThreshold;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		long start = counter.current();
+		HttpServletResponse target = exposeHeader ? new HeaderWriter(response, start) : response;
+		try (SqlStatementCounter.Recording recording = nPlusOneThreshold > 0 ? counter.record() : null) {
+			chain.doFilter(request, target);
+			if (recording != null) {
+				detectRepeats(request, recording);
+			}
+		} finally {
+			long statements = counter.current() - start;
+			if (target instanceof HeaderWriter writer) {
+				writer.writeHeader();
+			}
+			if (metricsEnabled) {
+				DistributionSummary.builder("http.server.requests.sql.statements")
+						.description("JDBC statements prepared while serving a request")
+						.tag("method", request.getMethod()).tag("uri", uri(request)).register(meterRegistry)
+						.record(statements);
+			}
+		}
+	}
+
+	private void detectRepeats(HttpServletRequest request, SqlStatementCounter.Recording recording) {
+		Map.Entry<String, Integer> repeated = recording.mostRepeated();
+		if (repeated != null && repeated.getValue() >= nPlusOneThreshold) {
+			log.warn("Possible N+1 on {} {}: {} statements, {} runs of [{}]", request.getMethod(), uri(request),
+					recording.total(), repeated.getValue(), repeated.getKey());
+		}
+	}
+
+	private static String uri(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern != null ? pattern.toString() : "UNKNOWN";
+	}
+
+	private final class HeaderWriter extends OnCommittedResponseWrapper {
+
+		private final long start;
+		private boolean written;
+
+		HeaderWriter(HttpServletResponse response, long start) {
+			super(response);
+			this.start = start;
+		}
+
+		@Override
+		protected void onResponseCommitted() {
+			writeHeader();
+		}
+
+		void writeHeader() {
+			if (!written && !getResponse().isCommitted()) {
+				written = true;
+				setHeader(HEADER, Long.toString(counter.current() - start));
+			}
+		}
+	}
+}
@@ -19,6 +19,7 @@ import com.smart.hostel.dto.RegistrationRequest;
 import com.smart.hostel.dto.StaffBuildingMapDTO;
 import com.smart.hostel.dto.StaffDTO;
 import com.smart.hostel.dto.UserDTO;
+import com.smart.hostel.entity.QrImageFormat;
 import com.smart.hostel.service.AdminService;
 import com.smart.hostel.service.HostelBuildingService;
 import com.smart.hostel.service.QRCodeService;
@@ -59,8 +60,9 @@ public class AdminController {
 	}
 
 	@GetMapping("/qr/generate")
-	public ResponseEntity<String> generateQr(@RequestParam String username) {
-		return ResponseEntity.ok(qrCodeService.generateAttendanceQr(username));
+	public ResponseEntity<byte[]> generateQr(@RequestParam String username,
+			@RequestParam(defaultValue = "BASE64") QrImageFormat format) {
+		return QrImages.ok(qrCodeService.getAttendanceQr(username, format));
 	}
 
 	@GetMapping("/stats")
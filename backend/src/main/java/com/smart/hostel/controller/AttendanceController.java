@@ -9,15 +9,21 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.smart.hostel.dto.QrBatchRequest;
+import com.smart.hostel.dto.QrPassKeyDTO;
+import com.smart.hostel.dto.QrScanResultDTO;
 import com.smart.hostel.dto.StaffAttendanceDTO;
 import com.smart.hostel.dto.StaffAttendanceStatusDTO;
 import com.smart.hostel.dto.StudentAttendanceDTO;
 import com.smart.hostel.entity.AttendanceType;
 import com.smart.hostel.service.AttendanceService;
+import com.smart.hostel.service.QRCodeService;
+import com.smart.hostel.service.idempotency.IdempotentExecutor;
 
 import lombok.AllArgsConstructor;
 
@@ -27,6 +33,8 @@ import lombok.AllArgsConstructor;
 public class AttendanceController {
 
 	private final AttendanceService attendanceService;
+	private final QRCodeService qrCodeService;
+	private final IdempotentExecutor idempotentExecutor;
 
 	@PostMapping("/student")
 	public ResponseEntity<StudentAttendanceDTO> markStudent(@RequestBody StudentAttendanceDTO dto,
@@ -48,8 +56,21 @@ public class AttendanceController {
 
 	@PostMapping("/qr")
 	public ResponseEntity<StudentAttendanceDTO> markByQr(@RequestParam String token,
-			@RequestParam AttendanceType type) {
-		return ResponseEntity.ok(attendanceService.markStudentAttendanceByQR(token, type));
+			@RequestParam AttendanceType type,
+			@RequestHeader(value = IdempotentExecutor.HEADER, required = false) String idempotencyKey) {
+		return IdempotentResponses.ok(idempotentExecutor.execute(idempotencyKey, "attendance.qr", List.of(token, type),
+				StudentAttendanceDTO.class, () -> attendanceService.markStudentAttendanceByQR(token, type)));
+	}
+
+	@GetMapping("/qr/pass-key")
+	public ResponseEntity<QrPassKeyDTO> getQrPassKey() {
+		return ResponseEntity.ok(qrCodeService.getPassKey());
+	}
+
+	@PostMapping("/qr/batch")
+	@PreAuthorize("hasAnyRole('WARDEN', 'ADMIN', 'GUARD', 'STAFF')")
+	public ResponseEntity<List<QrScanResultDTO>> markByQrBatch(@RequestBody QrBatchRequest request) {
+		return ResponseEntity.ok(attendanceService.markStudentAttendanceByQRBatch(request.tokens(), request.type()));
 	}
 
 	@GetMapping("/student")
@@ -3,6 +3,7 @@ package com.smart.hostel.controller;
 import java.security.Principal;
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.smart.hostel.dto.ComplaintActionDTO;
 import com.smart.hostel.dto.ComplaintDTO;
@@ -40,24 +42,34 @@ public class ComplaintController {
 	}
 
 	@GetMapping("/student/{studentId}")
-	public ResponseEntity<List<ComplaintDTO>> getByStudent(@PathVariable Long studentId) {
-		return ResponseEntity.ok(complaintService.getByStudent(studentId));
+	public ResponseEntity<List<ComplaintDTO>> getByStudent(@PathVariable Long studentId,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer limit) {
+		return CursorPages.ok(complaintService.getByStudent(studentId, cursor, limit));
 	}
 
 	@GetMapping("/building/{buildingId}/status/{status}")
 	public ResponseEntity<List<ComplaintDTO>> getByBuilding(@PathVariable Long buildingId,
-			@PathVariable ComplaintStatus status) {
-		return ResponseEntity.ok(complaintService.getByBuilding(buildingId, status));
+			@PathVariable ComplaintStatus status, @RequestParam(required = false) Long cursor,
+			@RequestParam(required = false) Integer limit) {
+		return CursorPages.ok(complaintService.getByBuilding(buildingId, status, cursor, limit));
 	}
 
 	@GetMapping("/building/{buildingId}/all")
-	public ResponseEntity<List<ComplaintDTO>> getAllByBuilding(@PathVariable Long buildingId) {
-		return ResponseEntity.ok(complaintService.getAllByBuilding(buildingId));
+	public ResponseEntity<List<ComplaintDTO>> getAllByBuilding(@PathVariable Long buildingId,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer limit) {
+		return CursorPages.ok(complaintService.getAllByBuilding(buildingId, cursor, limit));
+	}
+
+	@GetMapping("/building/{buildingId}/export")
+	public ResponseEntity<StreamingResponseBody> exportAllByBuilding(@PathVariable Long buildingId) {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+				.body(out -> complaintService.exportAllByBuilding(buildingId, out));
 	}
 
 	@GetMapping("/mess")
-	public ResponseEntity<List<ComplaintDTO>> getMessComplaints() {
-		return ResponseEntity.ok(complaintService.getMessComplaints());
+	public ResponseEntity<List<ComplaintDTO>> getMessComplaints(@RequestParam(required = false) Long cursor,
+			@RequestParam(required = false) Integer limit) {
+		return CursorPages.ok(complaintService.getMessComplaints(cursor, limit));
 	}
 
 	@PutMapping("/{complaintId}/status/{status}")
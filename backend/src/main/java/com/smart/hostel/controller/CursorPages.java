@@ -0,0 +1,23 @@
+package com.smart.hostel.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+
+import com.smart.hostel.dto.CursorPage;
+
+final class CursorPages {
+
+	static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+	private CursorPages() {
+	}
+
+	static <T> ResponseEntity<List<T>> ok(CursorPage<T> page) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (page.nextCursor() != null) {
+			response.header(NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+		}
+		return response.body(page.items());
+	}
+}
@@ -2,12 +2,15 @@ package com.smart.hostel.controller;
 
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.smart.hostel.dto.GuardDashboardStatsDTO;
 import com.smart.hostel.dto.VisitorDTO;
@@ -28,8 +31,15 @@ public class GuardController {
 	}
 
 	@GetMapping("/visitors/recent")
-	public ResponseEntity<List<VisitorDTO>> getRecent() {
-		return ResponseEntity.ok(guardService.getRecentVisitors());
+	public ResponseEntity<List<VisitorDTO>> getRecent(@RequestParam(required = false) Long cursor,
+			@RequestParam(required = false) Integer limit) {
+		return CursorPages.ok(guardService.getRecentVisitors(cursor, limit));
+	}
+
+	@GetMapping("/visitors/recent/export")
+	public ResponseEntity<StreamingResponseBody> exportRecent() {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+				.body(out -> guardService.exportRecentVisitors(out));
 	}
 
 	@GetMapping("/stats")
@@ -0,0 +1,21 @@
+package com.smart.hostel.controller;
+
+import org.springframework.http.ResponseEntity;
+
+import com.smart.hostel.dto.IdempotentResult;
+
+final class IdempotentResponses {
+
+	static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	private IdempotentResponses() {
+	}
+
+	static <T> ResponseEntity<T> ok(IdempotentResult<T> result) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (result.replayed()) {
+			response.header(REPLAYED_HEADER, "true");
+		}
+		return response.body(result.body());
+	}
+}
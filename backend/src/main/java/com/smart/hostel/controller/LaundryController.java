@@ -3,6 +3,7 @@ package com.smart.hostel.controller;
 import java.security.Principal;
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,7 +11,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.smart.hostel.dto.LaundryBookingDTO;
 import com.smart.hostel.service.LaundryService;
@@ -40,7 +43,15 @@ public class LaundryController {
 	}
 
 	@GetMapping("/all")
-	public ResponseEntity<List<LaundryBookingDTO>> getAll(Principal principal) {
-		return ResponseEntity.ok(laundryService.getAllBookings(principal.getName()));
+	public ResponseEntity<List<LaundryBookingDTO>> getAll(Principal principal,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer limit) {
+		return CursorPages.ok(laundryService.getAllBookings(principal.getName(), cursor, limit));
+	}
+
+	@GetMapping("/all/export")
+	public ResponseEntity<StreamingResponseBody> exportAll(Principal principal) {
+		String username = principal.getName();
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+				.body(out -> laundryService.exportAllBookings(username, out));
 	}
 }
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.smart.hostel.dto.BroadcastJobDTO;
 import com.smart.hostel.dto.NotificationDTO;
 import com.smart.hostel.dto.SendNotificationRequest;
 import com.smart.hostel.service.NotificationService;
@@ -34,8 +35,12 @@ public class NotificationController {
 	}
 
 	@PostMapping("/broadcast")
-	public ResponseEntity<Void> broadcast(@RequestBody SendNotificationRequest request) {
-		notificationService.broadcast(request);
-		return ResponseEntity.ok().build();
+	public ResponseEntity<BroadcastJobDTO> broadcast(@RequestBody SendNotificationRequest request) {
+		return ResponseEntity.accepted().body(notificationService.broadcast(request));
+	}
+
+	@GetMapping("/broadcast/{jobId}")
+	public ResponseEntity<BroadcastJobDTO> getBroadcastJob(@PathVariable String jobId) {
+		return ResponseEntity.ok(notificationService.getBroadcastJob(jobId));
 	}
 }
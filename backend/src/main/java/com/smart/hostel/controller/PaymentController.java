@@ -9,11 +9,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.smart.hostel.dto.PaymentDTO;
 import com.smart.hostel.service.PaymentService;
+import com.smart.hostel.service.idempotency.IdempotentExecutor;
 
 import lombok.AllArgsConstructor;
 
@@ -23,6 +26,7 @@ import lombok.AllArgsConstructor;
 public class PaymentController {
 
 	private final PaymentService paymentService;
+	private final IdempotentExecutor idempotentExecutor;
 
 	@PostMapping("/create-order")
 	public ResponseEntity<String> createOrder(@RequestBody PaymentDTO dto) {
@@ -30,23 +34,30 @@ public class PaymentController {
 	}
 
 	@PostMapping("/confirm")
-	public ResponseEntity<PaymentDTO> confirm(@RequestBody PaymentDTO dto) {
-		return ResponseEntity.ok(paymentService.confirmPayment(dto));
+	public ResponseEntity<PaymentDTO> confirm(@RequestBody PaymentDTO dto,
+			@RequestHeader(value = IdempotentExecutor.HEADER, required = false) String idempotencyKey) {
+		return IdempotentResponses.ok(idempotentExecutor.execute(idempotencyKey, "payments.confirm", dto,
+				PaymentDTO.class, () -> paymentService.confirmPayment(dto)));
 	}
 
 	@PostMapping("/add-cash")
-	public ResponseEntity<PaymentDTO> addCash(@RequestBody PaymentDTO dto) {
-		return ResponseEntity.ok(paymentService.addCashPayment(dto));
+	public ResponseEntity<PaymentDTO> addCash(@RequestBody PaymentDTO dto,
+			@RequestHeader(value = IdempotentExecutor.HEADER, required = false) String idempotencyKey) {
+		return IdempotentResponses.ok(idempotentExecutor.execute(idempotencyKey, "payments.add-cash", dto,
+				PaymentDTO.class, () -> paymentService.addCashPayment(dto)));
 	}
 
 	@PostMapping("/{studentId}/pay-from-wallet")
 	public ResponseEntity<PaymentDTO> payFromWallet(@PathVariable Long studentId,
-			@RequestBody BigDecimal amount) {
-		return ResponseEntity.ok(paymentService.payFeeFromWallet(studentId, amount));
+			@RequestBody BigDecimal amount,
+			@RequestHeader(value = IdempotentExecutor.HEADER, required = false) String idempotencyKey) {
+		return IdempotentResponses.ok(idempotentExecutor.execute(idempotencyKey, "payments.pay-from-wallet",
+				List.of(studentId, amount), PaymentDTO.class, () -> paymentService.payFeeFromWallet(studentId, amount)));
 	}
 
 	@GetMapping("/history")
-	public ResponseEntity<List<PaymentDTO>> getHistory(Principal principal) {
-		return ResponseEntity.ok(paymentService.getHistory(principal.getName()));
+	public ResponseEntity<List<PaymentDTO>> getHistory(Principal principal,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer limit) {
+		return CursorPages.ok(paymentService.getHistory(principal.getName(), cursor, limit));
 	}
 }
@@ -0,0 +1,18 @@
+package com.smart.hostel.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.smart.hostel.dto.QrImageDTO;
+
+final class QrImages {
+
+	private QrImages() {
+	}
+
+	static ResponseEntity<byte[]> ok(QrImageDTO image) {
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(image.format().getContentType()))
+				.cacheControl(CacheControl.noCache().cachePrivate()).eTag(image.etag()).body(image.content());
+	}
+}
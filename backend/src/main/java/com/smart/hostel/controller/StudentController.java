@@ -3,6 +3,7 @@ package com.smart.hostel.controller;
 import java.security.Principal;
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -13,10 +14,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.smart.hostel.dto.ApproveStudentRequest;
 import com.smart.hostel.dto.StudentDTO;
 import com.smart.hostel.dto.StudentStatsDTO;
+import com.smart.hostel.entity.QrImageFormat;
 import com.smart.hostel.entity.StudentStatus;
 import com.smart.hostel.service.QRCodeService;
 import com.smart.hostel.service.StudentService;
@@ -48,8 +51,15 @@ public class StudentController {
 	}
 
 	@GetMapping("/status/{status}")
-	public ResponseEntity<List<StudentDTO>> getByStatus(@PathVariable StudentStatus status) {
-		return ResponseEntity.ok(studentService.getByStatus(status));
+	public ResponseEntity<List<StudentDTO>> getByStatus(@PathVariable StudentStatus status,
+			@RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer limit) {
+		return CursorPages.ok(studentService.getByStatus(status, cursor, limit));
+	}
+
+	@GetMapping("/status/{status}/export")
+	public ResponseEntity<StreamingResponseBody> exportByStatus(@PathVariable StudentStatus status) {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+				.body(out -> studentService.exportByStatus(status, out));
 	}
 
 	@GetMapping("/stats")
@@ -58,8 +68,9 @@ public class StudentController {
 	}
 
 	@GetMapping("/qr")
-	public ResponseEntity<String> getQr(Principal principal) {
-		return ResponseEntity.ok(qrCodeService.generateAttendanceQr(principal.getName()));
+	public ResponseEntity<byte[]> getQr(Principal principal,
+			@RequestParam(defaultValue = "BASE64") QrImageFormat format) {
+		return QrImages.ok(qrCodeService.getAttendanceQr(principal.getName(), format));
 	}
 
 	@GetMapping("/search")
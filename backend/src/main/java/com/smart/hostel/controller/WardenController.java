@@ -14,8 +14,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.smart.hostel.dto.BuildingPresenceDTO;
 import com.smart.hostel.dto.RegistrationRequest;
 import com.smart.hostel.dto.StudentDTO;
+import com.smart.hostel.dto.StudentPresenceDTO;
 import com.smart.hostel.dto.WardenDashboardStatsDTO;
 import com.smart.hostel.dto.WardenProfileDTO;
 import com.smart.hostel.service.StudentService;
@@ -53,6 +55,17 @@ public class WardenController {
 		return ResponseEntity.ok(wardenService.getProfile(principal.getName()));
 	}
 
+	@GetMapping("/presence")
+	public ResponseEntity<List<BuildingPresenceDTO>> getPresence(Principal principal) {
+		return ResponseEntity.ok(wardenService.getPresence(principal.getName()));
+	}
+
+	@GetMapping("/presence/{buildingId}/out")
+	public ResponseEntity<List<StudentPresenceDTO>> getStudentsOut(@PathVariable Long buildingId,
+			Principal principal) {
+		return ResponseEntity.ok(wardenService.getStudentsOut(principal.getName(), buildingId));
+	}
+
 	@GetMapping("/students")
 	public ResponseEntity<List<StudentDTO>> getAllStudents(Principal principal) {
 		WardenProfileDTO profile = wardenService.getProfile(principal.getName());
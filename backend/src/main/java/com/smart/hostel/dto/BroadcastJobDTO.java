@@ -0,0 +1,9 @@
+package com.smart.hostel.dto;
+
+import java.time.LocalDateTime;
+
+import com.smart.hostel.entity.BroadcastStatus;
+
+public record BroadcastJobDTO(String jobId, BroadcastStatus status, long totalRecipients, long processedRecipients,
+		LocalDateTime createdAt, LocalDateTime completedAt, String error) {
+}
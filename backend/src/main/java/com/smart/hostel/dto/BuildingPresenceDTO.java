@@ -0,0 +1,4 @@
+package com.smart.hostel.dto;
+
+public record BuildingPresenceDTO(Long buildingId, String buildingName, long residents, long inside, long out) {
+}
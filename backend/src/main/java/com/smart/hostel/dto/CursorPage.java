@@ -0,0 +1,6 @@
+package com.smart.hostel.dto;
+
+import java.util.List;
+
+public record CursorPage<T>(List<T> items, Long nextCursor) {
+}
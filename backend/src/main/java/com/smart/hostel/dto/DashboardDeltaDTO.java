@@ -0,0 +1,6 @@
+package com.smart.hostel.dto;
+
+import java.time.LocalDateTime;
+
+public record DashboardDeltaDTO(String type, String action, Object data, LocalDateTime at) {
+}
@@ -0,0 +1,4 @@
+package com.smart.hostel.dto;
+
+public record IdempotentResult<T>(T body, boolean replayed) {
+}
@@ -0,0 +1,8 @@
+package com.smart.hostel.dto;
+
+import java.util.List;
+
+import com.smart.hostel.entity.AttendanceType;
+
+public record QrBatchRequest(AttendanceType type, List<String> tokens) {
+}
@@ -0,0 +1,8 @@
+package com.smart.hostel.dto;
+
+import java.time.Instant;
+
+import com.smart.hostel.entity.QrImageFormat;
+
+public record QrImageDTO(QrImageFormat format, byte[] content, String etag, Instant freshUntil) {
+}
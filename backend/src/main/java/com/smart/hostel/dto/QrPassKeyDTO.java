@@ -0,0 +1,4 @@
+package com.smart.hostel.dto;
+
+public record QrPassKeyDTO(String algorithm, String keyId, String prefix, String publicKey) {
+}
@@ -0,0 +1,6 @@
+package com.smart.hostel.dto;
+
+import java.time.Instant;
+
+public record QrPassSubject(Long studentId, String username, long fingerprint, Instant expiresAt) {
+}
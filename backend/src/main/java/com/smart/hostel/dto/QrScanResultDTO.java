@@ -0,0 +1,4 @@
+package com.smart.hostel.dto;
+
+public record QrScanResultDTO(int index, boolean success, StudentAttendanceDTO attendance, String error) {
+}
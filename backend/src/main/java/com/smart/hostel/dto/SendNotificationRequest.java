@@ -3,5 +3,5 @@ package com.smart.hostel.dto;
 import java.util.List;
 
 public record SendNotificationRequest(String title, String message, List<Long> userIds, Boolean sendToAll,
-		String targetRole) {
+		String targetRole, Long buildingId) {
 }
@@ -0,0 +1,4 @@
+package com.smart.hostel.dto;
+
+public record StudentPresenceDTO(Long studentId, String fullName, String roomNumber, String phoneNumber) {
+}
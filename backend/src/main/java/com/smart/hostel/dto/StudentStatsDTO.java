@@ -1,6 +1,8 @@
 package com.smart.hostel.dto;
 
+import java.math.BigDecimal;
+
 public record StudentStatsDTO(String attendancePercentage, String messStatus, String roomNumber, String buildingName,
-		Double walletBalance, Double totalFee, Double paidFee, Boolean isEmiEnabled, Double emiAmount, String status,
+		BigDecimal walletBalance, Double totalFee, Double paidFee, Boolean isEmiEnabled, Double emiAmount, String status,
 		Long studentId, Boolean paymentMethodSelected) {
 }
@@ -0,0 +1,5 @@
+package com.smart.hostel.entity;
+
+public enum BroadcastStatus {
+	QUEUED, RUNNING, COMPLETED, FAILED
+}
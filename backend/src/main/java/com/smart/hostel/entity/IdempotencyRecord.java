@@ -0,0 +1,38 @@
+package com.smart.hostel.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "idempotency_keys")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+	@Id
+	@Column(name = "record_key", length = 255)
+	private String recordKey;
+
+	@Column(name = "endpoint", length = 100, nullable = false)
+	private String endpoint;
+
+	@Column(name = "request_hash", length = 64, nullable = false)
+	private String requestHash;
+
+	@Column(name = "response_body", columnDefinition = "MEDIUMTEXT")
+	private String responseBody;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+}
@@ -0,0 +1,15 @@
+package com.smart.hostel.entity;
+
+public enum QrImageFormat {
+	PNG("image/png"), SVG("image/svg+xml"), BASE64("text/plain");
+
+	private final String contentType;
+
+	QrImageFormat(String contentType) {
+		this.contentType = contentType;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+}
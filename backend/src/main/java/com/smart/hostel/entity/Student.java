@@ -1,9 +1,12 @@
 package com.smart.hostel.entity;
 
+import java.math.BigDecimal;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -27,7 +30,7 @@ public class Student {
 	@Column(name = "student_id")
 	private Long studentId;
 
-	@OneToOne
+	@OneToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "user_id", unique = true)
 	private User user;
 
@@ -42,12 +45,12 @@ public class Student {
 	@Column(name = "status")
 	private StudentStatus status = StudentStatus.PENDING;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "building_id")
 	private HostelBuilding building;
 
-	@Column(name = "wallet_balance", nullable = false)
-	private Double walletBalance = 0.0;
+	@Column(name = "wallet_balance", nullable = false, updatable = false, precision = 10, scale = 2)
+	private BigDecimal walletBalance = BigDecimal.ZERO;
 
 	@Column(name = "total_fee")
 	private Double totalFee = 0.0;
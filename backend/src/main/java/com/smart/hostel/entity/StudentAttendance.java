@@ -8,11 +8,13 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -21,22 +23,24 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "student_attendance", uniqueConstraints = {
-		@UniqueConstraint(columnNames = { "student_id", "attendance_date", "meal_type" }) })
+		@UniqueConstraint(name = "uk_attendance_date_meal_student", columnNames = { "attendance_date", "meal_type",
+				"student_id" }) })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class StudentAttendance {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_attendance_seq")
+	@SequenceGenerator(name = "student_attendance_seq", sequenceName = "student_attendance_seq", allocationSize = 50)
 	@Column(name = "attendance_id")
 	private Long attendanceId;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "student_id", nullable = false)
 	private Student student;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "building_id")
 	private HostelBuilding building;
 
@@ -0,0 +1,7 @@
+package com.smart.hostel.event;
+
+import com.smart.hostel.dto.ComplaintDTO;
+import com.smart.hostel.entity.ComplaintStatus;
+
+public record ComplaintChangedEvent(ComplaintDTO complaint, ComplaintStatus previousStatus) {
+}
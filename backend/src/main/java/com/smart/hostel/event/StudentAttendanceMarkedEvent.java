@@ -0,0 +1,13 @@
+package com.smart.hostel.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.HostelAction;
+import com.smart.hostel.entity.MealType;
+
+public record StudentAttendanceMarkedEvent(Long attendanceId, Long studentId, Long buildingId,
+		AttendanceType attendanceType, HostelAction hostelAction, MealType mealType, LocalDate attendanceDate,
+		LocalTime attendanceTime) {
+}
@@ -0,0 +1,7 @@
+package com.smart.hostel.event;
+
+import com.smart.hostel.entity.StudentStatus;
+
+public record StudentStatusChangedEvent(Long studentId, Long buildingId, StudentStatus previousStatus,
+		StudentStatus currentStatus) {
+}
@@ -0,0 +1,7 @@
+package com.smart.hostel.event;
+
+import com.smart.hostel.dto.VisitorDTO;
+import com.smart.hostel.entity.VisitorStatus;
+
+public record VisitorChangedEvent(VisitorDTO visitor, Long buildingId, VisitorStatus previousStatus) {
+}
@@ -0,0 +1,149 @@
+package com.smart.hostel.repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.smart.hostel.entity.Payment;
+import com.smart.hostel.entity.StudentAttendance;
+
+import lombok.AllArgsConstructor;
+
+@Repository
+@AllArgsConstructor
+public class AttendanceBatchRepository {
+
+	private static final String INSERT_ATTENDANCE = "INSERT INTO student_attendance (attendance_id, student_id, building_id, "
+			+ "attendance_date, attendance_time, attendance_type, hostel_action, meal_type, created_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String DEBIT_WALLET = "UPDATE students SET wallet_balance = wallet_balance - ? "
+			+ "WHERE student_id = ? AND wallet_balance >= ?";
+
+	private static final String CREDIT_WALLET = "UPDATE students SET wallet_balance = wallet_balance + ? "
+			+ "WHERE student_id = ?";
+
+	private static final String CONSUME_MEAL = "UPDATE student_mess SET remaining_meals = remaining_meals - 1 "
+			+ "WHERE id = ? AND remaining_meals > 0";
+
+	private static final String INSERT_PAYMENT = "INSERT INTO payments (payment_id, student_id, amount, payment_type, "
+			+ "payment_date) VALUES (?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityIdAllocator idAllocator;
+
+	public List<Long> insertAttendance(List<StudentAttendance> rows) {
+		if (rows.isEmpty()) {
+			return List.of();
+		}
+		List<Long> ids = idAllocator.allocate(StudentAttendance.class, rows.size());
+		jdbcTemplate.batchUpdate(INSERT_ATTENDANCE, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				StudentAttendance a = rows.get(i);
+				ps.setLong(1, ids.get(i));
+				ps.setLong(2, a.getStudent().getStudentId());
+				if (a.getBuilding() != null) {
+					ps.setLong(3, a.getBuilding().getBuildingId());
+				} else {
+					ps.setNull(3, Types.BIGINT);
+				}
+				ps.setObject(4, a.getAttendanceDate());
+				ps.setObject(5, a.getAttendanceTime());
+				ps.setString(6, a.getAttendanceType().name());
+				ps.setString(7, a.getHostelAction() != null ? a.getHostelAction().name() : null);
+				ps.setString(8, a.getMealType() != null ? a.getMealType().name() : null);
+				ps.setTimestamp(9, a.getCreatedAt() != null ? Timestamp.valueOf(a.getCreatedAt()) : null);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return rows.size();
+			}
+		});
+		return ids;
+	}
+
+	public int[] debitWallets(List<Long> studentIds, BigDecimal amount) {
+		return debitWallets(studentIds, Collections.nCopies(studentIds.size(), amount));
+	}
+
+	public int[] debitWallets(List<Long> studentIds, List<BigDecimal> amounts) {
+		return updateEach(DEBIT_WALLET, studentIds.size(), (ps, i) -> {
+			ps.setBigDecimal(1, amounts.get(i));
+			ps.setLong(2, studentIds.get(i));
+			ps.setBigDecimal(3, amounts.get(i));
+		});
+	}
+
+	public void creditWallets(List<Long> studentIds, BigDecimal amount) {
+		jdbcTemplate.batchUpdate(CREDIT_WALLET, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				ps.setBigDecimal(1, amount);
+				ps.setLong(2, studentIds.get(i));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return studentIds.size();
+			}
+		});
+	}
+
+	public int[] consumeMeals(List<Long> subscriptionIds) {
+		return updateEach(CONSUME_MEAL, subscriptionIds.size(), (ps, i) -> ps.setLong(1, subscriptionIds.get(i)));
+	}
+
+	public void insertPayments(List<Payment> payments) {
+		if (payments.isEmpty()) {
+			return;
+		}
+		List<Long> ids = idAllocator.allocate(Payment.class, payments.size());
+		jdbcTemplate.batchUpdate(INSERT_PAYMENT, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				Payment p = payments.get(i);
+				ps.setLong(1, ids.get(i));
+				ps.setLong(2, p.getStudent().getStudentId());
+				ps.setBigDecimal(3, p.getAmount() != null ? p.getAmount() : BigDecimal.ZERO);
+				ps.setString(4, p.getPaymentType().name());
+				ps.setTimestamp(5, Timestamp.valueOf(p.getPaymentDate()));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return payments.size();
+			}
+		});
+	}
+
+	/**
+	 * Runs a conditional update once per row on one prepared statement. A JDBC batch is not used here because with
+	 * rewriteBatchedStatements the driver may answer SUCCESS_NO_INFO instead of the per-row count that tells a
+	 * rejected debit apart from an applied one.
+	 */
+	private int[] updateEach(String sql, int size, RowSetter setter) {
+		return jdbcTemplate.execute(sql, (PreparedStatement ps) -> {
+			int[] counts = new int[size];
+			for (int i = 0; i < size; i++) {
+				setter.setValues(ps, i);
+				counts[i] = ps.executeUpdate();
+			}
+			return counts;
+		});
+	}
+
+	@FunctionalInterface
+	private interface RowSetter {
+		void setValues(PreparedStatement ps, int i) throws SQLException;
+	}
+}
@@ -1,26 +1,50 @@
 package com.smart.hostel.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.smart.hostel.dto.ComplaintDTO;
 import com.smart.hostel.entity.Complaint;
 import com.smart.hostel.entity.ComplaintCategory;
 import com.smart.hostel.entity.ComplaintStatus;
-import com.smart.hostel.entity.HostelBuilding;
-import com.smart.hostel.entity.Student;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
 
-	List<Complaint> findByStudentOrderByCreatedAtDesc(Student student);
+	String DTO_SELECT = "SELECT new com.smart.hostel.dto.ComplaintDTO(c.complaintId, s.studentId, c.building.buildingId, "
+			+ "c.category, c.description, c.resolutionComment, c.status, c.createdAt, c.updatedAt, s.fullName, "
+			+ "s.roomNumber) FROM Complaint c JOIN c.student s ";
+
+	@Query(DTO_SELECT + "WHERE s.studentId = :studentId AND c.complaintId < :beforeId ORDER BY c.complaintId DESC")
+	List<ComplaintDTO> findPageByStudent(@Param("studentId") Long studentId, @Param("beforeId") Long beforeId,
+			Limit limit);
+
+	@Query(DTO_SELECT + "WHERE c.building.buildingId = :buildingId AND c.complaintId < :beforeId "
+			+ "ORDER BY c.complaintId DESC")
+	List<ComplaintDTO> findPageByBuilding(@Param("buildingId") Long buildingId, @Param("beforeId") Long beforeId,
+			Limit limit);
 
-	List<Complaint> findByBuildingOrderByCreatedAtDesc(HostelBuilding building);
+	@Query(DTO_SELECT + "WHERE c.building.buildingId = :buildingId AND c.status = :status "
+			+ "AND c.complaintId < :beforeId ORDER BY c.complaintId DESC")
+	List<ComplaintDTO> findPageByBuildingAndStatus(@Param("buildingId") Long buildingId,
+			@Param("status") ComplaintStatus status, @Param("beforeId") Long beforeId, Limit limit);
 
-	List<Complaint> findByBuildingAndStatusOrderByCreatedAtDesc(HostelBuilding building, ComplaintStatus status);
+	@Query(DTO_SELECT + "WHERE c.category = :category AND c.complaintId < :beforeId ORDER BY c.complaintId DESC")
+	List<ComplaintDTO> findPageByCategory(@Param("category") ComplaintCategory category,
+			@Param("beforeId") Long beforeId, Limit limit);
 
-	List<Complaint> findByCategoryOrderByCreatedAtDesc(ComplaintCategory category);
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+	@Query(DTO_SELECT + "WHERE c.building.buildingId = :buildingId ORDER BY c.complaintId DESC")
+	Stream<ComplaintDTO> streamByBuilding(@Param("buildingId") Long buildingId);
 
 	List<Complaint> findByStatusOrderByCreatedAtDesc(ComplaintStatus status);
 
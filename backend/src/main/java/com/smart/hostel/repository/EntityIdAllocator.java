@@ -0,0 +1,53 @@
+package com.smart.hostel.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class EntityIdAllocator {
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	private final Map<Class<?>, BeforeExecutionGenerator> generators = new ConcurrentHashMap<>();
+
+	public List<Long> allocate(Class<?> entityClass, int count) {
+		if (count == 0) {
+			return List.of();
+		}
+		BeforeExecutionGenerator generator = generators.computeIfAbsent(entityClass, this::resolve);
+		List<Long> ids = new ArrayList<>(count);
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			SharedSessionContractImplementor s = (SharedSessionContractImplementor) session;
+			for (int i = 0; i < count; i++) {
+				ids.add(((Number) generator.generate(s, null, null, EventType.INSERT)).longValue());
+			}
+		}
+		return ids;
+	}
+
+	private BeforeExecutionGenerator resolve(Class<?> entityClass) {
+		Generator generator = sessionFactory().getMappingMetamodel().getEntityDescriptor(entityClass).getGenerator();
+		if (generator instanceof BeforeExecutionGenerator beforeExecution) {
+			return beforeExecution;
+		}
+		throw new IllegalStateException(entityClass.getSimpleName() + " ids are not generated before insert");
+	}
+
+	private SessionFactoryImplementor sessionFactory() {
+		return entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+	}
+}
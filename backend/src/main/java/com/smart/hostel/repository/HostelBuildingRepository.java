@@ -4,12 +4,20 @@ import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.smart.hostel.entity.HostelBuilding;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface HostelBuildingRepository extends JpaRepository<HostelBuilding, Long> {
+	@Override
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+	List<HostelBuilding> findAll();
+
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	@Query("SELECT b FROM HostelBuilding b WHERE NOT EXISTS (SELECT m FROM StaffBuildingMap m WHERE m.building = b)")
 	List<HostelBuilding> findUnassignedBuildings();
 }
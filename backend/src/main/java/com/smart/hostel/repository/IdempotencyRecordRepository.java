@@ -0,0 +1,43 @@
+package com.smart.hostel.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.smart.hostel.entity.IdempotencyRecord;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+	@Modifying
+	@Transactional
+	@Query(value = "INSERT IGNORE INTO idempotency_keys (record_key, endpoint, request_hash, created_at, expires_at) "
+			+ "VALUES (:recordKey, :endpoint, :requestHash, :createdAt, :expiresAt)", nativeQuery = true)
+	int claim(@Param("recordKey") String recordKey, @Param("endpoint") String endpoint,
+			@Param("requestHash") String requestHash, @Param("createdAt") LocalDateTime createdAt,
+			@Param("expiresAt") LocalDateTime expiresAt);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE IdempotencyRecord r SET r.endpoint = :endpoint, r.requestHash = :requestHash, "
+			+ "r.responseBody = NULL, r.createdAt = :createdAt, r.expiresAt = :expiresAt "
+			+ "WHERE r.recordKey = :recordKey AND r.expiresAt < :createdAt")
+	int claimExpired(@Param("recordKey") String recordKey, @Param("endpoint") String endpoint,
+			@Param("requestHash") String requestHash, @Param("createdAt") LocalDateTime createdAt,
+			@Param("expiresAt") LocalDateTime expiresAt);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE IdempotencyRecord r SET r.responseBody = :responseBody WHERE r.recordKey = :recordKey")
+	int complete(@Param("recordKey") String recordKey, @Param("responseBody") String responseBody);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,18 +1,41 @@
 package com.smart.hostel.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.smart.hostel.entity.HostelBuilding;
 import com.smart.hostel.entity.LaundryBooking;
 import com.smart.hostel.entity.Student;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface LaundryBookingRepository extends JpaRepository<LaundryBooking, Long> {
 
 	List<LaundryBooking> findByStudent(Student student);
 
-	List<LaundryBooking> findByBuilding(HostelBuilding building);
+	@Query("SELECT l FROM LaundryBooking l JOIN FETCH l.student s LEFT JOIN FETCH s.user WHERE l.bookingId < :beforeId "
+			+ "ORDER BY l.bookingId DESC")
+	List<LaundryBooking> findPageBefore(@Param("beforeId") Long beforeId, Limit limit);
+
+	@Query("SELECT l FROM LaundryBooking l JOIN FETCH l.student s LEFT JOIN FETCH s.user WHERE l.building = :building "
+			+ "AND l.bookingId < :beforeId ORDER BY l.bookingId DESC")
+	List<LaundryBooking> findPageByBuilding(@Param("building") HostelBuilding building,
+			@Param("beforeId") Long beforeId, Limit limit);
+
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+	@Query("SELECT l FROM LaundryBooking l JOIN FETCH l.student s LEFT JOIN FETCH s.user ORDER BY l.bookingId DESC")
+	Stream<LaundryBooking> streamAllNewestFirst();
+
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+	@Query("SELECT l FROM LaundryBooking l JOIN FETCH l.student s LEFT JOIN FETCH s.user WHERE l.building = :building "
+			+ "ORDER BY l.bookingId DESC")
+	Stream<LaundryBooking> streamByBuilding(@Param("building") HostelBuilding building);
 }
@@ -1,10 +1,19 @@
 package com.smart.hostel.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.smart.hostel.entity.MessPlan;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface MessPlanRepository extends JpaRepository<MessPlan, Integer> {
+
+	@Override
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+	List<MessPlan> findAll();
 }
@@ -0,0 +1,79 @@
+package com.smart.hostel.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.smart.hostel.dto.NotificationDTO;
+import com.smart.hostel.entity.Notification;
+
+import lombok.AllArgsConstructor;
+
+@Repository
+@AllArgsConstructor
+public class NotificationBatchRepository {
+
+	private static final String INSERT_PREFIX = "INSERT INTO notifications (notification_id, user_id, title, message, is_read, "
+			+ "created_at) VALUES ";
+
+	private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?)";
+
+	private static final String INSERT_NOTIFICATION = INSERT_PREFIX + VALUES_ROW;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityIdAllocator idAllocator;
+
+	public int insertForUsers(List<Long> userIds, String title, String message, LocalDateTime createdAt) {
+		if (userIds.isEmpty()) {
+			return 0;
+		}
+		StringBuilder sql = new StringBuilder(INSERT_PREFIX).append(VALUES_ROW);
+		for (int i = 1; i < userIds.size(); i++) {
+			sql.append(", ").append(VALUES_ROW);
+		}
+		List<Long> ids = idAllocator.allocate(Notification.class, userIds.size());
+		Timestamp timestamp = Timestamp.valueOf(createdAt);
+		return jdbcTemplate.update(sql.toString(), ps -> {
+			int p = 1;
+			for (int i = 0; i < userIds.size(); i++) {
+				ps.setLong(p++, ids.get(i));
+				ps.setLong(p++, userIds.get(i));
+				ps.setString(p++, title);
+				ps.setString(p++, message);
+				ps.setBoolean(p++, false);
+				ps.setTimestamp(p++, timestamp);
+			}
+		});
+	}
+
+	public List<Long> insert(List<NotificationDTO> notifications) {
+		if (notifications.isEmpty()) {
+			return List.of();
+		}
+		List<Long> ids = idAllocator.allocate(Notification.class, notifications.size());
+		jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				NotificationDTO n = notifications.get(i);
+				ps.setLong(1, ids.get(i));
+				ps.setLong(2, n.userId());
+				ps.setString(3, n.title());
+				ps.setString(4, n.message());
+				ps.setBoolean(5, Boolean.TRUE.equals(n.isRead()));
+				ps.setTimestamp(6, Timestamp.valueOf(n.createdAt()));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return notifications.size();
+			}
+		});
+		return ids;
+	}
+}
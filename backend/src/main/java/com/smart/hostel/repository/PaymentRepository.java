@@ -2,6 +2,7 @@ package com.smart.hostel.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,5 +12,5 @@ import com.smart.hostel.entity.Student;
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
-	List<Payment> findByStudent(Student student);
+	List<Payment> findByStudentAndPaymentIdLessThanOrderByPaymentIdDesc(Student student, Long beforeId, Limit limit);
 }
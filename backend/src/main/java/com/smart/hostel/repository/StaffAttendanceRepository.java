@@ -4,8 +4,11 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.smart.hostel.entity.HostelAction;
 import com.smart.hostel.entity.Staff;
 import com.smart.hostel.entity.StaffAttendance;
 
@@ -17,4 +20,13 @@ public interface StaffAttendanceRepository extends JpaRepository<StaffAttendance
 	List<StaffAttendance> findByAttendanceDate(LocalDate attendanceDate);
 
 	List<StaffAttendance> findByStaff(Staff staff);
+
+	@Query("SELECT a.staff.staffId AS staffId, a.action AS action FROM StaffAttendance a WHERE a.attendanceDate = :date")
+	List<StaffAction> findActionsOn(@Param("date") LocalDate date);
+
+	interface StaffAction {
+		Long getStaffId();
+
+		HostelAction getAction();
+	}
 }
@@ -3,21 +3,31 @@ package com.smart.hostel.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.smart.hostel.entity.HostelBuilding;
 import com.smart.hostel.entity.Staff;
 import com.smart.hostel.entity.StaffBuildingMap;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface StaffBuildingMapRepository extends JpaRepository<StaffBuildingMap, Long> {
 
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	List<StaffBuildingMap> findByStaff(Staff staff);
 
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	List<StaffBuildingMap> findByStaff_User_Username(String username);
 
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	List<StaffBuildingMap> findByBuilding(HostelBuilding building);
 
+	@Query("SELECT m FROM StaffBuildingMap m JOIN FETCH m.building ORDER BY m.id")
+	List<StaffBuildingMap> findAllWithBuilding();
+
 	boolean existsByStaffAndBuilding(Staff staff, HostelBuilding building);
 
 	void deleteByStaff(Staff staff);
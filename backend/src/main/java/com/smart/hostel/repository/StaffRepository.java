@@ -16,6 +16,9 @@ public interface StaffRepository extends JpaRepository<Staff, Long> {
 
 	List<Staff> findByStaffType(StaffType staffType);
 
+	@Query("SELECT s FROM Staff s LEFT JOIN FETCH s.user ORDER BY s.staffId")
+	List<Staff> findAllWithUser();
+
 	Optional<Staff> findByUser(User user);
 
 	@Query("SELECT s FROM Staff s WHERE s.staffType = StaffType.WARDEN AND NOT EXISTS (SELECT m FROM StaffBuildingMap m WHERE m.staff = s)")
@@ -3,14 +3,23 @@ package com.smart.hostel.repository;
 import com.smart.hostel.entity.StudentAttendance;
 import com.smart.hostel.entity.Student;
 import com.smart.hostel.entity.MealType;
+import com.smart.hostel.dto.StudentAttendanceDTO;
 import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.HostelAction;
 import java.lang.Long;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface StudentAttendanceRepository extends JpaRepository<StudentAttendance, Long> {
 
@@ -20,10 +29,70 @@ public interface StudentAttendanceRepository extends JpaRepository<StudentAttend
 
 	List<StudentAttendance> findByStudent(Student student);
 
-	List<StudentAttendance> findByStudent_StudentIdOrderByAttendanceDateDesc(Long studentId);
+	@Query("SELECT new com.smart.hostel.dto.StudentAttendanceDTO(a.attendanceId, s.studentId, s.building.buildingId, "
+			+ "a.attendanceType, a.hostelAction, a.mealType, a.attendanceDate, a.attendanceTime, "
+			+ "CAST(a.createdAt AS LocalDate)) FROM StudentAttendance a JOIN a.student s "
+			+ "WHERE s.studentId = :studentId ORDER BY a.attendanceDate DESC")
+	List<StudentAttendanceDTO> findHistory(@Param("studentId") Long studentId);
 
 	List<StudentAttendance> findByAttendanceDate(LocalDate attendanceDate);
 
 	Optional<StudentAttendance> findFirstByStudent_StudentIdAndAttendanceTypeOrderByAttendanceDateDescAttendanceTimeDesc(
 			Long studentId, AttendanceType attendanceType);
+
+	@Query("SELECT a.student.studentId FROM StudentAttendance a WHERE a.attendanceDate = :date AND a.mealType = :mealType AND a.student.studentId IN :studentIds")
+	List<Long> findStudentIdsMarkedForMeal(@Param("date") LocalDate date, @Param("mealType") MealType mealType,
+			@Param("studentIds") Collection<Long> studentIds);
+
+	@Query("SELECT a.student.studentId FROM StudentAttendance a WHERE a.attendanceDate = :date AND a.mealType = :mealType")
+	List<Long> findStudentIdsMarkedForMeal(@Param("date") LocalDate date, @Param("mealType") MealType mealType);
+
+	@Query("SELECT COUNT(DISTINCT a.attendanceDate) AS presentDays, MAX(a.attendanceDate) AS lastPresentDate "
+			+ "FROM StudentAttendance a WHERE a.student.studentId = :studentId")
+	PresentDays summarizePresentDays(@Param("studentId") Long studentId);
+
+	@Query("SELECT DISTINCT a.building.buildingId AS buildingId, a.student.studentId AS studentId FROM StudentAttendance a "
+			+ "WHERE a.attendanceDate = :date AND a.building.buildingId IN :buildingIds")
+	List<BuildingStudent> findStudentsPresentOn(@Param("date") LocalDate date,
+			@Param("buildingIds") Collection<Long> buildingIds);
+
+	@Query("SELECT a.student.studentId AS studentId, a.hostelAction AS hostelAction FROM StudentAttendance a "
+			+ "WHERE a.attendanceType = :type AND a.student.studentId IN :studentIds AND NOT EXISTS ("
+			+ "SELECT b FROM StudentAttendance b WHERE b.student = a.student AND b.attendanceType = :type "
+			+ "AND (b.attendanceDate > a.attendanceDate OR (b.attendanceDate = a.attendanceDate AND b.attendanceTime > a.attendanceTime))) "
+			+ "ORDER BY a.attendanceId")
+	List<LatestHostelAction> findLatestActions(@Param("studentIds") Collection<Long> studentIds,
+			@Param("type") AttendanceType type);
+
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+	@Query("SELECT a.student.studentId AS studentId, b.buildingId AS buildingId, a.hostelAction AS hostelAction "
+			+ "FROM StudentAttendance a LEFT JOIN a.building b WHERE a.attendanceType = :type "
+			+ "ORDER BY a.student.studentId, a.attendanceDate, a.attendanceTime, a.attendanceId")
+	Stream<HostelMovement> streamMovements(@Param("type") AttendanceType type);
+
+	interface HostelMovement {
+		Long getStudentId();
+
+		Long getBuildingId();
+
+		HostelAction getHostelAction();
+	}
+
+	interface LatestHostelAction {
+		Long getStudentId();
+
+		HostelAction getHostelAction();
+	}
+
+	interface BuildingStudent {
+		Long getBuildingId();
+
+		Long getStudentId();
+	}
+
+	interface PresentDays {
+		long getPresentDays();
+
+		LocalDate getLastPresentDate();
+	}
 }
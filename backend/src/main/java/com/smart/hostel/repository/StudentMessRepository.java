@@ -1,12 +1,16 @@
 package com.smart.hostel.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.smart.hostel.entity.Student;
 import com.smart.hostel.entity.StudentMess;
@@ -16,8 +20,35 @@ public interface StudentMessRepository extends JpaRepository<StudentMess, Long>
 
 	List<StudentMess> findByStudent(Student student);
 
+	Optional<StudentMess> findFirstByStudentOrderByIdDesc(Student student);
+
 	@Query("SELECT sm FROM StudentMess sm WHERE sm.student = :student AND :date BETWEEN sm.startDate AND sm.endDate")
 	List<StudentMess> findActiveSubscription(@Param("student") Student student,
 			@Param("date") LocalDate date);
-	
+
+	@Query("SELECT sm FROM StudentMess sm WHERE sm.student.studentId IN :studentIds AND :date BETWEEN sm.startDate AND sm.endDate ORDER BY sm.id")
+	List<StudentMess> findActiveSubscriptions(@Param("studentIds") Collection<Long> studentIds,
+			@Param("date") LocalDate date);
+
+	@Query("SELECT sm.student.studentId AS studentId, sm.id AS id, sm.remainingMeals AS remainingMeals FROM StudentMess sm "
+			+ "WHERE :date BETWEEN sm.startDate AND sm.endDate ORDER BY sm.id")
+	List<ActiveSubscription> findActiveSubscriptionSummaries(@Param("date") LocalDate date);
+
+	@Query("SELECT sm.student.studentId AS studentId, sm.id AS id, sm.remainingMeals AS remainingMeals FROM StudentMess sm "
+			+ "WHERE sm.student.studentId = :studentId AND :date BETWEEN sm.startDate AND sm.endDate ORDER BY sm.id")
+	List<ActiveSubscription> findActiveSubscriptionSummaries(@Param("studentId") Long studentId,
+			@Param("date") LocalDate date);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE StudentMess sm SET sm.remainingMeals = sm.remainingMeals - 1 WHERE sm.id = :id AND sm.remainingMeals > 0")
+	int consumeMeal(@Param("id") Long id);
+
+	interface ActiveSubscription {
+		Long getStudentId();
+
+		Long getId();
+
+		Integer getRemainingMeals();
+	}
 }
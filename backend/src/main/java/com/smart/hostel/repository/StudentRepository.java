@@ -1,34 +1,101 @@
 package com.smart.hostel.repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.smart.hostel.entity.HostelBuilding;
+import com.smart.hostel.dto.StudentDTO;
 import com.smart.hostel.entity.Student;
 import com.smart.hostel.entity.StudentStatus;
 import com.smart.hostel.entity.User;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
 
-	List<Student> findByStatus(StudentStatus status);
+	String DTO_SELECT = "SELECT new com.smart.hostel.dto.StudentDTO(s.studentId, u.userId, u.username, s.fullName, "
+			+ "s.gender, s.status, s.building.buildingId, s.walletBalance, s.totalFee, s.paidFee, s.isEmiEnabled, "
+			+ "s.emiAmount, s.roomNumber, s.paymentMethodSelected, u.email, u.phoneNumber) "
+			+ "FROM Student s LEFT JOIN s.user u ";
+
+	@Query(DTO_SELECT + "WHERE s.status = :status AND s.studentId > :afterId ORDER BY s.studentId")
+	List<StudentDTO> findPageByStatus(@Param("status") StudentStatus status, @Param("afterId") Long afterId,
+			Limit limit);
+
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+	@Query(DTO_SELECT + "WHERE s.status = :status ORDER BY s.studentId")
+	Stream<StudentDTO> streamByStatus(@Param("status") StudentStatus status);
 
 	long countByStatus(StudentStatus status);
 
-	List<Student> findByBuilding(HostelBuilding building);
+	@Query(DTO_SELECT + "WHERE s.building.buildingId = :buildingId")
+	List<StudentDTO> findByBuildingId(@Param("buildingId") Long buildingId);
 
 	Optional<Student> findByUser(User user);
 
 	List<Student> findByFullNameContainingIgnoreCase(String name);
 
-	@Query("SELECT s FROM Student s JOIN FETCH s.user WHERE LOWER(s.fullName) LIKE LOWER(CONCAT('%', :query, '%'))")
-	List<Student> searchStudentsWithUser(@Param("query") String query);
+	@Query(DTO_SELECT + "WHERE u.userId IS NOT NULL AND LOWER(s.fullName) LIKE LOWER(CONCAT('%', :query, '%'))")
+	List<StudentDTO> searchStudentsWithUser(@Param("query") String query);
+
+	@Query("SELECT s FROM Student s JOIN FETCH s.user u WHERE u.username IN :usernames")
+	List<Student> findAllByUsernames(@Param("usernames") Collection<String> usernames);
+
+	@Query("SELECT s FROM Student s JOIN FETCH s.user WHERE s.studentId IN :studentIds")
+	List<Student> findAllWithUserByIds(@Param("studentIds") Collection<Long> studentIds);
+
+	@Query("SELECT s.studentId FROM Student s WHERE s.user.username = :username")
+	Optional<Long> findIdByUsername(@Param("username") String username);
+
+	@Query("SELECT s.building.buildingId AS buildingId, COUNT(s) AS total FROM Student s "
+			+ "WHERE s.status = :status AND s.building.buildingId IN :buildingIds GROUP BY s.building.buildingId")
+	List<BuildingCount> countByStatusGroupedByBuilding(@Param("status") StudentStatus status,
+			@Param("buildingIds") Collection<Long> buildingIds);
+
+	@Query("SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.building.buildingId = :buildingId "
+			+ "AND s.status = :status ORDER BY s.roomNumber, s.fullName")
+	List<Student> findResidents(@Param("buildingId") Long buildingId, @Param("status") StudentStatus status);
+
+	@Query("SELECT COUNT(s) FROM Student s WHERE s.building.buildingId = :buildingId AND s.user IS NOT NULL")
+	long countUsersByBuildingId(@Param("buildingId") Long buildingId);
+
+	@Query("SELECT s.user.userId FROM Student s WHERE s.building.buildingId = :buildingId AND s.user.userId > :afterId "
+			+ "ORDER BY s.user.userId")
+	List<Long> findUserIdsByBuildingId(@Param("buildingId") Long buildingId, @Param("afterId") Long afterId,
+			Limit limit);
 
 	@Query("SELECT DISTINCT s.roomNumber FROM Student s JOIN s.building b WHERE b.buildingId = :buildingId AND s.roomNumber IS NOT NULL AND s.status = StudentStatus.APPROVED")
 	List<String> findAllocatedRoomNumbersByBuildingId(@Param("buildingId") Long buildingId);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE Student s SET s.walletBalance = s.walletBalance - :amount "
+			+ "WHERE s.studentId = :studentId AND s.walletBalance >= :amount")
+	int debitWallet(@Param("studentId") Long studentId, @Param("amount") BigDecimal amount);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE Student s SET s.walletBalance = s.walletBalance + :amount WHERE s.studentId = :studentId")
+	int creditWallet(@Param("studentId") Long studentId, @Param("amount") BigDecimal amount);
+
+	@Query("SELECT s.walletBalance FROM Student s WHERE s.studentId = :studentId")
+	BigDecimal findWalletBalance(@Param("studentId") Long studentId);
+
+	interface BuildingCount {
+		Long getBuildingId();
+
+		long getTotal();
+	}
 }
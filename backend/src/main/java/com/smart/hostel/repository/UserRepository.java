@@ -1,9 +1,13 @@
 package com.smart.hostel.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.smart.hostel.entity.User;
@@ -17,7 +21,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
 	List<User> findByRole_RoleName(String roleName);
 
+	long countByRole_RoleName(String roleName);
+
+	@Query("SELECT u.userId FROM User u WHERE u.role.roleName = :roleName AND u.userId > :afterId ORDER BY u.userId")
+	List<Long> findUserIdsByRole(@Param("roleName") String roleName, @Param("afterId") Long afterId, Limit limit);
+
+	@Query("SELECT u.userId AS userId, u.username AS username FROM User u WHERE u.userId IN :userIds")
+	List<UserRef> findRefsByIds(@Param("userIds") Collection<Long> userIds);
+
 	boolean existsByUsername(String username);
 
 	boolean existsByEmail(String email);
+
+	interface UserRef {
+		Long getUserId();
+
+		String getUsername();
+	}
 }
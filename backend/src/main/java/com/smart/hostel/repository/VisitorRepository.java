@@ -2,20 +2,41 @@ package com.smart.hostel.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.smart.hostel.entity.Student;
+import com.smart.hostel.dto.VisitorDTO;
 import com.smart.hostel.entity.Visitor;
 import com.smart.hostel.entity.VisitorStatus;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface VisitorRepository extends JpaRepository<Visitor, Long> {
 
-	List<Visitor> findByStudent(Student student);
+	String DTO_SELECT = "SELECT new com.smart.hostel.dto.VisitorDTO(v.visitorId, s.studentId, s.fullName, "
+			+ "v.visitorName, v.contactNumber, v.purpose, v.status, v.visitDate, v.inTime, v.outTime) "
+			+ "FROM Visitor v JOIN v.student s ";
+
+	@Query(DTO_SELECT + "WHERE s.studentId = :studentId")
+	List<VisitorDTO> findByStudentId(@Param("studentId") Long studentId);
+
+	@Query(DTO_SELECT + "WHERE s.building.buildingId = :buildingId AND v.status = :status")
+	List<VisitorDTO> findByBuildingAndStatus(@Param("buildingId") Long buildingId,
+			@Param("status") VisitorStatus status);
+
+	@Query(DTO_SELECT + "WHERE v.visitorId < :beforeId ORDER BY v.visitorId DESC")
+	List<VisitorDTO> findPageBefore(@Param("beforeId") Long beforeId, Limit limit);
 
-	List<Visitor> findByStudent_Building_BuildingIdAndStatus(Long buildingId, VisitorStatus status);
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+	@Query(DTO_SELECT + "ORDER BY v.visitorId DESC")
+	Stream<VisitorDTO> streamAllNewestFirst();
 
 	long countByStatus(VisitorStatus status);
 
@@ -5,10 +5,14 @@ import java.io.IOException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,7 +24,7 @@ import lombok.AllArgsConstructor;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtUtil jwtUtil;
-	private final CustomUserDetailsService userDetailsService;
+	private final UserDetailsCache userDetailsCache;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -28,34 +32,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		final String requestTokenHeader = request.getHeader("Authorization");
 
-		String username = null;
-		String jwtToken = null;
+		Claims claims = null;
 
 		if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-			jwtToken = requestTokenHeader.substring(7);
 			try {
-				username = jwtUtil.getUsernameFromToken(jwtToken);
-			} catch (IllegalArgumentException e) {
-				logger.warn("Unable to get JWT Token");
-			} catch (io.jsonwebtoken.ExpiredJwtException e) {
+				claims = jwtUtil.parseClaims(requestTokenHeader.substring(7));
+			} catch (ExpiredJwtException e) {
 				logger.warn("JWT Token has expired");
+			} catch (JwtException | IllegalArgumentException e) {
+				logger.warn("Unable to get JWT Token");
 			}
 		}
 
-		if (username == null && request.getParameter("token") != null) {
-			jwtToken = request.getParameter("token");
+		if (claims == null && request.getParameter("token") != null) {
 			try {
-				username = jwtUtil.getUsernameFromToken(jwtToken);
+				claims = jwtUtil.parseClaims(request.getParameter("token"));
 			} catch (Exception e) {
 				logger.warn("Invalid Token in param");
 			}
 		}
 
-		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+		if (claims != null && !jwtUtil.isQrToken(claims)
+				&& SecurityContextHolder.getContext().getAuthentication() == null) {
 
-			UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+			UserDetails userDetails = resolveUser(claims.getSubject(), jwtUtil.getRole(claims));
 
-			if (jwtUtil.validateToken(jwtToken, userDetails)) {
+			if (userDetails != null) {
 
 				UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
 						userDetails, null, userDetails.getAuthorities());
@@ -67,4 +69,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		}
 		chain.doFilter(request, response);
 	}
+
+	private UserDetails resolveUser(String username, String role) {
+		try {
+			UserDetails userDetails = userDetailsCache.get(username);
+			if (role == null || hasRole(userDetails, role)) {
+				return userDetails;
+			}
+			userDetailsCache.evict(username);
+			userDetails = userDetailsCache.get(username);
+			return hasRole(userDetails, role) ? userDetails : null;
+		} catch (UsernameNotFoundException e) {
+			logger.warn("JWT Token refers to an unknown user");
+			return null;
+		}
+	}
+
+	private boolean hasRole(UserDetails userDetails, String role) {
+		return userDetails.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_" + role));
+	}
 }
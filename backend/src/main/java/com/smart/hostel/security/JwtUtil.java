@@ -1,9 +1,12 @@
 package com.smart.hostel.security;
 
 import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -11,6 +14,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -21,11 +25,17 @@ public class JwtUtil {
 
 	private static final long JWT_TOKEN_VALIDITY = 5 * 60 * 60 * 1000;
 
-	private final String secret;
+	public static final Duration QR_TOKEN_VALIDITY = Duration.ofMinutes(10);
+
+	private static final String ROLE_CLAIM = "role";
+
+	private final Key signingKey;
+	private final JwtParser parser;
 
 	public JwtUtil(
 			@Value("${jwt.secret}") String secret) {
-		this.secret = secret;
+		this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+		this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
 	}
 
 	public String getUsernameFromToken(String token) {
@@ -37,54 +47,59 @@ public class JwtUtil {
 	}
 
 	public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-		final Claims claims = getAllClaimsFromToken(token);
+		final Claims claims = parseClaims(token);
 		return claimsResolver.apply(claims);
 	}
 
-	private Claims getAllClaimsFromToken(String token) {
-		return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
+	public Claims parseClaims(String token) {
+		return parser.parseClaimsJws(token).getBody();
+	}
+
+	public String getRole(Claims claims) {
+		return claims.get(ROLE_CLAIM, String.class);
 	}
 
-	private Boolean isTokenExpired(String token) {
-		final Date expiration = getExpirationDateFromToken(token);
-		return expiration.before(new Date());
+	public boolean isQrToken(Claims claims) {
+		return "qr_attendance".equals(claims.get("type", String.class));
 	}
 
 	public String generateToken(UserDetails userDetails) {
 		Map<String, Object> claims = new HashMap<>();
+		userDetails.getAuthorities().stream().findFirst()
+				.ifPresent(a -> claims.put(ROLE_CLAIM, a.getAuthority().replace("ROLE_", "")));
 		return doGenerateToken(claims, userDetails.getUsername());
 	}
 
 	private String doGenerateToken(Map<String, Object> claims, String subject) {
 		return Jwts.builder().setClaims(claims).setSubject(subject).setIssuedAt(new Date(System.currentTimeMillis()))
 				.setExpiration(new Date(System.currentTimeMillis() + JWT_TOKEN_VALIDITY))
-				.signWith(getSigningKey(), SignatureAlgorithm.HS256).compact();
+				.signWith(signingKey, SignatureAlgorithm.HS256).compact();
 	}
 
 	public String generateQrToken(String username) {
+		return generateQrToken(username, Instant.now());
+	}
+
+	public String generateQrToken(String username, Instant issuedAt) {
 		Map<String, Object> claims = new HashMap<>();
 		claims.put("type", "qr_attendance");
-		return Jwts.builder().setClaims(claims).setSubject(username).setIssuedAt(new Date(System.currentTimeMillis()))
-				.setExpiration(new Date(System.currentTimeMillis() + 10 * 60 * 1000))
-				.signWith(getSigningKey(), SignatureAlgorithm.HS256).compact();
+		return Jwts.builder().setClaims(claims).setSubject(username)
+				.setId(Integer.toHexString(ThreadLocalRandom.current().nextInt())).setIssuedAt(Date.from(issuedAt))
+				.setExpiration(Date.from(issuedAt.plus(QR_TOKEN_VALIDITY)))
+				.signWith(signingKey, SignatureAlgorithm.HS256).compact();
 	}
 
 	public Boolean validateToken(String token, UserDetails userDetails) {
-		final String username = getUsernameFromToken(token);
-		return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+		final Claims claims = parseClaims(token);
+		return (claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date()));
 	}
 
 	public Boolean validateQrToken(String token) {
 		try {
-			return !isTokenExpired(token)
-					&& "qr_attendance".equals(getClaimFromToken(token, c -> c.get("type", String.class)));
+			final Claims claims = parseClaims(token);
+			return !claims.getExpiration().before(new Date()) && isQrToken(claims);
 		} catch (Exception e) {
 			return false;
 		}
 	}
-
-	private Key getSigningKey() {
-		byte[] keyBytes = Decoders.BASE64.decode(secret);
-		return Keys.hmacShaKeyFor(keyBytes);
-	}
 }
@@ -0,0 +1,271 @@
+package com.smart.hostel.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.smart.hostel.dto.QrPassKeyDTO;
+
+/**
+ * Compact attendance pass: {@code HQ1:} followed by the Base45 (RFC 9285) encoding of a 17 byte payload (version,
+ * student id, expiry in epoch seconds, nonce) and its 64 byte Ed25519 signature. Base45 keeps the whole pass in the QR
+ * alphanumeric mode, so the code stays at a low version and scans quickly.
+ */
+@Component
+public class QrPassCodec {
+
+	public static final String PREFIX = "HQ1:";
+	public static final String ALGORITHM = "Ed25519";
+
+	private static final byte VERSION = 1;
+	private static final int PAYLOAD_LENGTH = 17;
+	private static final int SIGNATURE_LENGTH = 64;
+	private static final int PASS_LENGTH = PAYLOAD_LENGTH + SIGNATURE_LENGTH;
+	private static final String BASE45 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ $%*+-./:";
+	private static final byte[] BASE45_VALUES = new byte[128];
+
+	static {
+		Arrays.fill(BASE45_VALUES, (byte) -1);
+		for (int i = 0; i < BASE45.length(); i++) {
+			BASE45_VALUES[BASE45.charAt(i)] = (byte) i;
+		}
+	}
+
+	private final PrivateKey privateKey;
+	private final PublicKey publicKey;
+	private final String keyId;
+	private final SecureRandom random = new SecureRandom();
+	private final ThreadLocal<Signature> signers;
+	private final ThreadLocal<Signature> verifiers;
+
+	public QrPassCodec(@Value("${app.qr.pass.private-key:}") String privateKey,
+			@Value("${app.qr.pass.public-key:}") String publicKey) {
+		KeyPair keys = keyPair(privateKey, publicKey);
+		this.privateKey = keys != null ? keys.getPrivate() : null;
+		this.publicKey = keys != null ? keys.getPublic() : null;
+		this.keyId = keys != null ? keyId(this.publicKey) : null;
+		this.signers = ThreadLocal.withInitial(() -> signature(s -> s.initSign(this.privateKey)));
+		this.verifiers = ThreadLocal.withInitial(() -> signature(s -> s.initVerify(this.publicKey)));
+	}
+
+	/**
+	 * Whether a key pair is configured. Without one, passes can be neither issued nor verified.
+	 */
+	public boolean isConfigured() {
+		return publicKey != null;
+	}
+
+	public static boolean isCompact(String token) {
+		return token != null && token.startsWith(PREFIX);
+	}
+
+	public String issue(long studentId, Instant expiresAt) {
+		if (!isConfigured()) {
+			throw new IllegalStateException("app.qr.pass keys are not configured");
+		}
+		byte[] pass = new byte[PASS_LENGTH];
+		pass[0] = VERSION;
+		putLong(pass, 1, studentId);
+		putInt(pass, 9, (int) expiresAt.getEpochSecond());
+		putInt(pass, 13, random.nextInt());
+		try {
+			Signature signer = signers.get();
+			signer.update(pass, 0, PAYLOAD_LENGTH);
+			signer.sign(pass, PAYLOAD_LENGTH, SIGNATURE_LENGTH);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Could not sign QR pass", e);
+		}
+		return PREFIX + encode(pass);
+	}
+
+	/**
+	 * Returns the pass, or {@code null} when the token is malformed, expired, not signed by this key or no key is
+	 * configured.
+	 */
+	public QrPass verify(String token, Instant now) {
+		if (!isConfigured() || !isCompact(token)) {
+			return null;
+		}
+		byte[] pass = decode(token, PREFIX.length());
+		if (pass == null || pass.length != PASS_LENGTH || pass[0] != VERSION) {
+			return null;
+		}
+		long expiresAt = getInt(pass, 9) & 0xFFFFFFFFL;
+		if (expiresAt < now.getEpochSecond()) {
+			return null;
+		}
+		try {
+			Signature verifier = verifiers.get();
+			verifier.update(pass, 0, PAYLOAD_LENGTH);
+			if (!verifier.verify(pass, PAYLOAD_LENGTH, SIGNATURE_LENGTH)) {
+				return null;
+			}
+		} catch (GeneralSecurityException e) {
+			return null;
+		}
+		return new QrPass(getLong(pass, 1), Instant.ofEpochSecond(expiresAt), getInt(pass, 13));
+	}
+
+	public QrPassKeyDTO publicKey() {
+		return new QrPassKeyDTO(ALGORITHM, keyId, PREFIX,
+				Base64.getEncoder().encodeToString(publicKey.getEncoded()));
+	}
+
+	public record QrPass(long studentId, Instant expiresAt, int nonce) {
+	}
+
+	static String encode(byte[] bytes) {
+		StringBuilder out = new StringBuilder((bytes.length / 2) * 3 + 2);
+		for (int i = 0; i + 1 < bytes.length; i += 2) {
+			int n = ((bytes[i] & 0xFF) << 8) | (bytes[i + 1] & 0xFF);
+			out.append(BASE45.charAt(n % 45)).append(BASE45.charAt(n / 45 % 45)).append(BASE45.charAt(n / 2025));
+		}
+		if (bytes.length % 2 == 1) {
+			int n = bytes[bytes.length - 1] & 0xFF;
+			out.append(BASE45.charAt(n % 45)).append(BASE45.charAt(n / 45));
+		}
+		return out.toString();
+	}
+
+	static byte[] decode(String text, int offset) {
+		int length = text.length() - offset;
+		if (length % 3 == 1) {
+			return null;
+		}
+		byte[] out = new byte[length / 3 * 2 + (length % 3 == 2 ? 1 : 0)];
+		int o = 0;
+		for (int i = offset; i < text.length(); i += 3) {
+			int c = value(text.charAt(i));
+			int d = value(text.charAt(i + 1));
+			if (c < 0 || d < 0) {
+				return null;
+			}
+			if (i + 2 < text.length()) {
+				int e = value(text.charAt(i + 2));
+				int n = c + d * 45 + e * 2025;
+				if (e < 0 || n > 0xFFFF) {
+					return null;
+				}
+				out[o++] = (byte) (n >> 8);
+				out[o++] = (byte) n;
+			} else {
+				int n = c + d * 45;
+				if (n > 0xFF) {
+					return null;
+				}
+				out[o++] = (byte) n;
+			}
+		}
+		return out;
+	}
+
+	private static int value(char c) {
+		return c < 128 ? BASE45_VALUES[c] : -1;
+	}
+
+	private static void putLong(byte[] b, int at, long v) {
+		for (int i = 7; i >= 0; i--) {
+			b[at + i] = (byte) v;
+			v >>>= 8;
+		}
+	}
+
+	private static void putInt(byte[] b, int at, int v) {
+		for (int i = 3; i >= 0; i--) {
+			b[at + i] = (byte) v;
+			v >>>= 8;
+		}
+	}
+
+	private static long getLong(byte[] b, int at) {
+		long v = 0;
+		for (int i = 0; i < 8; i++) {
+			v = (v << 8) | (b[at + i] & 0xFF);
+		}
+		return v;
+	}
+
+	private static int getInt(byte[] b, int at) {
+		int v = 0;
+		for (int i = 0; i < 4; i++) {
+			v = (v << 8) | (b[at + i] & 0xFF);
+		}
+		return v;
+	}
+
+	private static KeyPair keyPair(String privateKey, String publicKey) {
+		try {
+			if (privateKey.isBlank() && publicKey.isBlank()) {
+				return null;
+			}
+			if (privateKey.isBlank() || publicKey.isBlank()) {
+				throw new IllegalStateException("Both app.qr.pass.private-key and app.qr.pass.public-key must be set");
+			}
+			KeyFactory factory = KeyFactory.getInstance(ALGORITHM);
+			KeyPair keys = new KeyPair(
+					factory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey.trim()))),
+					factory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKey.trim()))));
+			requireMatching(keys);
+			return keys;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Invalid app.qr.pass key pair", e);
+		}
+	}
+
+	/**
+	 * Signs a fixed probe with the private key and checks it against the public key, so a mismatched pair fails at
+	 * startup instead of every issued pass being rejected.
+	 */
+	private static void requireMatching(KeyPair keys) throws GeneralSecurityException {
+		byte[] probe = PREFIX.getBytes(StandardCharsets.US_ASCII);
+		Signature signer = Signature.getInstance(ALGORITHM);
+		signer.initSign(keys.getPrivate());
+		signer.update(probe);
+		byte[] signed = signer.sign();
+		Signature verifier = Signature.getInstance(ALGORITHM);
+		verifier.initVerify(keys.getPublic());
+		verifier.update(probe);
+		if (!verifier.verify(signed)) {
+			throw new IllegalStateException("app.qr.pass.private-key does not match app.qr.pass.public-key");
+		}
+	}
+
+	private static String keyId(PublicKey key) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+			return HexFormat.of().formatHex(digest, 0, 8);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Signature signature(SignatureInit init) {
+		try {
+			Signature signature = Signature.getInstance(ALGORITHM);
+			init.apply(signature);
+			return signature;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Ed25519 is not available", e);
+		}
+	}
+
+	@FunctionalInterface
+	private interface SignatureInit {
+		void apply(Signature signature) throws GeneralSecurityException;
+	}
+}
@@ -0,0 +1,155 @@
+package com.smart.hostel.security;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Token-bucket admission control. Every request is charged against a bucket for its caller (user, or remote address
+ * when anonymous) and a shared bucket for its endpoint group, so one noisy client is cut off first and a storm across
+ * many clients is capped before it reaches the thread and connection pools. QR scans, authentication and everything
+ * else have separate budgets.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private static final String QR_PATH = "/api/v1/attendance/qr";
+	private static final String AUTH_PATH = "/api/v1/auth/";
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private final boolean enabled;
+	private final Limit qr;
+	private final Limit login;
+	private final Limit other;
+	private final LongSupplier clock;
+
+	@Autowired
+	public RateLimitFilter(MeterRegistry meterRegistry, @Value("${app.rate-limit.enabled:true}") boolean enabled,
+			@Value("${app.rate-limit.clients.max-size:50000}") long maxClients,
+			@Value("${app.rate-limit.qr.client-per-second:10}") double qrClientRate,
+			@Value("${app.rate-limit.qr.client-burst:20}") double qrClientBurst,
+			@Value("${app.rate-limit.qr.endpoint-per-second:200}") double qrEndpointRate,
+			@Value("${app.rate-limit.login.client-per-second:1}") double loginClientRate,
+			@Value("${app.rate-limit.login.client-burst:10}") double loginClientBurst,
+			@Value("${app.rate-limit.login.endpoint-per-second:50}") double loginEndpointRate,
+			@Value("${app.rate-limit.default.client-per-second:50}") double clientRate,
+			@Value("${app.rate-limit.default.client-burst:100}") double clientBurst,
+			@Value("${app.rate-limit.default.endpoint-per-second:1000}") double endpointRate) {
+		this(meterRegistry, enabled, maxClients, System::nanoTime,
+				new Budget(qrClientRate, qrClientBurst, qrEndpointRate),
+				new Budget(loginClientRate, loginClientBurst, loginEndpointRate),
+				new Budget(clientRate, clientBurst, endpointRate));
+	}
+
+	RateLimitFilter(MeterRegistry meterRegistry, boolean enabled, long maxClients, LongSupplier clock, Budget qr,
+			Budget login, Budget other) {
+		this.enabled = enabled;
+		this.clock = clock;
+		long now = clock.getAsLong();
+		this.qr = new Limit("qr", qr, maxClients, meterRegistry, now);
+		this.login = new Limit("login", login, maxClients, meterRegistry, now);
+		this.other = new Limit("default", other, maxClients, meterRegistry, now);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		long wait = limitFor(request).acquire(clientOf(request), clock.getAsLong());
+		if (wait == 0) {
+			chain.doFilter(request, response);
+			return;
+		}
+		long retryAfter = Math.max(1, (wait + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+		response.setContentType("application/json");
+		response.getWriter().write("{\"error\": \"Too Many Requests\", \"message\": \"Retry after " + retryAfter
+				+ " second(s)\"}");
+	}
+
+	private Limit limitFor(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		if (path.startsWith(QR_PATH)) {
+			return qr;
+		}
+		return path.startsWith(AUTH_PATH) ? login : other;
+	}
+
+	private static String clientOf(HttpServletRequest request) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.isAuthenticated()
+				&& !(authentication instanceof AnonymousAuthenticationToken)) {
+			return "user:" + authentication.getName();
+		}
+		return "ip:" + request.getRemoteAddr();
+	}
+
+	record Budget(double clientRate, double clientBurst, double endpointRate) {
+	}
+
+	private static final class Limit {
+
+		private final double clientRate;
+		private final double clientBurst;
+		private final Cache<String, TokenBucket> clients;
+		private final TokenBucket endpoint;
+		private final Counter clientRejections;
+		private final Counter endpointRejections;
+
+		private Limit(String name, Budget budget, long maxClients, MeterRegistry meterRegistry, long now) {
+			this.clientRate = budget.clientRate();
+			this.clientBurst = budget.clientBurst();
+			this.clients = Caffeine.newBuilder().maximumSize(maxClients)
+					.expireAfterAccess(Duration.ofSeconds((long) Math.ceil(clientBurst / clientRate) + 60)).build();
+			this.endpoint = new TokenBucket(budget.endpointRate(), budget.endpointRate(), now);
+			this.clientRejections = rejections(meterRegistry, name, "client");
+			this.endpointRejections = rejections(meterRegistry, name, "endpoint");
+		}
+
+		long acquire(String client, long now) {
+			TokenBucket bucket = clients.get(client, k -> new TokenBucket(clientBurst, clientRate, now));
+			long wait = bucket.tryAcquire(now);
+			if (wait > 0) {
+				clientRejections.increment();
+				return wait;
+			}
+			wait = endpoint.tryAcquire(now);
+			if (wait > 0) {
+				bucket.refund();
+				endpointRejections.increment();
+			}
+			return wait;
+		}
+
+		private static Counter rejections(MeterRegistry meterRegistry, String limit, String scope) {
+			return Counter.builder("http.server.requests.throttled")
+					.description("Requests rejected with 429 by the rate limiter").tag("limit", limit)
+					.tag("scope", scope).register(meterRegistry);
+		}
+	}
+}
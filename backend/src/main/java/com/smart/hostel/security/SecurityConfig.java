@@ -1,6 +1,7 @@
 package com.smart.hostel.security;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -19,6 +20,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 public class SecurityConfig {
 
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
+	private final RateLimitFilter rateLimitFilter;
 
 	@Value("${app.frontend.url}")
 	private String frontendUrl;
@@ -39,10 +42,11 @@ public class SecurityConfig {
 	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 		http.csrf(csrf -> csrf.disable()).cors(cors -> cors.configurationSource(corsConfigurationSource())).httpBasic(
 				basic -> basic.disable()).formLogin(form -> form.disable()).authorizeHttpRequests(
-						auth -> auth
+						auth -> auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 								.requestMatchers("/api/v1/auth/**", "/ws/**", "/error", "/v3/api-docs/**",
 										"/swagger-ui/**", "/swagger-ui.html")
-								.permitAll().requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+								.permitAll().requestMatchers("/actuator/**").hasRole("ADMIN")
+								.requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
 								.requestMatchers("/api/v1/admin/wardens/unassigned").hasRole("ADMIN")
 								.requestMatchers("/api/v1/admin/buildings/unassigned").hasRole("ADMIN")
 								.requestMatchers("/api/v1/students/search").hasAnyRole("WARDEN", "ADMIN", "GUARD")
@@ -50,7 +54,7 @@ public class SecurityConfig {
 								.requestMatchers("/api/v1/students/*/approve/**").hasAnyRole("WARDEN", "ADMIN")
 								.requestMatchers("/api/v1/students/*/reject").hasAnyRole("WARDEN", "ADMIN")
 								.requestMatchers("/api/v1/students/**").hasAnyRole("STUDENT", "WARDEN", "ADMIN")
-								.requestMatchers("/api/v1/notifications/broadcast").hasAnyRole("WARDEN", "ADMIN")
+								.requestMatchers("/api/v1/notifications/broadcast/**").hasAnyRole("WARDEN", "ADMIN")
 								.requestMatchers("/api/v1/notifications/**").authenticated()
 								.requestMatchers("/api/v1/warden/**").hasAnyRole("WARDEN", "ADMIN")
 								.requestMatchers("/api/v1/complaints/**")
@@ -80,7 +84,8 @@ public class SecurityConfig {
 					response.getWriter().write(
 							"{\"error\": \"Unauthorized\", \"message\": \"" + authException.getMessage() + "\"}");
 				})).sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+				.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
 		return http.build();
 	}
@@ -101,6 +106,7 @@ public class SecurityConfig {
 		configuration.setAllowedOrigins(Arrays.asList(frontendUrl));
 		configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
 		configuration.setAllowedHeaders(Arrays.asList("*"));
+		configuration.setExposedHeaders(List.of("X-Next-Cursor", "Idempotent-Replayed", "Retry-After"));
 		configuration.setAllowCredentials(true);
 
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
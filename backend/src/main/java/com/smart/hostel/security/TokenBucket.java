@@ -0,0 +1,36 @@
+package com.smart.hostel.security;
+
+final class TokenBucket {
+
+	private final double capacity;
+	private final double tokensPerNano;
+	private double tokens;
+	private long updatedAt;
+
+	TokenBucket(double capacity, double tokensPerSecond, long now) {
+		this.capacity = capacity;
+		this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+		this.tokens = capacity;
+		this.updatedAt = now;
+	}
+
+	/**
+	 * Takes one token if available. Returns 0 when admitted, otherwise the number of nanoseconds until a token will be
+	 * available.
+	 */
+	synchronized long tryAcquire(long now) {
+		if (now > updatedAt) {
+			tokens = Math.min(capacity, tokens + (now - updatedAt) * tokensPerNano);
+			updatedAt = now;
+		}
+		if (tokens >= 1) {
+			tokens -= 1;
+			return 0;
+		}
+		return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+	}
+
+	synchronized void refund() {
+		tokens = Math.min(capacity, tokens + 1);
+	}
+}
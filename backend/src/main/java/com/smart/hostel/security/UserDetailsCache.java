@@ -0,0 +1,51 @@
+package com.smart.hostel.security;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Component
+public class UserDetailsCache {
+
+	private final CustomUserDetailsService userDetailsService;
+	private final Cache<String, UserDetails> cache;
+
+	public UserDetailsCache(CustomUserDetailsService userDetailsService,
+			@Value("${app.security.user-cache.max-size:10000}") long maxSize,
+			@Value("${app.security.user-cache.ttl-seconds:300}") long ttlSeconds) {
+		this.userDetailsService = userDetailsService;
+		this.cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.build();
+	}
+
+	public UserDetails get(String username) {
+		return cache.get(username, this::load);
+	}
+
+	public void evict(String username) {
+		cache.invalidate(username);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					cache.invalidate(username);
+				}
+			});
+		}
+	}
+
+	private UserDetails load(String username) {
+		UserDetails details = userDetailsService.loadUserByUsername(username);
+		return User.withUsername(details.getUsername()).password("").authorities(details.getAuthorities())
+				.accountExpired(!details.isAccountNonExpired()).accountLocked(!details.isAccountNonLocked())
+				.credentialsExpired(!details.isCredentialsNonExpired()).disabled(!details.isEnabled()).build();
+	}
+}
@@ -29,6 +29,7 @@ import com.smart.hostel.repository.StaffBuildingMapRepository;
 import com.smart.hostel.repository.StaffRepository;
 import com.smart.hostel.repository.StudentRepository;
 import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.security.UserDetailsCache;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,6 +47,7 @@ public class AdminServiceImpl implements AdminService {
 	private final UserRepository userRepository;
 	private final RoleRepository roleRepository;
 	private final StaffBuildingMapRepository staffBuildingMapRepository;
+	private final UserDetailsCache userDetailsCache;
 
 	@Override
 	public AdminDashboardStatsDTO getDashboardStats() {
@@ -184,6 +186,7 @@ public class AdminServiceImpl implements AdminService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<StaffDTO> getAllStaff() {
 		return staffRepository.findAll().stream().map(this::mapToStaffDTO).toList();
 	}
@@ -234,5 +237,6 @@ public class AdminServiceImpl implements AdminService {
 		User user = userRepository.findByUsername(username)
 				.orElseThrow(() -> new ResourceNotFoundException("User not found"));
 		userRepository.delete(user);
+		userDetailsCache.evict(username);
 	}
 }
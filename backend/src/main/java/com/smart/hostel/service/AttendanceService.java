@@ -2,6 +2,7 @@ package com.smart.hostel.service;
 
 import java.util.List;
 
+import com.smart.hostel.dto.QrScanResultDTO;
 import com.smart.hostel.dto.StaffAttendanceDTO;
 import com.smart.hostel.dto.StaffAttendanceStatusDTO;
 import com.smart.hostel.dto.StudentAttendanceDTO;
@@ -15,6 +16,8 @@ public interface AttendanceService {
 
 	StudentAttendanceDTO markStudentAttendanceByQR(String qrToken, AttendanceType type);
 
+	List<QrScanResultDTO> markStudentAttendanceByQRBatch(List<String> qrTokens, AttendanceType type);
+
 	StudentAttendanceDTO markStudentAttendanceByUsername(String username, StudentAttendanceDTO dto);
 
 	List<StudentAttendanceDTO> getStudentAttendance(String username);
@@ -1,26 +1,19 @@
 package com.smart.hostel.service;
 
-import java.time.LocalDate;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.smart.hostel.exception.UnauthorizedException;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.smart.hostel.dto.QrPassSubject;
+import com.smart.hostel.dto.QrScanResultDTO;
 import com.smart.hostel.dto.StaffAttendanceDTO;
 import com.smart.hostel.dto.StaffAttendanceStatusDTO;
-import com.smart.hostel.dto.StaffDTO;
 import com.smart.hostel.dto.StudentAttendanceDTO;
 import com.smart.hostel.entity.AttendanceType;
-import com.smart.hostel.entity.HostelAction;
 import com.smart.hostel.entity.Staff;
-import com.smart.hostel.entity.StaffAttendance;
-import com.smart.hostel.entity.StaffBuildingMap;
-import com.smart.hostel.entity.StaffType;
 import com.smart.hostel.entity.Student;
 import com.smart.hostel.entity.User;
 import com.smart.hostel.exception.InvalidQRTokenException;
@@ -28,12 +21,13 @@ import com.smart.hostel.exception.StaffNotFoundException;
 import com.smart.hostel.exception.StudentNotFoundException;
 import com.smart.hostel.exception.UnsupportedAttendanceTypeException;
 import com.smart.hostel.exception.UserNotFoundException;
-import com.smart.hostel.repository.StaffAttendanceRepository;
-import com.smart.hostel.repository.StaffBuildingMapRepository;
 import com.smart.hostel.repository.StaffRepository;
 import com.smart.hostel.repository.StudentRepository;
 import com.smart.hostel.repository.UserRepository;
 import com.smart.hostel.service.attendance.AttendanceStrategy;
+import com.smart.hostel.service.attendance.QrBatchAttendanceProcessor;
+import com.smart.hostel.service.attendance.QrReplayGuard;
+import com.smart.hostel.service.attendance.StaffRosterBuilder;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -49,9 +43,10 @@ public class AttendanceServiceImpl implements AttendanceService {
 	private final StudentRepository studentRepository;
 	private final UserRepository userRepository;
 	private final StaffRepository staffRepository;
-	private final StaffBuildingMapRepository staffBuildingMapRepository;
-	private final StaffAttendanceRepository staffAttendanceRepository;
 	private final List<AttendanceStrategy> attendanceStrategies;
+	private final QrBatchAttendanceProcessor qrBatchAttendanceProcessor;
+	private final StaffRosterBuilder staffRosterBuilder;
+	private final QrReplayGuard qrReplayGuard;
 
 	@Override
 	public StudentAttendanceDTO markStudentAttendance(StudentAttendanceDTO dto) {
@@ -59,6 +54,7 @@ public class AttendanceServiceImpl implements AttendanceService {
 	}
 
 	@Override
+	@Transactional
 	public StaffAttendanceDTO markStaffAttendance(StaffAttendanceDTO dto, String requesterUsername) {
 		User currentUser = userRepository.findByUsername(requesterUsername)
 				.orElseThrow(() -> new UserNotFoundException("Current user not found"));
@@ -84,22 +80,47 @@ public class AttendanceServiceImpl implements AttendanceService {
 
 	@Override
 	public StudentAttendanceDTO markStudentAttendanceByQR(String qrToken, AttendanceType type) {
-		if (!qrCodeService.validateQrToken(qrToken)) {
+		QrPassSubject subject = qrCodeService.resolve(qrToken);
+		if (subject == null) {
 			log.error("expired token: {}", qrToken);
 			throw new InvalidQRTokenException(
 					"QR code is invalid or has expired. Please refresh the QR code on the student device.");
 		}
-		String username = qrCodeService.getUsernameFromQrToken(qrToken);
-
-		User user = userRepository.findByUsername(username)
-				.orElseThrow(() -> new UserNotFoundException("User not found"));
+		if (!qrReplayGuard.firstUse(subject)) {
+			throw new InvalidQRTokenException(
+					"QR code has already been used. Please refresh the QR code on the student device.");
+		}
+		qrReplayGuard.releaseOnRollback(List.of(subject));
+
+		try {
+			Student student;
+			String username;
+			if (subject.studentId() != null) {
+				student = studentRepository.findAllWithUserByIds(List.of(subject.studentId())).stream().findFirst()
+						.orElseThrow(() -> new StudentNotFoundException("Student not found"));
+				username = student.getUser().getUsername();
+			} else {
+				User user = userRepository.findByUsername(subject.username())
+						.orElseThrow(() -> new UserNotFoundException("User not found"));
+				student = studentRepository.findByUser(user)
+						.orElseThrow(() -> new StudentNotFoundException("Student not found"));
+				username = user.getUsername();
+			}
 
-		Student student = studentRepository.findByUser(user)
-				.orElseThrow(() -> new StudentNotFoundException("Student not found"));
+			StudentAttendanceDTO marked = attendanceStrategies.stream().filter(s -> s.supports(type)).findFirst()
+					.orElseThrow(() -> new UnsupportedAttendanceTypeException("Unsupported attendance type: " + type))
+					.mark(student, type);
+			qrCodeService.evict(username);
+			return marked;
+		} catch (RuntimeException e) {
+			qrReplayGuard.release(subject);
+			throw e;
+		}
+	}
 
-		return attendanceStrategies.stream().filter(s -> s.supports(type)).findFirst()
-				.orElseThrow(() -> new UnsupportedAttendanceTypeException("Unsupported attendance type: " + type))
-				.mark(student, type);
+	@Override
+	public List<QrScanResultDTO> markStudentAttendanceByQRBatch(List<String> qrTokens, AttendanceType type) {
+		return qrBatchAttendanceProcessor.process(qrTokens, type);
 	}
 
 	public StudentAttendanceDTO markStudentAttendanceByUsername(String username, StudentAttendanceDTO dto) {
@@ -126,87 +147,11 @@ public class AttendanceServiceImpl implements AttendanceService {
 			throw new StudentNotFoundException("Student profile not found");
 		}
 
-		return studentAttendanceService.getByStudentId(student.getStudentId()).stream()
-				.map(a -> new StudentAttendanceDTO(a.getAttendanceId(), a.getStudent().getStudentId(),
-						a.getStudent().getBuilding() != null ? a.getStudent().getBuilding().getBuildingId() : null,
-						a.getAttendanceType(), a.getHostelAction(), a.getMealType(), a.getAttendanceDate(),
-						a.getAttendanceTime(), a.getCreatedAt() != null ? a.getCreatedAt().toLocalDate() : null))
-				.toList();
+		return studentAttendanceService.getByStudentId(student.getStudentId());
 	}
 
 	@Override
 	public List<StaffAttendanceStatusDTO> getMarkableStaff(String username) {
-		User currentUser = userRepository.findByUsername(username)
-				.orElseThrow(() -> new UserNotFoundException("User not found"));
-		String role = currentUser.getRole().getRoleName();
-
-		Set<Staff> staffSet = new HashSet<>();
-		if (role.equals("ADMIN")) {
-			staffSet.addAll(staffRepository.findAll());
-		} else if (role.equals("WARDEN")) {
-			staffSet.addAll(getStaffForWarden(currentUser));
-		}
-
-		return staffSet.stream().map(s -> mapToStaffAttendanceStatusDTO(s, currentUser)).collect(Collectors.toList());
-	}
-
-	private Set<Staff> getStaffForWarden(User wardenUser) {
-		Staff warden = staffRepository.findByUser(wardenUser)
-				.orElseThrow(() -> new StaffNotFoundException("Staff profile not found"));
-		Set<Staff> staffSet = new HashSet<>();
-
-		staffBuildingMapRepository.findByStaff(warden).stream().map(m -> m.getBuilding())
-				.flatMap(b -> staffBuildingMapRepository.findByBuilding(b).stream()).map(m -> m.getStaff())
-				.filter(s -> s.getStaffType() != StaffType.WARDEN || s.getStaffId().equals(warden.getStaffId()))
-				.forEach(staffSet::add);
-
-		if (Boolean.TRUE.equals(warden.getManagesMess())) {
-			staffSet.addAll(staffRepository.findByStaffType(StaffType.MESS));
-		}
-
-		List<Staff> allStaff = staffRepository.findAll();
-		for (Staff staff : allStaff) {
-			if (staff.getStaffType() == StaffType.WARDEN && !staff.getStaffId().equals(warden.getStaffId())) {
-				continue;
-			}
-
-			List<StaffBuildingMap> staffBuildings = staffBuildingMapRepository.findByStaff(staff);
-			if (staffBuildings.isEmpty() && staff.getStaffType() != StaffType.WARDEN) {
-				staffSet.add(staff);
-			}
-		}
-
-		return staffSet;
-	}
-
-	private StaffAttendanceStatusDTO mapToStaffAttendanceStatusDTO(Staff staff, User currentUser) {
-		List<StaffAttendance> todayAttendance = staffAttendanceRepository.findByStaffAndAttendanceDate(staff,
-				LocalDate.now());
-
-		boolean isMarkedIn = todayAttendance.stream().anyMatch(a -> a.getAction() == HostelAction.IN);
-		boolean isMarkedOut = todayAttendance.stream().anyMatch(a -> a.getAction() == HostelAction.OUT);
-
-		Long buildingId = determineBuildingIdForStaff(staff, currentUser);
-
-		StaffDTO sDto = new StaffDTO(staff.getStaffId(), staff.getUser() != null ? staff.getUser().getUserId() : null,
-				staff.getFullName(), staff.getStaffType(),
-				buildingId != null ? Collections.singletonList(buildingId) : null, staff.getManagesMess(), null);
-
-		return new StaffAttendanceStatusDTO(sDto, isMarkedIn, isMarkedOut);
-	}
-
-	private Long determineBuildingIdForStaff(Staff staff, User currentUser) {
-		Staff currentStaff = staffRepository.findByUser(currentUser).orElse(null);
-		if (currentStaff != null) {
-			List<Long> wardenBuildingIds = staffBuildingMapRepository.findByStaff(currentStaff).stream()
-					.map(m -> m.getBuilding().getBuildingId()).toList();
-
-			return staffBuildingMapRepository.findByStaff(staff).stream().map(m -> m.getBuilding().getBuildingId())
-					.filter(wardenBuildingIds::contains).findFirst()
-					.orElse(staffBuildingMapRepository.findByStaff(staff).stream()
-							.map(m -> m.getBuilding().getBuildingId()).findFirst().orElse(null));
-		}
-		return staffBuildingMapRepository.findByStaff(staff).stream().map(m -> m.getBuilding().getBuildingId())
-				.findFirst().orElse(null);
+		return staffRosterBuilder.build(username);
 	}
 }
@@ -14,9 +14,12 @@ import com.smart.hostel.dto.AuthResponse;
 import com.smart.hostel.dto.NotificationDTO;
 import com.smart.hostel.dto.RegistrationRequest;
 import com.smart.hostel.dto.UserDTO;
+import com.smart.hostel.entity.HostelBuilding;
 import com.smart.hostel.entity.Staff;
+import com.smart.hostel.entity.Student;
 import com.smart.hostel.entity.User;
 import com.smart.hostel.repository.StaffRepository;
+import com.smart.hostel.repository.StudentRepository;
 import com.smart.hostel.security.JwtUtil;
 
 import lombok.AllArgsConstructor;
@@ -33,6 +36,7 @@ public class AuthServiceImpl implements AuthService {
     private final StudentService studentService;
     private final NotificationService notificationService;
     private final StaffRepository staffRepository;
+    private final StudentRepository studentRepository;
 
     @Override
     public AuthResponse login(AuthRequest request) {
@@ -52,8 +56,16 @@ public class AuthServiceImpl implements AuthService {
             managesMess = staffRepository.findByUser(user).map(Staff::getManagesMess).orElse(false);
         }
 
+        Long buildingId = null;
+        if ("STUDENT".equals(role)) {
+            User user = new User();
+            user.setUserId(userDto.userId());
+            buildingId = studentRepository.findByUser(user).map(Student::getBuilding)
+                    .map(HostelBuilding::getBuildingId).orElse(null);
+        }
+
         return new AuthResponse(token, userDetails.getUsername(), role, userDto.userId(), userDto.roleId(),
-                managesMess);
+                managesMess, buildingId);
     }
 
     @Override
@@ -78,7 +90,7 @@ public class AuthServiceImpl implements AuthService {
                 for (UserDTO warden : wardens) {
                     NotificationDTO notif = new NotificationDTO(null, warden.userId(), "New Student Registration",
                             "New Student Registration: " + request.fullName(), false, null);
-                    notificationService.send(notif);
+                    notificationService.enqueue(notif);
                 }
             } catch (Exception e) {
                 log.error("Failed to send registration notifications for user {}: {}", request.username(),
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.smart.hostel.dto.ComplaintActionDTO;
 import com.smart.hostel.dto.NotificationDTO;
@@ -30,6 +31,7 @@ public class ComplaintActionServiceImpl implements ComplaintActionService {
 	private final NotificationService notificationService;
 
 	@Override
+	@Transactional
 	public ComplaintActionDTO takeAction(ComplaintActionDTO dto) {
 		Complaint complaint = complaintRepository.findById(dto.complaintId())
 				.orElseThrow(() -> new ResourceNotFoundException("Complaint not found"));
@@ -46,7 +48,7 @@ public class ComplaintActionServiceImpl implements ComplaintActionService {
 
 		if (complaint.getStudent() != null && complaint.getStudent().getUser() != null) {
 			try {
-				notificationService.send(new NotificationDTO(null, complaint.getStudent().getUser().getUserId(),
+				notificationService.enqueue(new NotificationDTO(null, complaint.getStudent().getUser().getUserId(),
 						"Action Taken on Complaint", "Staff " + staff.getFullName()
 								+ " has been assigned/taken action on your complaint: " + dto.actionTaken(),
 						false, null));
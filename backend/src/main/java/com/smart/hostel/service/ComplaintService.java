@@ -1,20 +1,23 @@
 package com.smart.hostel.service;
 
-import java.util.List;
+import java.io.OutputStream;
 
 import com.smart.hostel.dto.ComplaintDTO;
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.entity.ComplaintStatus;
 
 public interface ComplaintService {
 	ComplaintDTO raise(ComplaintDTO dto, String username);
 
-	List<ComplaintDTO> getByStudent(Long studentId);
+	CursorPage<ComplaintDTO> getByStudent(Long studentId, Long cursor, Integer limit);
 
-	List<ComplaintDTO> getByBuilding(Long buildingId, ComplaintStatus status);
+	CursorPage<ComplaintDTO> getByBuilding(Long buildingId, ComplaintStatus status, Long cursor, Integer limit);
 
-	List<ComplaintDTO> getAllByBuilding(Long buildingId);
+	CursorPage<ComplaintDTO> getAllByBuilding(Long buildingId, Long cursor, Integer limit);
 
-	List<ComplaintDTO> getMessComplaints();
+	void exportAllByBuilding(Long buildingId, OutputStream out);
+
+	CursorPage<ComplaintDTO> getMessComplaints(Long cursor, Integer limit);
 
 	ComplaintDTO updateStatus(Long complaintId, ComplaintStatus status, String resolutionComment);
 }
@@ -1,12 +1,16 @@
 package com.smart.hostel.service;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.smart.hostel.dto.ComplaintDTO;
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.dto.NotificationDTO;
 import com.smart.hostel.entity.Complaint;
 import com.smart.hostel.entity.ComplaintCategory;
@@ -14,11 +18,14 @@ import com.smart.hostel.entity.ComplaintStatus;
 import com.smart.hostel.entity.HostelBuilding;
 import com.smart.hostel.entity.Student;
 import com.smart.hostel.entity.User;
+import com.smart.hostel.event.ComplaintChangedEvent;
 import com.smart.hostel.exception.ResourceNotFoundException;
 import com.smart.hostel.repository.ComplaintRepository;
 import com.smart.hostel.repository.HostelBuildingRepository;
 import com.smart.hostel.repository.StudentRepository;
 import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.service.paging.JsonArrayStreamer;
+import com.smart.hostel.service.paging.KeysetPager;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +40,9 @@ public class ComplaintServiceImpl implements ComplaintService {
 	private final HostelBuildingRepository buildingRepository;
 	private final UserRepository userRepository;
 	private final NotificationService notificationService;
+	private final KeysetPager pager;
+	private final JsonArrayStreamer streamer;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	public ComplaintDTO raise(ComplaintDTO dto, String username) {
@@ -45,7 +55,9 @@ public class ComplaintServiceImpl implements ComplaintService {
 		Complaint complaint = createComplaintEntity(student, dto);
 		Complaint saved = complaintRepository.save(complaint);
 
-		return mapToDTO(saved);
+		ComplaintDTO result = mapToDTO(saved);
+		eventPublisher.publishEvent(new ComplaintChangedEvent(result, null));
+		return result;
 	}
 
 	private void validateStudentBuilding(Student student) {
@@ -67,72 +79,58 @@ public class ComplaintServiceImpl implements ComplaintService {
 	}
 
 	@Override
-	public List<ComplaintDTO> getByStudent(Long studentId) {
-		Student student = studentRepository.findById(studentId)
-				.orElseThrow(() -> new ResourceNotFoundException("Student not found"));
-		List<ComplaintDTO> list = new ArrayList<>();
-
-		for (Complaint c : complaintRepository.findByStudentOrderByCreatedAtDesc(student)) {
-			list.add(new ComplaintDTO(c.getComplaintId(), c.getStudent().getStudentId(),
-					c.getBuilding().getBuildingId(), c.getCategory(), c.getDescription(), c.getResolutionComment(),
-					c.getStatus(), c.getCreatedAt(), c.getUpdatedAt(), c.getStudent().getFullName(),
-					c.getStudent().getRoomNumber()));
+	public CursorPage<ComplaintDTO> getByStudent(Long studentId, Long cursor, Integer limit) {
+		if (!studentRepository.existsById(studentId)) {
+			throw new ResourceNotFoundException("Student not found");
 		}
-		log.debug("Found {} complaints for studentId: {}", list.size(), studentId);
-		return list;
+		List<ComplaintDTO> rows = complaintRepository.findPageByStudent(studentId, pager.before(cursor),
+				pager.limit(limit));
+		log.debug("Found {} complaints for studentId: {}", rows.size(), studentId);
+		return pager.page(rows, limit, ComplaintDTO::complaintId, Function.identity());
 	}
 
 	@Override
-	public List<ComplaintDTO> getByBuilding(Long buildingId, ComplaintStatus status) {
+	public CursorPage<ComplaintDTO> getByBuilding(Long buildingId, ComplaintStatus status, Long cursor,
+			Integer limit) {
 		HostelBuilding building = buildingRepository.findById(buildingId).orElse(null);
-		List<ComplaintDTO> list = new ArrayList<>();
-
-		if (building != null) {
-			for (Complaint c : complaintRepository.findByBuildingAndStatusOrderByCreatedAtDesc(building, status)) {
-				list.add(new ComplaintDTO(c.getComplaintId(), c.getStudent().getStudentId(),
-						c.getBuilding().getBuildingId(), c.getCategory(), c.getDescription(), c.getResolutionComment(),
-						c.getStatus(), c.getCreatedAt(), c.getUpdatedAt(), c.getStudent().getFullName(),
-						c.getStudent().getRoomNumber()));
-			}
+		if (building == null) {
+			log.debug("Building not found for ID: {}", buildingId);
+			return new CursorPage<>(List.of(), null);
 		}
-		log.debug("Found {} complaints for buildingId: {}", list.size(), buildingId);
-		return list;
+		List<ComplaintDTO> rows = complaintRepository.findPageByBuildingAndStatus(buildingId, status,
+				pager.before(cursor), pager.limit(limit));
+		log.debug("Found {} complaints for buildingId: {}", rows.size(), buildingId);
+		return pager.page(rows, limit, ComplaintDTO::complaintId, Function.identity());
 	}
 
 	@Override
-	public List<ComplaintDTO> getAllByBuilding(Long buildingId) {
+	public CursorPage<ComplaintDTO> getAllByBuilding(Long buildingId, Long cursor, Integer limit) {
 		HostelBuilding building = buildingRepository.findById(buildingId).orElse(null);
-		log.debug("getAllByBuilding called for buildingId: {}", buildingId);
 		if (building == null) {
 			log.debug("Building not found for ID: {}", buildingId);
+			return new CursorPage<>(List.of(), null);
 		}
-		List<ComplaintDTO> list = new ArrayList<>();
-
-		if (building != null) {
-			for (Complaint c : complaintRepository.findByBuildingOrderByCreatedAtDesc(building)) {
-				list.add(new ComplaintDTO(c.getComplaintId(), c.getStudent().getStudentId(),
-						c.getBuilding().getBuildingId(), c.getCategory(), c.getDescription(), c.getResolutionComment(),
-						c.getStatus(), c.getCreatedAt(), c.getUpdatedAt(), c.getStudent().getFullName(),
-						c.getStudent().getRoomNumber()));
-			}
-		}
-		log.debug("Found {} complaints for buildingId: {}", list.size(), buildingId);
+		List<ComplaintDTO> rows = complaintRepository.findPageByBuilding(buildingId, pager.before(cursor),
+				pager.limit(limit));
+		log.debug("Found {} complaints for buildingId: {}", rows.size(), buildingId);
+		return pager.page(rows, limit, ComplaintDTO::complaintId, Function.identity());
+	}
 
-		List<Complaint> all = complaintRepository.findAll();
-		log.debug("Total complaints in entire DB: {}", all.size());
-		for (Complaint c : all) {
-			log.debug("Complaint {} | Building: {} | Status: {}", c.getComplaintId(),
-					(c.getBuilding() != null ? c.getBuilding().getBuildingId() : "NULL"), c.getStatus());
+	@Override
+	public void exportAllByBuilding(Long buildingId, OutputStream out) {
+		if (buildingRepository.findById(buildingId).isEmpty()) {
+			throw new ResourceNotFoundException("Building not found");
 		}
-
-		return list;
+		streamer.write(out, () -> complaintRepository.streamByBuilding(buildingId), Function.identity());
 	}
 
 	@Override
+	@Transactional
 	public ComplaintDTO updateStatus(Long complaintId, ComplaintStatus status, String resolutionComment) {
 		Complaint complaint = complaintRepository.findById(complaintId)
 				.orElseThrow(() -> new ResourceNotFoundException("Complaint not found"));
 
+		ComplaintStatus previousStatus = complaint.getStatus();
 		complaint.setStatus(status);
 		if (resolutionComment != null && !resolutionComment.isEmpty()) {
 			complaint.setResolutionComment(resolutionComment);
@@ -142,13 +140,15 @@ public class ComplaintServiceImpl implements ComplaintService {
 
 		sendComplaintUpdateNotification(saved);
 
-		return mapToDTO(saved);
+		ComplaintDTO result = mapToDTO(saved);
+		eventPublisher.publishEvent(new ComplaintChangedEvent(result, previousStatus));
+		return result;
 	}
 
 	private void sendComplaintUpdateNotification(Complaint complaint) {
 		if (complaint.getStudent() != null && complaint.getStudent().getUser() != null) {
 			try {
-				notificationService.send(new NotificationDTO(null, complaint.getStudent().getUser().getUserId(),
+				notificationService.enqueue(new NotificationDTO(null, complaint.getStudent().getUser().getUserId(),
 						"Complaint Status Updated",
 						"Your complaint #" + complaint.getComplaintId() + " is now " + complaint.getStatus(), false,
 						null));
@@ -167,15 +167,10 @@ public class ComplaintServiceImpl implements ComplaintService {
 	}
 
 	@Override
-	public List<ComplaintDTO> getMessComplaints() {
-		List<ComplaintDTO> list = new ArrayList<>();
-		for (Complaint c : complaintRepository.findByCategoryOrderByCreatedAtDesc(ComplaintCategory.MESS)) {
-			list.add(new ComplaintDTO(c.getComplaintId(), c.getStudent().getStudentId(),
-					c.getBuilding().getBuildingId(), c.getCategory(), c.getDescription(), c.getResolutionComment(),
-					c.getStatus(), c.getCreatedAt(), c.getUpdatedAt(), c.getStudent().getFullName(),
-					c.getStudent().getRoomNumber()));
-		}
-		log.debug("Found {} Mess complaints", list.size());
-		return list;
+	public CursorPage<ComplaintDTO> getMessComplaints(Long cursor, Integer limit) {
+		List<ComplaintDTO> rows = complaintRepository.findPageByCategory(ComplaintCategory.MESS,
+				pager.before(cursor), pager.limit(limit));
+		log.debug("Found {} Mess complaints", rows.size());
+		return pager.page(rows, limit, ComplaintDTO::complaintId, Function.identity());
 	}
 }
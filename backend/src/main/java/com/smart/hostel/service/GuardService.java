@@ -1,14 +1,17 @@
 package com.smart.hostel.service;
 
-import java.util.List;
+import java.io.OutputStream;
 
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.dto.GuardDashboardStatsDTO;
 import com.smart.hostel.dto.VisitorDTO;
 
 public interface GuardService {
 	VisitorDTO verifyAndLogVisitor(VisitorDTO dto);
 
-	List<VisitorDTO> getRecentVisitors();
+	CursorPage<VisitorDTO> getRecentVisitors(Long cursor, Integer limit);
+
+	void exportRecentVisitors(OutputStream out);
 
 	GuardDashboardStatsDTO getDashboardStats();
 }
\ No newline at end of file
@@ -1,10 +1,11 @@
 package com.smart.hostel.service;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
-import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.dto.GuardDashboardStatsDTO;
 import com.smart.hostel.dto.VisitorDTO;
 import com.smart.hostel.entity.VisitorStatus;
@@ -25,8 +26,13 @@ public class GuardServiceImpl implements GuardService {
 	}
 
 	@Override
-	public List<VisitorDTO> getRecentVisitors() {
-		return visitorService.getRecent();
+	public CursorPage<VisitorDTO> getRecentVisitors(Long cursor, Integer limit) {
+		return visitorService.getRecent(cursor, limit);
+	}
+
+	@Override
+	public void exportRecentVisitors(OutputStream out) {
+		visitorService.exportRecent(out);
 	}
 
 	@Override
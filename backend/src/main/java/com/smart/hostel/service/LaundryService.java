@@ -1,7 +1,9 @@
 package com.smart.hostel.service;
 
+import java.io.OutputStream;
 import java.util.List;
 
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.dto.LaundryBookingDTO;
 
 public interface LaundryService {
@@ -11,5 +13,7 @@ public interface LaundryService {
 
 	LaundryBookingDTO updateStatus(Long bookingId, String status);
 
-	List<LaundryBookingDTO> getAllBookings(String username);
+	CursorPage<LaundryBookingDTO> getAllBookings(String username, Long cursor, Integer limit);
+
+	void exportAllBookings(String username, OutputStream out);
 }
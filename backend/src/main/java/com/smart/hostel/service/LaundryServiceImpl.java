@@ -1,15 +1,17 @@
 package com.smart.hostel.service;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.dto.LaundryBookingDTO;
 import com.smart.hostel.dto.NotificationDTO;
 import com.smart.hostel.entity.LaundryBooking;
-import com.smart.hostel.entity.Payment;
 import com.smart.hostel.entity.PaymentType;
 import com.smart.hostel.entity.StaffBuildingMap;
 import com.smart.hostel.entity.Student;
@@ -21,6 +23,8 @@ import com.smart.hostel.exception.UserNotFoundException;
 import com.smart.hostel.repository.LaundryBookingRepository;
 import com.smart.hostel.repository.StudentRepository;
 import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.service.paging.JsonArrayStreamer;
+import com.smart.hostel.service.paging.KeysetPager;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,8 +38,10 @@ public class LaundryServiceImpl implements LaundryService {
 	private final UserRepository userRepository;
 	private final StudentRepository studentRepository;
 	private final NotificationService notificationService;
-	private final com.smart.hostel.repository.PaymentRepository paymentRepository;
 	private final com.smart.hostel.repository.StaffBuildingMapRepository staffBuildingMapRepo;
+	private final KeysetPager pager;
+	private final JsonArrayStreamer streamer;
+	private final WalletService walletService;
 
 	@Override
 	public LaundryBookingDTO book(LaundryBookingDTO dto) {
@@ -43,7 +49,7 @@ public class LaundryServiceImpl implements LaundryService {
 		Student student = studentRepository.findById(dto.studentId())
 				.orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-		if (student.getWalletBalance() < dto.amount().doubleValue()) {
+		if (student.getWalletBalance().compareTo(dto.amount()) < 0) {
 			throw new InsufficientBalanceException("Insufficient wallet balance. You need ₹" + dto.amount()
 					+ " but only have ₹" + student.getWalletBalance());
 		}
@@ -77,28 +83,14 @@ public class LaundryServiceImpl implements LaundryService {
 	}
 
 	@Override
+	@Transactional
 	public LaundryBookingDTO updateStatus(Long bookingId, String status) {
 		LaundryBooking booking = bookingRepository.findById(bookingId)
 				.orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
 
 		if ("WASHED".equalsIgnoreCase(status) && !"WASHED".equalsIgnoreCase(booking.getStatus())
 				&& !"DELIVERED".equalsIgnoreCase(booking.getStatus())) {
-			Student student = booking.getStudent();
-			Double amount = booking.getAmount().doubleValue();
-
-			if (student.getWalletBalance() < amount) {
-				throw new InsufficientBalanceException(
-						"Insufficient wallet balance for student " + student.getFullName() + ". Required: ₹" + amount);
-			}
-			student.setWalletBalance(student.getWalletBalance() - amount);
-			studentRepository.save(student);
-
-			Payment payment = new Payment();
-			payment.setStudent(student);
-			payment.setAmount(booking.getAmount().negate());
-			payment.setPaymentType(PaymentType.LAUNDRY);
-			payment.setPaymentDate(LocalDateTime.now());
-			paymentRepository.save(payment);
+			walletService.debit(booking.getStudent(), booking.getAmount(), PaymentType.LAUNDRY);
 		}
 
 		booking.setStatus(status);
@@ -113,7 +105,7 @@ public class LaundryServiceImpl implements LaundryService {
 			}
 
 			NotificationDTO notif = new NotificationDTO(null, userId, title, message, false, null);
-			notificationService.send(notif);
+			notificationService.enqueue(notif);
 		} catch (Exception e) {
 			log.error("Failed to send laundry notification: {}", e.getMessage());
 		}
@@ -123,27 +115,51 @@ public class LaundryServiceImpl implements LaundryService {
 	}
 
 	@Override
-	public List<LaundryBookingDTO> getAllBookings(String username) {
+	@Transactional(readOnly = true)
+	public CursorPage<LaundryBookingDTO> getAllBookings(String username, Long cursor, Integer limit) {
 
 		List<StaffBuildingMap> maps = staffBuildingMapRepo.findByStaff_User_Username(username);
 
 		List<LaundryBooking> bookings;
 
 		if (maps.isEmpty()) {
-			User user = userRepository.findByUsername(username).orElse(null);
-			if (user != null && user.getRole().getRoleName().equals("ADMIN")) {
-				bookings = bookingRepository.findAll();
-			} else {
-				bookings = new ArrayList<>();
+			if (!isAdmin(username)) {
+				return new CursorPage<>(List.of(), null);
 			}
+			bookings = bookingRepository.findPageBefore(pager.before(cursor), pager.limit(limit));
 		} else {
 			com.smart.hostel.entity.HostelBuilding building = maps.get(0).getBuilding();
-			bookings = bookingRepository.findByBuilding(building);
+			bookings = bookingRepository.findPageByBuilding(building, pager.before(cursor), pager.limit(limit));
 		}
 
-		return bookings.stream().map(l -> {
-			return new LaundryBookingDTO(l.getBookingId(), l.getStudent().getStudentId(), l.getClothesCount(),
-					l.getAmount(), l.getStatus());
-		}).toList();
+		return pager.page(bookings, limit, LaundryBooking::getBookingId, this::mapToDTO);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAllBookings(String username, OutputStream out) {
+
+		List<StaffBuildingMap> maps = staffBuildingMapRepo.findByStaff_User_Username(username);
+
+		Supplier<Stream<LaundryBooking>> bookings;
+
+		if (maps.isEmpty()) {
+			bookings = isAdmin(username) ? bookingRepository::streamAllNewestFirst : Stream::empty;
+		} else {
+			com.smart.hostel.entity.HostelBuilding building = maps.get(0).getBuilding();
+			bookings = () -> bookingRepository.streamByBuilding(building);
+		}
+
+		streamer.write(out, bookings, this::mapToDTO);
+	}
+
+	private boolean isAdmin(String username) {
+		User user = userRepository.findByUsername(username).orElse(null);
+		return user != null && user.getRole().getRoleName().equals("ADMIN");
+	}
+
+	private LaundryBookingDTO mapToDTO(LaundryBooking l) {
+		return new LaundryBookingDTO(l.getBookingId(), l.getStudent().getStudentId(), l.getClothesCount(),
+				l.getAmount(), l.getStatus());
 	}
 }
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import com.smart.hostel.dto.MessMenuDTO;
 import com.smart.hostel.entity.MessMenu;
 import com.smart.hostel.repository.MessMenuRepository;
+import com.smart.hostel.service.attendance.MessWindowCache;
 
 import lombok.AllArgsConstructor;
 
@@ -16,6 +17,7 @@ import lombok.AllArgsConstructor;
 public class MessMenuServiceImpl implements MessMenuService {
 
 	private final MessMenuRepository repository;
+	private final MessWindowCache messWindowCache;
 
 	@Override
 	public MessMenuDTO addMenu(MessMenuDTO dto) {
@@ -34,6 +36,7 @@ public class MessMenuServiceImpl implements MessMenuService {
 		menu.setPrice(dto.price() != null ? dto.price() : 0.0);
 
 		MessMenu saved = repository.save(menu);
+		messWindowCache.refreshMenus(saved.getMenuDate());
 
 		return new MessMenuDTO(saved.getMenuId(), saved.getMenuDate(), saved.getMealType(), saved.getItems(),
 				saved.getPrice());
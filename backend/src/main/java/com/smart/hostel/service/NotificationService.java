@@ -2,13 +2,18 @@ package com.smart.hostel.service;
 
 import java.util.List;
 
+import com.smart.hostel.dto.BroadcastJobDTO;
 import com.smart.hostel.dto.NotificationDTO;
 import com.smart.hostel.dto.SendNotificationRequest;
 
 public interface NotificationService {
 	NotificationDTO send(NotificationDTO dto);
 
+	void enqueue(NotificationDTO dto);
+
 	List<NotificationDTO> getUnreadByUser(Long userId);
 
-	void broadcast(SendNotificationRequest request);
+	BroadcastJobDTO broadcast(SendNotificationRequest request);
+
+	BroadcastJobDTO getBroadcastJob(String jobId);
 }
\ No newline at end of file
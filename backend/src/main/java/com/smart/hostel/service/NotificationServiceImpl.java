@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.smart.hostel.dto.BroadcastJobDTO;
 import com.smart.hostel.dto.NotificationDTO;
 import com.smart.hostel.dto.SendNotificationRequest;
 import com.smart.hostel.entity.Notification;
@@ -12,6 +13,8 @@ import com.smart.hostel.entity.User;
 import com.smart.hostel.exception.ResourceNotFoundException;
 import com.smart.hostel.repository.NotificationRepository;
 import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.service.notification.BroadcastEngine;
+import com.smart.hostel.service.notification.NotificationDispatcher;
 import com.smart.hostel.websocket.NotificationSocketService;
 
 import lombok.AllArgsConstructor;
@@ -23,6 +26,8 @@ public class NotificationServiceImpl implements NotificationService {
 	private final NotificationRepository notificationRepository;
 	private final UserRepository userRepository;
 	private final NotificationSocketService socketService;
+	private final NotificationDispatcher notificationDispatcher;
+	private final BroadcastEngine broadcastEngine;
 
 	@Override
 	public NotificationDTO send(NotificationDTO dto) {
@@ -45,6 +50,11 @@ public class NotificationServiceImpl implements NotificationService {
 		return result;
 	}
 
+	@Override
+	public void enqueue(NotificationDTO dto) {
+		notificationDispatcher.enqueue(dto);
+	}
+
 	@Override
 	public List<NotificationDTO> getUnreadByUser(Long userId) {
 		User user = userRepository.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -58,29 +68,12 @@ public class NotificationServiceImpl implements NotificationService {
 	}
 
 	@Override
-	public void broadcast(SendNotificationRequest request) {
-		List<User> targets = new ArrayList<>();
-
-		if (Boolean.TRUE.equals(request.sendToAll())) {
-			String role = (request.targetRole() == null || request.targetRole().isEmpty()) ? "STUDENT"
-					: request.targetRole();
-			targets = userRepository.findByRole_RoleName(role);
-		} else if (request.userIds() != null && !request.userIds().isEmpty()) {
-			targets = userRepository.findAllById(request.userIds());
-		}
-
-		for (User user : targets) {
-			Notification n = new Notification();
-			n.setUser(user);
-			n.setTitle(request.title());
-			n.setMessage(request.message());
-			n.setIsRead(false);
-			Notification saved = notificationRepository.save(n);
-
-			NotificationDTO dto = new NotificationDTO(saved.getNotificationId(), saved.getUser().getUserId(),
-					saved.getTitle(), saved.getMessage(), saved.getIsRead(), saved.getCreatedAt());
+	public BroadcastJobDTO broadcast(SendNotificationRequest request) {
+		return broadcastEngine.submit(request);
+	}
 
-			socketService.sendToUser(user.getUsername(), dto);
-		}
+	@Override
+	public BroadcastJobDTO getBroadcastJob(String jobId) {
+		return broadcastEngine.getJob(jobId);
 	}
 }
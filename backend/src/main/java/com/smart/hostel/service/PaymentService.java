@@ -1,8 +1,8 @@
 package com.smart.hostel.service;
 
 import java.math.BigDecimal;
-import java.util.List;
 
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.dto.PaymentDTO;
 
 public interface PaymentService {
@@ -13,7 +13,7 @@ public interface PaymentService {
 
 	boolean verifyPaymentSignature(String orderId, String paymentId, String signature);
 
-	List<PaymentDTO> getHistory(String username);
+	CursorPage<PaymentDTO> getHistory(String username, Long cursor, Integer limit);
 
 	PaymentDTO payFeeFromWallet(Long studentId, BigDecimal amount);
 
@@ -3,28 +3,29 @@ package com.smart.hostel.service;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.razorpay.Order;
 import com.razorpay.RazorpayClient;
 import com.razorpay.Utils;
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.dto.NotificationDTO;
 import com.smart.hostel.dto.PaymentDTO;
 import com.smart.hostel.entity.Payment;
 import com.smart.hostel.entity.PaymentType;
 import com.smart.hostel.entity.Student;
 import com.smart.hostel.entity.User;
-import com.smart.hostel.exception.InsufficientBalanceException;
 import com.smart.hostel.exception.PaymentCreationException;
 import com.smart.hostel.exception.PaymentVerificationException;
 import com.smart.hostel.exception.ResourceNotFoundException;
 import com.smart.hostel.repository.PaymentRepository;
 import com.smart.hostel.repository.StudentRepository;
 import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.service.paging.KeysetPager;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,30 +38,35 @@ public class PaymentServiceImpl implements PaymentService {
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
     private final NotificationService notificationService;
+    private final KeysetPager pager;
+    private final WalletService walletService;
     private final String razorpaySecret;
 
     public PaymentServiceImpl(RazorpayClient razorpayClient, PaymentRepository paymentRepository,
             UserRepository userRepository, StudentRepository studentRepository, NotificationService notificationService,
-            @Value("${razorpay.key.secret}") String razorpaySecret) {
+            KeysetPager pager, WalletService walletService, @Value("${razorpay.key.secret}") String razorpaySecret) {
         this.razorpayClient = razorpayClient;
         this.paymentRepository = paymentRepository;
         this.userRepository = userRepository;
         this.studentRepository = studentRepository;
         this.notificationService = notificationService;
+        this.pager = pager;
+        this.walletService = walletService;
         this.razorpaySecret = razorpaySecret;
     }
 
     @Override
-    public List<PaymentDTO> getHistory(String username) {
+    public CursorPage<PaymentDTO> getHistory(String username, Long cursor, Integer limit) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         Student student = studentRepository.findByUser(user)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-        List<Payment> list = paymentRepository.findByStudent(student);
+        List<Payment> list = paymentRepository.findByStudentAndPaymentIdLessThanOrderByPaymentIdDesc(student,
+                pager.before(cursor), pager.limit(limit));
 
-        return list.stream().map(p -> new PaymentDTO(p.getPaymentId(), p.getStudent().getStudentId(), p.getAmount(),
-                p.getPaymentType(), p.getPaymentDate(), null, null, null)).collect(Collectors.toList());
+        return pager.page(list, limit, Payment::getPaymentId, p -> new PaymentDTO(p.getPaymentId(),
+                p.getStudent().getStudentId(), p.getAmount(), p.getPaymentType(), p.getPaymentDate(), null, null, null));
     }
 
     @Override
@@ -81,6 +87,7 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Override
+    @Transactional
     public PaymentDTO confirmPayment(PaymentDTO dto) {
 
         boolean isValid = verifyPaymentSignature(dto.razorpayOrderId(), dto.razorpayPaymentId(),
@@ -92,24 +99,18 @@ public class PaymentServiceImpl implements PaymentService {
         Student student = studentRepository.findById(dto.studentId())
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-        Payment payment = new Payment();
-        payment.setStudent(student);
-        payment.setAmount(dto.amount());
-        payment.setPaymentType(dto.paymentType());
-        payment.setPaymentDate(LocalDateTime.now());
-
-        Payment saved = paymentRepository.save(payment);
-
+        Payment saved;
         if (dto.paymentType() == PaymentType.HOSTEL || dto.paymentType() == null) {
+            saved = createPaymentRecord(student, dto.amount(), dto.paymentType());
             Double currentPaid = student.getPaidFee() != null ? student.getPaidFee() : 0.0;
             student.setPaidFee(currentPaid + dto.amount().doubleValue());
+            studentRepository.save(student);
         } else if (dto.paymentType() == PaymentType.MESS) {
             // Mess payment logic can be added here if needed
+            saved = createPaymentRecord(student, dto.amount(), dto.paymentType());
         } else {
-            Double currentBalance = student.getWalletBalance() != null ? student.getWalletBalance() : 0.0;
-            student.setWalletBalance(currentBalance + dto.amount().doubleValue());
+            saved = walletService.credit(student, dto.amount(), dto.paymentType());
         }
-        studentRepository.save(student);
 
         return new PaymentDTO(saved.getPaymentId(), saved.getStudent().getStudentId(), saved.getAmount(),
                 saved.getPaymentType(), saved.getPaymentDate(), dto.razorpayOrderId(), dto.razorpayPaymentId(),
@@ -131,31 +132,27 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Override
+    @Transactional
     public PaymentDTO addCashPayment(PaymentDTO dto) {
         Student student = studentRepository.findById(dto.studentId())
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-        Payment payment = new Payment();
-        payment.setStudent(student);
-        payment.setAmount(dto.amount());
-        payment.setPaymentType(dto.paymentType());
-        payment.setPaymentDate(LocalDateTime.now());
-
-        Payment saved = paymentRepository.save(payment);
-
-        if (dto.paymentType() == PaymentType.HOSTEL) {
-            Double currentPaid = student.getPaidFee() != null ? student.getPaidFee() : 0.0;
-            student.setPaidFee(currentPaid + dto.amount().doubleValue());
-        } else if (dto.paymentType() == PaymentType.WALLET) {
-            Double currentBalance = student.getWalletBalance() != null ? student.getWalletBalance() : 0.0;
-            student.setWalletBalance(currentBalance + dto.amount().doubleValue());
+        Payment saved;
+        if (dto.paymentType() == PaymentType.WALLET) {
+            saved = walletService.credit(student, dto.amount(), dto.paymentType());
+        } else {
+            saved = createPaymentRecord(student, dto.amount(), dto.paymentType());
+            if (dto.paymentType() == PaymentType.HOSTEL) {
+                Double currentPaid = student.getPaidFee() != null ? student.getPaidFee() : 0.0;
+                student.setPaidFee(currentPaid + dto.amount().doubleValue());
+                studentRepository.save(student);
+            }
         }
-        studentRepository.save(student);
 
         try {
             NotificationDTO notif = new NotificationDTO(null, student.getUser().getUserId(), "Cash Payment Received",
                     "Cash Payment Received: ₹" + dto.amount() + " for " + dto.paymentType(), false, null);
-            notificationService.send(notif);
+            notificationService.enqueue(notif);
         } catch (Exception e) {
             log.error("Failed to send payment notification: {}", e.getMessage());
         }
@@ -165,30 +162,22 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Override
+    @Transactional
     public PaymentDTO payFeeFromWallet(Long studentId, BigDecimal amount) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-        validateWalletBalance(student, amount);
-        updateStudentWalletAndFee(student, amount);
+        walletService.debit(student, amount, PaymentType.WALLET);
+        updateStudentFee(student, amount);
 
         Payment saved = createPaymentRecord(student, amount, PaymentType.HOSTEL);
-        createPaymentRecord(student, amount.negate(), PaymentType.WALLET);
 
         sendFeePaymentNotification(student, amount);
 
         return mapToPaymentDTO(saved, student);
     }
 
-    private void validateWalletBalance(Student student, BigDecimal amount) {
-        if (student.getWalletBalance() < amount.doubleValue()) {
-            throw new InsufficientBalanceException(
-                    "Insufficient wallet balance. Please add money to your wallet first.");
-        }
-    }
-
-    private void updateStudentWalletAndFee(Student student, BigDecimal amount) {
-        student.setWalletBalance(student.getWalletBalance() - amount.doubleValue());
+    private void updateStudentFee(Student student, BigDecimal amount) {
         Double currentPaid = student.getPaidFee() != null ? student.getPaidFee() : 0.0;
         student.setPaidFee(currentPaid + amount.doubleValue());
         studentRepository.save(student);
@@ -207,7 +196,7 @@ public class PaymentServiceImpl implements PaymentService {
         try {
             NotificationDTO notif = new NotificationDTO(null, student.getUser().getUserId(), "Fee Payment Successful",
                     "A fee payment of ₹" + amount + " has been processed from your wallet.", false, null);
-            notificationService.send(notif);
+            notificationService.enqueue(notif);
         } catch (Exception e) {
             log.error("Failed to send fee payment notification for student {}: {}", student.getStudentId(),
                     e.getMessage());
@@ -1,56 +1,215 @@
 package com.smart.hostel.service;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.zxing.BarcodeFormat;
 import com.google.zxing.EncodeHintType;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.WriterException;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
 import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.smart.hostel.dto.QrImageDTO;
+import com.smart.hostel.dto.QrPassKeyDTO;
+import com.smart.hostel.dto.QrPassSubject;
+import com.smart.hostel.entity.QrImageFormat;
 import com.smart.hostel.exception.QRCodeGenerationException;
+import com.smart.hostel.exception.ResourceNotFoundException;
+import com.smart.hostel.repository.StudentRepository;
 import com.smart.hostel.security.JwtUtil;
+import com.smart.hostel.security.QrPassCodec;
+import com.smart.hostel.security.QrPassCodec.QrPass;
 
-import lombok.AllArgsConstructor;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 
 @Service
-@AllArgsConstructor
 public class QRCodeService {
 
+	private static final Map<EncodeHintType, Object> HINTS = Map.of(EncodeHintType.MARGIN, 1,
+			EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M);
+
 	private final JwtUtil jwtUtil;
+	private final QrPassCodec qrPassCodec;
+	private final StudentRepository studentRepository;
+	private final boolean compactPasses;
+	private final long epochSeconds;
+	private final int modulePixels;
+	private final Cache<QrKey, QrImageDTO> images;
+
+	public QRCodeService(JwtUtil jwtUtil, QrPassCodec qrPassCodec, StudentRepository studentRepository,
+			@Value("${app.qr.pass.compact-enabled:false}") boolean compactPasses,
+			@Value("${app.qr.epoch-seconds:300}") long epochSeconds,
+			@Value("${app.qr.module-pixels:8}") int modulePixels,
+			@Value("${app.qr.cache.max-size:20000}") long maxSize) {
+		if (epochSeconds <= 0 || epochSeconds >= JwtUtil.QR_TOKEN_VALIDITY.toSeconds()) {
+			throw new IllegalArgumentException("app.qr.epoch-seconds must be between 1 and "
+					+ (JwtUtil.QR_TOKEN_VALIDITY.toSeconds() - 1));
+		}
+		if (compactPasses && !qrPassCodec.isConfigured()) {
+			throw new IllegalStateException("app.qr.pass.compact-enabled requires app.qr.pass.private-key and "
+					+ "app.qr.pass.public-key, otherwise passes would not verify on other nodes or after a restart");
+		}
+		this.jwtUtil = jwtUtil;
+		this.qrPassCodec = qrPassCodec;
+		this.studentRepository = studentRepository;
+		this.compactPasses = compactPasses;
+		this.epochSeconds = epochSeconds;
+		this.modulePixels = modulePixels;
+		this.images = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(Duration.ofSeconds(epochSeconds))
+				.build();
+	}
 
 	public String generateAttendanceQr(String username) {
+		return new String(getAttendanceQr(username, QrImageFormat.BASE64).content(), StandardCharsets.US_ASCII);
+	}
+
+	public QrImageDTO getAttendanceQr(String username, QrImageFormat format) {
+		return getAttendanceQr(username, format, Instant.now());
+	}
+
+	QrImageDTO getAttendanceQr(String username, QrImageFormat format, Instant now) {
+		long epoch = now.getEpochSecond() / epochSeconds;
+		return images.get(new QrKey(username, epoch, format), this::render);
+	}
+
+	public QrPassKeyDTO getPassKey() {
+		if (!qrPassCodec.isConfigured()) {
+			throw new ResourceNotFoundException("Compact QR passes are not configured");
+		}
+		return qrPassCodec.publicKey();
+	}
+
+	public QrPassSubject resolve(String token) {
+		if (token == null) {
+			return null;
+		}
+		if (QrPassCodec.isCompact(token)) {
+			QrPass pass = qrPassCodec.verify(token, Instant.now());
+			return pass != null ? new QrPassSubject(pass.studentId(), null,
+					(pass.studentId() << 32) ^ (pass.nonce() & 0xFFFFFFFFL), pass.expiresAt()) : null;
+		}
 		try {
-			String token = jwtUtil.generateQrToken(username);
+			Claims claims = jwtUtil.parseClaims(token);
+			if (!jwtUtil.isQrToken(claims)) {
+				return null;
+			}
+			return new QrPassSubject(null, claims.getSubject(), signatureFingerprint(token),
+					claims.getExpiration().toInstant());
+		} catch (JwtException | IllegalArgumentException e) {
+			return null;
+		}
+	}
 
-			QRCodeWriter qrCodeWriter = new QRCodeWriter();
-			Map<EncodeHintType, Object> hints = new HashMap<>();
-			hints.put(EncodeHintType.MARGIN, 1);
-			hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M);
+	public void evict(String username) {
+		long epoch = Instant.now().getEpochSecond() / epochSeconds;
+		for (QrImageFormat format : QrImageFormat.values()) {
+			images.invalidate(new QrKey(username, epoch, format));
+		}
+	}
 
-			BitMatrix bitMatrix = qrCodeWriter.encode(token, BarcodeFormat.QR_CODE, 500, 500, hints);
+	private static long signatureFingerprint(String jwt) {
+		byte[] signature = Base64.getUrlDecoder().decode(jwt.substring(jwt.lastIndexOf('.') + 1));
+		long fingerprint = 0;
+		for (int i = 0; i < Long.BYTES; i++) {
+			fingerprint = (fingerprint << 8) | (signature[i] & 0xFF);
+		}
+		return fingerprint;
+	}
 
-			ByteArrayOutputStream pngOutputStream = new ByteArrayOutputStream();
-			MatrixToImageWriter.writeToStream(bitMatrix, "PNG", pngOutputStream);
-			byte[] pngData = pngOutputStream.toByteArray();
+	private QrImageDTO render(QrKey key) {
+		Instant issuedAt = Instant.ofEpochSecond(key.epoch() * epochSeconds);
+		String token = token(key.username(), issuedAt);
+		BitMatrix matrix;
+		try {
+			matrix = new QRCodeWriter().encode(token, BarcodeFormat.QR_CODE, 0, 0, HINTS);
+		} catch (WriterException e) {
+			throw new QRCodeGenerationException("Error generating QR code", e);
+		}
+		byte[] content = switch (key.format()) {
+		case PNG -> png(matrix);
+		case SVG -> svg(matrix).getBytes(StandardCharsets.UTF_8);
+		case BASE64 -> Base64.getEncoder().encode(png(matrix));
+		};
+		String etag = "\"" + Long.toHexString(key.epoch()) + "-" + key.format().name().toLowerCase() + "-"
+				+ Integer.toHexString(token.hashCode()) + "\"";
+		return new QrImageDTO(key.format(), content, etag, issuedAt.plusSeconds(epochSeconds));
+	}
 
-			return Base64.getEncoder().encodeToString(pngData);
+	private String token(String username, Instant issuedAt) {
+		if (compactPasses) {
+			Optional<Long> studentId = studentRepository.findIdByUsername(username);
+			if (studentId.isPresent()) {
+				return qrPassCodec.issue(studentId.get(), issuedAt.plus(JwtUtil.QR_TOKEN_VALIDITY));
+			}
+		}
+		return jwtUtil.generateQrToken(username, issuedAt);
+	}
 
-		} catch (Exception e) {
+	private byte[] png(BitMatrix matrix) {
+		int size = matrix.getWidth() * modulePixels;
+		BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_BYTE_BINARY);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.WHITE);
+		graphics.fillRect(0, 0, size, size);
+		graphics.setColor(Color.BLACK);
+		for (int y = 0; y < matrix.getHeight(); y++) {
+			for (int x = 0; x < matrix.getWidth(); x++) {
+				if (matrix.get(x, y)) {
+					graphics.fillRect(x * modulePixels, y * modulePixels, modulePixels, modulePixels);
+				}
+			}
+		}
+		graphics.dispose();
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			ImageIO.write(image, "PNG", out);
+			return out.toByteArray();
+		} catch (IOException e) {
 			throw new QRCodeGenerationException("Error generating QR code", e);
 		}
 	}
 
-	public boolean validateQrToken(String token) {
-		return jwtUtil.validateQrToken(token);
+	private static String svg(BitMatrix matrix) {
+		int width = matrix.getWidth();
+		int height = matrix.getHeight();
+		StringBuilder path = new StringBuilder();
+		for (int y = 0; y < height; y++) {
+			int x = 0;
+			while (x < width) {
+				if (!matrix.get(x, y)) {
+					x++;
+					continue;
+				}
+				int start = x;
+				while (x < width && matrix.get(x, y)) {
+					x++;
+				}
+				path.append('M').append(start).append(' ').append(y).append('h').append(x - start).append("v1h-")
+						.append(x - start).append('z');
+			}
+		}
+		return "<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 " + width + " " + height
+				+ "\" shape-rendering=\"crispEdges\"><rect width=\"100%\" height=\"100%\" fill=\"#fff\"/><path d=\""
+				+ path + "\"/></svg>";
 	}
 
-	public String getUsernameFromQrToken(String token) {
-		return jwtUtil.getUsernameFromToken(token);
+	private record QrKey(String username, long epoch, QrImageFormat format) {
 	}
 }
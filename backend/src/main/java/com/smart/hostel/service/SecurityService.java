@@ -1,6 +1,7 @@
 package com.smart.hostel.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.smart.hostel.entity.Staff;
 import com.smart.hostel.entity.User;
@@ -16,6 +17,7 @@ public class SecurityService {
 	private final UserRepository userRepository;
 	private final StaffRepository staffRepository;
 
+	@Transactional(readOnly = true)
 	public boolean isMessWarden(String username) {
 		User user = userRepository.findByUsername(username).orElse(null);
 		if (user == null)
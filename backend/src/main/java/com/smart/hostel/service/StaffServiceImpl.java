@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.smart.hostel.dto.StaffAttendanceDTO;
 import com.smart.hostel.dto.StaffDTO;
@@ -66,6 +67,7 @@ public class StaffServiceImpl implements StaffService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<StaffDTO> getByType(StaffType type) {
 
 		List<StaffDTO> result = new ArrayList<>();
@@ -125,6 +127,7 @@ public class StaffServiceImpl implements StaffService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public StaffDTO getProfile(String username) {
 		Staff staff = getStaffByUsername(username);
 
@@ -151,6 +154,7 @@ public class StaffServiceImpl implements StaffService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<StaffDTO> getUnassignedWardens() {
 		List<Staff> wardens = staffRepository.findUnassignedWardens();
 		List<StaffDTO> result = new ArrayList<>();
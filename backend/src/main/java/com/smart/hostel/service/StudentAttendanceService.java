@@ -1,12 +1,16 @@
 package com.smart.hostel.service;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import com.smart.hostel.dto.StudentAttendanceDTO;
-import com.smart.hostel.entity.StudentAttendance;
 
 public interface StudentAttendanceService {
+
+	/** Flat charge taken from the wallet for every mess attendance, on top of any menu price. */
+	BigDecimal MEAL_COST = new BigDecimal("50.00");
+
 	StudentAttendanceDTO mark(StudentAttendanceDTO dto);
 
-	List<StudentAttendance> getByStudentId(Long studentId);
+	List<StudentAttendanceDTO> getByStudentId(Long studentId);
 }
\ No newline at end of file
@@ -1,20 +1,25 @@
 package com.smart.hostel.service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.smart.hostel.dto.NotificationDTO;
 import com.smart.hostel.dto.StudentAttendanceDTO;
 import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.PaymentType;
 import com.smart.hostel.entity.Student;
 import com.smart.hostel.entity.StudentAttendance;
-import com.smart.hostel.exception.InsufficientBalanceException;
+import com.smart.hostel.event.StudentAttendanceMarkedEvent;
 import com.smart.hostel.exception.ResourceNotFoundException;
 import com.smart.hostel.repository.StudentAttendanceRepository;
 import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.service.attendance.AttendanceGroupCommitter;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +32,10 @@ public class StudentAttendanceServiceImpl implements StudentAttendanceService {
 	private final StudentAttendanceRepository attendanceRepository;
 	private final StudentRepository studentRepository;
 	private final NotificationService notificationService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final WalletService walletService;
+	private final AttendanceGroupCommitter groupCommitter;
+	private final TransactionTemplate transactionTemplate;
 
 	@Override
 	public StudentAttendanceDTO mark(StudentAttendanceDTO dto) {
@@ -34,29 +43,35 @@ public class StudentAttendanceServiceImpl implements StudentAttendanceService {
 		Student student = studentRepository.findById(dto.studentId())
 				.orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-		if (dto.attendanceType() == AttendanceType.MESS) {
-			double mealCost = 50.0;
-			if (student.getWalletBalance() < mealCost) {
-				throw new InsufficientBalanceException("Insufficient wallet balance");
-			}
-			student.setWalletBalance(student.getWalletBalance() - mealCost);
-			studentRepository.save(student);
-		}
+		BigDecimal mealCost = dto.attendanceType() == AttendanceType.MESS ? MEAL_COST : null;
 
 		StudentAttendance a = new StudentAttendance();
 		a.setStudent(student);
+		a.setBuilding(student.getBuilding());
 		a.setAttendanceType(dto.attendanceType());
 		a.setAttendanceDate(LocalDate.now());
 		a.setAttendanceTime(LocalTime.now());
 		a.setMealType(dto.mealType());
 		a.setHostelAction(dto.hostelAction());
 
-		StudentAttendance saved = attendanceRepository.save(a);
+		StudentAttendance saved = groupCommitter.accepts() ? groupCommitter.write(a, mealCost, PaymentType.MESS)
+				: null;
+		if (saved == null) {
+			saved = transactionTemplate.execute(status -> {
+				if (mealCost != null) {
+					walletService.debit(student, mealCost, PaymentType.MESS);
+				}
+				return attendanceRepository.save(a);
+			});
+		}
+		eventPublisher.publishEvent(new StudentAttendanceMarkedEvent(saved.getAttendanceId(), student.getStudentId(),
+				saved.getBuilding() != null ? saved.getBuilding().getBuildingId() : null, saved.getAttendanceType(),
+				saved.getHostelAction(), saved.getMealType(), saved.getAttendanceDate(), saved.getAttendanceTime()));
 
 		if (student.getUser() != null) {
 			try {
 				String message = buildAttendanceMessage(saved);
-				notificationService.send(new NotificationDTO(null, student.getUser().getUserId(), "Attendance Marked",
+				notificationService.enqueue(new NotificationDTO(null, student.getUser().getUserId(), "Attendance Marked",
 						message, false, null));
 			} catch (Exception e) {
 				log.error("Failed to send attendance notification to student {}: {}", student.getStudentId(),
@@ -87,7 +102,7 @@ public class StudentAttendanceServiceImpl implements StudentAttendanceService {
 	}
 
 	@Override
-	public List<StudentAttendance> getByStudentId(Long studentId) {
-		return attendanceRepository.findByStudent_StudentIdOrderByAttendanceDateDesc(studentId);
+	public List<StudentAttendanceDTO> getByStudentId(Long studentId) {
+		return attendanceRepository.findHistory(studentId);
 	}
 }
@@ -2,26 +2,23 @@ package com.smart.hostel.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.smart.hostel.dto.NotificationDTO;
 import com.smart.hostel.dto.StudentMessDTO;
 import com.smart.hostel.entity.MessPlan;
-import com.smart.hostel.entity.Payment;
 import com.smart.hostel.entity.PaymentType;
 import com.smart.hostel.entity.Student;
 import com.smart.hostel.entity.StudentMess;
 import com.smart.hostel.entity.User;
-import com.smart.hostel.exception.InsufficientBalanceException;
 import com.smart.hostel.exception.ResourceNotFoundException;
 import com.smart.hostel.repository.MessPlanRepository;
-import com.smart.hostel.repository.PaymentRepository;
 import com.smart.hostel.repository.StudentMessRepository;
 import com.smart.hostel.repository.StudentRepository;
 import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.service.attendance.MessWindowCache;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,10 +32,12 @@ public class StudentMessServiceImpl implements StudentMessService {
 	private final StudentRepository studentRepository;
 	private final MessPlanRepository messPlanRepository;
 	private final UserRepository userRepository;
-	private final PaymentRepository paymentRepository;
 	private final NotificationService notificationService;
+	private final MessWindowCache messWindowCache;
+	private final WalletService walletService;
 
 	@Override
+	@Transactional
 	public StudentMessDTO subscribe(StudentMessDTO dto) {
 
 		Student student = studentRepository.findById(dto.studentId())
@@ -50,15 +49,9 @@ public class StudentMessServiceImpl implements StudentMessService {
 		LocalDate end = dto.endDate() != null ? dto.endDate() : start.plusDays(45);
 
 		int totalMeals = 30 * 3;
-		double totalCost = totalMeals * plan.getPerMealCost().doubleValue();
+		BigDecimal totalCost = plan.getPerMealCost().multiply(BigDecimal.valueOf(totalMeals));
 
-		if (student.getWalletBalance() < totalCost) {
-			throw new InsufficientBalanceException("Insufficient wallet balance. Required: ₹" + totalCost
-					+ ", Available: ₹" + student.getWalletBalance());
-		}
-
-		student.setWalletBalance(student.getWalletBalance() - totalCost);
-		studentRepository.save(student);
+		walletService.debit(student, totalCost, PaymentType.MESS);
 
 		StudentMess sm = new StudentMess();
 		sm.setStudent(student);
@@ -67,20 +60,14 @@ public class StudentMessServiceImpl implements StudentMessService {
 		sm.setEndDate(end);
 		sm.setRemainingMeals(totalMeals);
 		StudentMess saved = studentMessRepository.save(sm);
-
-		Payment payment = new Payment();
-		payment.setStudent(student);
-		payment.setAmount(BigDecimal.valueOf(totalCost).negate());
-		payment.setPaymentType(PaymentType.MESS);
-		payment.setPaymentDate(LocalDateTime.now());
-		paymentRepository.save(payment);
+		messWindowCache.refreshSubscription(student.getStudentId());
 
 		try {
 			NotificationDTO notif = new NotificationDTO(null, student.getUser().getUserId(), "Mess Plan Subscribed",
 					"Subscribed to " + plan.getPlanName() + ". ₹" + totalCost + " deducted. You have " + totalMeals
 							+ " meals.",
 					false, null);
-			notificationService.send(notif);
+			notificationService.enqueue(notif);
 		} catch (Exception e) {
 			log.error("Failed to send notification: {}", e.getMessage());
 		}
@@ -97,11 +84,10 @@ public class StudentMessServiceImpl implements StudentMessService {
 		Student student = studentRepository.findByUser(user)
 				.orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-		List<StudentMess> list = studentMessRepository.findByStudent(student);
-		if (list.isEmpty()) {
+		StudentMess sm = studentMessRepository.findFirstByStudentOrderByIdDesc(student).orElse(null);
+		if (sm == null) {
 			return null;
 		}
-		StudentMess sm = list.get(list.size() - 1);
 
 		return new StudentMessDTO(sm.getId(), sm.getStudent().getStudentId(), sm.getMessPlan().getPlanId(),
 				sm.getStartDate(), sm.getEndDate(), sm.getRemainingMeals());
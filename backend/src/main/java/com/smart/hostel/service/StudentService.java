@@ -1,8 +1,10 @@
 package com.smart.hostel.service;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import com.smart.hostel.dto.ApproveStudentRequest;
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.dto.RegistrationRequest;
 import com.smart.hostel.dto.StudentDTO;
 import com.smart.hostel.dto.StudentStatsDTO;
@@ -21,7 +23,9 @@ public interface StudentService {
 
 	StudentDTO reject(Long studentId);
 
-	List<StudentDTO> getByStatus(StudentStatus status);
+	CursorPage<StudentDTO> getByStatus(StudentStatus status, Long cursor, Integer limit);
+
+	void exportByStatus(StudentStatus status, OutputStream out);
 
 	StudentStatsDTO getStats(String username);
 
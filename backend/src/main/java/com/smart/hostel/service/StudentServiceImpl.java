@@ -1,31 +1,37 @@
 package com.smart.hostel.service;
 
+import java.io.OutputStream;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.dto.NotificationDTO;
 import com.smart.hostel.dto.StudentDTO;
 import com.smart.hostel.dto.StudentStatsDTO;
 import com.smart.hostel.entity.Gender;
 import com.smart.hostel.entity.HostelBuilding;
 import com.smart.hostel.entity.Student;
-import com.smart.hostel.entity.StudentAttendance;
-import com.smart.hostel.entity.StudentMess;
 import com.smart.hostel.entity.StudentStatus;
 import com.smart.hostel.entity.User;
+import com.smart.hostel.event.StudentStatusChangedEvent;
 import com.smart.hostel.exception.ResourceNotFoundException;
 import com.smart.hostel.exception.RoomNotAvailableException;
 import com.smart.hostel.exception.StudentNotFoundException;
 import com.smart.hostel.exception.UserNotFoundException;
 import com.smart.hostel.repository.HostelBuildingRepository;
-import com.smart.hostel.repository.StudentAttendanceRepository;
 import com.smart.hostel.repository.StudentMessRepository;
 import com.smart.hostel.repository.StudentRepository;
 import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.service.paging.JsonArrayStreamer;
+import com.smart.hostel.service.paging.KeysetPager;
+import com.smart.hostel.service.stats.PresentDaysCounter;
 
 import com.smart.hostel.dto.ApproveStudentRequest;
 import com.smart.hostel.dto.RegistrationRequest;
@@ -42,11 +48,14 @@ public class StudentServiceImpl implements StudentService {
 	private final StudentRepository studentRepository;
 	private final HostelBuildingRepository buildingRepository;
 	private final UserRepository userRepository;
-	private final StudentAttendanceRepository attendanceRepository;
 	private final StudentMessRepository messRepository;
 	private final NotificationService notificationService;
 	private final WardenService wardenService;
 	private final UserService userService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PresentDaysCounter presentDaysCounter;
+	private final KeysetPager pager;
+	private final JsonArrayStreamer streamer;
 
 	@Override
 	public StudentDTO register(StudentDTO dto) {
@@ -72,7 +81,7 @@ public class StudentServiceImpl implements StudentService {
 		s.setGender(gender);
 		s.setStatus(StudentStatus.PENDING);
 
-		s.setWalletBalance(0.0);
+		s.setWalletBalance(BigDecimal.ZERO);
 		s.setPaidFee(0.0);
 		s.setIsEmiEnabled(false);
 		s.setEmiAmount(0.0);
@@ -112,6 +121,7 @@ public class StudentServiceImpl implements StudentService {
 	}
 
 	@Override
+	@Transactional
 	public StudentDTO approve(Long studentId, Long buildingId, ApproveStudentRequest request) {
 		Double totalFee = (request != null && request.totalFee() != null) ? request.totalFee() : 0.0;
 		Boolean isEmiEnabled = (request != null && request.isEmiEnabled() != null) ? request.isEmiEnabled() : false;
@@ -124,11 +134,14 @@ public class StudentServiceImpl implements StudentService {
 				.orElseThrow(() -> new ResourceNotFoundException("Building not found"));
 
 		validateRoomAvailability(building);
+		StudentStatus previousStatus = student.getStatus();
 		updateStudentApprovalDetails(student, building, totalFee, isEmiEnabled, emiAmount, roomNumber);
 		updateBuildingCapacity(building);
 
 		studentRepository.save(student);
 		buildingRepository.save(building);
+		eventPublisher.publishEvent(new StudentStatusChangedEvent(student.getStudentId(), building.getBuildingId(),
+				previousStatus, StudentStatus.APPROVED));
 
 		sendApprovalNotification(student);
 
@@ -163,7 +176,7 @@ public class StudentServiceImpl implements StudentService {
 	private void sendApprovalNotification(Student student) {
 		if (student.getUser() != null) {
 			try {
-				notificationService.send(new NotificationDTO(null, student.getUser().getUserId(),
+				notificationService.enqueue(new NotificationDTO(null, student.getUser().getUserId(),
 						"Registration Approved",
 						"Welcome! Your registration has been approved. Assigned Room: " + student.getRoomNumber(),
 						false, null));
@@ -175,15 +188,20 @@ public class StudentServiceImpl implements StudentService {
 	}
 
 	@Override
+	@Transactional
 	public StudentDTO reject(Long studentId) {
 		Student s = studentRepository.findById(studentId)
 				.orElseThrow(() -> new ResourceNotFoundException("Student not found"));
+		StudentStatus previousStatus = s.getStatus();
 		s.setStatus(StudentStatus.REJECTED);
 		studentRepository.save(s);
+		eventPublisher.publishEvent(new StudentStatusChangedEvent(s.getStudentId(),
+				s.getBuilding() != null ? s.getBuilding().getBuildingId() : null, previousStatus,
+				StudentStatus.REJECTED));
 
 		if (s.getUser() != null) {
 			try {
-				notificationService.send(new NotificationDTO(null, s.getUser().getUserId(), "Registration Rejected",
+				notificationService.enqueue(new NotificationDTO(null, s.getUser().getUserId(), "Registration Rejected",
 						"Sorry, your hostel registration has been rejected. Please contact the warden for details.",
 						false, null));
 			} catch (Exception e) {
@@ -195,16 +213,18 @@ public class StudentServiceImpl implements StudentService {
 	}
 
 	@Override
-	public List<StudentDTO> getByStatus(StudentStatus status) {
-		List<Student> list = studentRepository.findByStatus(status);
-		List<StudentDTO> dtos = new ArrayList<>();
-		for (Student s : list) {
-			dtos.add(mapToDTO(s));
-		}
-		return dtos;
+	public CursorPage<StudentDTO> getByStatus(StudentStatus status, Long cursor, Integer limit) {
+		List<StudentDTO> rows = studentRepository.findPageByStatus(status, pager.after(cursor), pager.limit(limit));
+		return pager.page(rows, limit, StudentDTO::studentId, Function.identity());
+	}
+
+	@Override
+	public void exportByStatus(StudentStatus status, OutputStream out) {
+		streamer.write(out, () -> studentRepository.streamByStatus(status), Function.identity());
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public StudentStatsDTO getStats(String username) {
 		User user = userRepository.findByUsername(username)
 				.orElseThrow(() -> new UserNotFoundException("User not found"));
@@ -226,12 +246,11 @@ public class StudentServiceImpl implements StudentService {
 	}
 
 	private StudentStatsDTO createDefaultStats() {
-		return new StudentStatsDTO("0%", "N/A", "N/A", "N/A", 0.0, 0.0, 0.0, false, 0.0, "UNKNOWN", null, false);
+		return new StudentStatsDTO("0%", "N/A", "N/A", "N/A", BigDecimal.ZERO, 0.0, 0.0, false, 0.0, "UNKNOWN", null, false);
 	}
 
 	private String calculateAttendancePercentage(Student student) {
-		List<StudentAttendance> attendances = attendanceRepository.findByStudent(student);
-		int presentCount = attendances.size();
+		long presentCount = presentDaysCounter.presentDays(student.getStudentId());
 
 		if (student.getUser().getCreatedAt() != null) {
 			LocalDate joinDate = student.getUser().getCreatedAt().toLocalDate();
@@ -245,15 +264,12 @@ public class StudentServiceImpl implements StudentService {
 	}
 
 	private String determineMessStatus(Student student) {
-		List<StudentMess> messSubs = messRepository.findByStudent(student);
-		if (messSubs.isEmpty()) {
-			return "Inactive";
-		}
-		StudentMess active = messSubs.get(messSubs.size() - 1);
-		return active.getEndDate().isAfter(LocalDate.now()) ? "Active" : "Expired";
+		return messRepository.findFirstByStudentOrderByIdDesc(student)
+				.map(sub -> sub.getEndDate().isAfter(LocalDate.now()) ? "Active" : "Expired").orElse("Inactive");
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public StudentDTO getStudentByUsername(String username) {
 		User user = userRepository.findByUsername(username)
 				.orElseThrow(() -> new UserNotFoundException("User not found"));
@@ -265,15 +281,11 @@ public class StudentServiceImpl implements StudentService {
 
 	@Override
 	public List<StudentDTO> searchStudents(String query) {
-		List<Student> students = studentRepository.searchStudentsWithUser(query);
-		List<StudentDTO> dtos = new ArrayList<>();
-		for (Student s : students) {
-			dtos.add(mapToDTO(s));
-		}
-		return dtos;
+		return studentRepository.searchStudentsWithUser(query);
 	}
 
 	@Override
+	@Transactional
 	public StudentDTO selectPaymentMethod(Long studentId, Boolean isEmi, Double emiAmount) {
 		Student s = studentRepository.findById(studentId)
 				.orElseThrow(() -> new ResourceNotFoundException("Student not found"));
@@ -298,7 +310,7 @@ public class StudentServiceImpl implements StudentService {
 		s.setGender(gender);
 		s.setStatus(StudentStatus.APPROVED);
 
-		s.setWalletBalance(0.0);
+		s.setWalletBalance(BigDecimal.ZERO);
 		s.setPaidFee(0.0);
 		s.setIsEmiEnabled(false);
 		s.setEmiAmount(0.0);
@@ -324,10 +336,14 @@ public class StudentServiceImpl implements StudentService {
 		}
 
 		Student saved = studentRepository.save(s);
+		eventPublisher.publishEvent(new StudentStatusChangedEvent(saved.getStudentId(),
+				saved.getBuilding() != null ? saved.getBuilding().getBuildingId() : null, null,
+				StudentStatus.APPROVED));
 		return mapToDTO(saved);
 	}
 
 	@Override
+	@Transactional
 	public StudentDTO updateStudentDetails(Long studentId, StudentDTO dto) {
 		Student s = studentRepository.findById(studentId)
 				.orElseThrow(() -> new ResourceNotFoundException("Student not found"));
@@ -349,14 +365,10 @@ public class StudentServiceImpl implements StudentService {
 
 	@Override
 	public List<StudentDTO> getStudentsByBuilding(Long buildingId) {
-		HostelBuilding b = buildingRepository.findById(buildingId)
-				.orElseThrow(() -> new ResourceNotFoundException("Building not found"));
-		List<Student> students = studentRepository.findByBuilding(b);
-		List<StudentDTO> dtos = new ArrayList<>();
-		for (Student st : students) {
-			dtos.add(mapToDTO(st));
+		if (buildingRepository.findById(buildingId).isEmpty()) {
+			throw new ResourceNotFoundException("Building not found");
 		}
-		return dtos;
+		return studentRepository.findByBuildingId(buildingId);
 	}
 
 	@Override
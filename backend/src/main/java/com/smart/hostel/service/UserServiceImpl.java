@@ -8,6 +8,7 @@ import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.smart.hostel.dto.UserDTO;
 import com.smart.hostel.entity.Role;
@@ -72,6 +73,7 @@ public class UserServiceImpl implements UserService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public UserDTO getByUsername(String username) {
 		User user = userRepository.findByUsername(username).orElse(null);
 		if (user == null)
@@ -129,6 +131,7 @@ public class UserServiceImpl implements UserService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<UserDTO> getUsersByRole(String roleName) {
 		List<User> users = userRepository.findByRole_RoleName(roleName);
 		List<UserDTO> dtos = new ArrayList<>();
@@ -1,7 +1,9 @@
 package com.smart.hostel.service;
 
+import java.io.OutputStream;
 import java.util.List;
 
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.dto.VisitorDTO;
 import com.smart.hostel.entity.VisitorStatus;
 
@@ -10,7 +12,9 @@ public interface VisitorService {
 
 	List<VisitorDTO> getByStudent(Long studentId);
 
-	List<VisitorDTO> getRecent();
+	CursorPage<VisitorDTO> getRecent(Long cursor, Integer limit);
+
+	void exportRecent(OutputStream out);
 
 	VisitorDTO createRequest(VisitorDTO dto);
 
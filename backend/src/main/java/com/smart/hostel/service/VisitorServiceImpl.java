@@ -1,19 +1,26 @@
 package com.smart.hostel.service;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.smart.hostel.dto.CursorPage;
 import com.smart.hostel.dto.NotificationDTO;
 import com.smart.hostel.dto.VisitorDTO;
 import com.smart.hostel.entity.Student;
 import com.smart.hostel.entity.Visitor;
 import com.smart.hostel.entity.VisitorStatus;
+import com.smart.hostel.event.VisitorChangedEvent;
 import com.smart.hostel.exception.ResourceNotFoundException;
 import com.smart.hostel.repository.StudentRepository;
 import com.smart.hostel.repository.VisitorRepository;
+import com.smart.hostel.service.paging.JsonArrayStreamer;
+import com.smart.hostel.service.paging.KeysetPager;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +33,9 @@ public class VisitorServiceImpl implements VisitorService {
 	private final VisitorRepository visitorRepository;
 	private final StudentRepository studentRepository;
 	private final NotificationService notificationService;
+	private final KeysetPager pager;
+	private final JsonArrayStreamer streamer;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	public VisitorDTO log(VisitorDTO dto) {
@@ -51,28 +61,26 @@ public class VisitorServiceImpl implements VisitorService {
 
 		Visitor saved = visitorRepository.save(v);
 
-		return mapToDTO(saved);
+		return publish(saved, null);
 	}
 
 	@Override
 	public List<VisitorDTO> getByStudent(Long studentId) {
-		Student student = studentRepository.findById(studentId)
-				.orElseThrow(() -> new ResourceNotFoundException("Student not found"));
-		List<VisitorDTO> list = new ArrayList<>();
-
-		for (Visitor v : visitorRepository.findByStudent(student)) {
-			list.add(mapToDTO(v));
+		if (!studentRepository.existsById(studentId)) {
+			throw new ResourceNotFoundException("Student not found");
 		}
-		return list;
+		return visitorRepository.findByStudentId(studentId);
 	}
 
 	@Override
-	public List<VisitorDTO> getRecent() {
-		List<VisitorDTO> list = new ArrayList<>();
-		for (Visitor v : visitorRepository.findAll()) {
-			list.add(mapToDTO(v));
-		}
-		return list;
+	public CursorPage<VisitorDTO> getRecent(Long cursor, Integer limit) {
+		List<VisitorDTO> rows = visitorRepository.findPageBefore(pager.before(cursor), pager.limit(limit));
+		return pager.page(rows, limit, VisitorDTO::visitorId, Function.identity());
+	}
+
+	@Override
+	public void exportRecent(OutputStream out) {
+		streamer.write(out, visitorRepository::streamAllNewestFirst, Function.identity());
 	}
 
 	@Override
@@ -89,14 +97,16 @@ public class VisitorServiceImpl implements VisitorService {
 		v.setStatus(VisitorStatus.PENDING);
 
 		Visitor saved = visitorRepository.save(v);
-		return mapToDTO(saved);
+		return publish(saved, null);
 	}
 
 	@Override
+	@Transactional
 	public VisitorDTO updateStatus(Long visitorId, VisitorStatus status) {
 		Visitor v = visitorRepository.findById(visitorId)
 				.orElseThrow(() -> new ResourceNotFoundException("Visitor request not found"));
 
+		VisitorStatus previousStatus = v.getStatus();
 		v.setStatus(status);
 		if (status == VisitorStatus.CHECKED_IN) {
 			v.setInTime(LocalDateTime.now());
@@ -109,26 +119,27 @@ public class VisitorServiceImpl implements VisitorService {
 		// Notify Student
 		if (saved.getStudent() != null && saved.getStudent().getUser() != null) {
 			try {
-				notificationService.send(
+				notificationService.enqueue(
 						new NotificationDTO(null, saved.getStudent().getUser().getUserId(), "Visitor Status Updated",
 								"Visitor " + saved.getVisitorName() + " is now " + saved.getStatus(), false, null));
 			} catch (Exception e) {
 				log.error("Failed to send visitor notification: {}", e.getMessage());
 			}
 		}
-		return mapToDTO(saved);
+		return publish(saved, previousStatus);
 	}
 
 	@Override
 	public List<VisitorDTO> getPendingRequestsByBuilding(Long buildingId) {
-		List<VisitorDTO> list = new ArrayList<>();
-		List<Visitor> visitors = visitorRepository.findByStudent_Building_BuildingIdAndStatus(buildingId,
-				VisitorStatus.PENDING);
+		return visitorRepository.findByBuildingAndStatus(buildingId, VisitorStatus.PENDING);
+	}
 
-		for (Visitor v : visitors) {
-			list.add(mapToDTO(v));
-		}
-		return list;
+	private VisitorDTO publish(Visitor saved, VisitorStatus previousStatus) {
+		VisitorDTO dto = mapToDTO(saved);
+		Long buildingId = saved.getStudent().getBuilding() != null ? saved.getStudent().getBuilding().getBuildingId()
+				: null;
+		eventPublisher.publishEvent(new VisitorChangedEvent(dto, buildingId, previousStatus));
+		return dto;
 	}
 
 	private VisitorDTO mapToDTO(Visitor v) {
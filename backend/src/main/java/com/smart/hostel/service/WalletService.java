@@ -0,0 +1,14 @@
+package com.smart.hostel.service;
+
+import java.math.BigDecimal;
+
+import com.smart.hostel.entity.Payment;
+import com.smart.hostel.entity.PaymentType;
+import com.smart.hostel.entity.Student;
+
+public interface WalletService {
+
+	Payment debit(Student student, BigDecimal amount, PaymentType type);
+
+	Payment credit(Student student, BigDecimal amount, PaymentType type);
+}
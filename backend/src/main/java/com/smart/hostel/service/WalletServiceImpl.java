@@ -0,0 +1,66 @@
+package com.smart.hostel.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.smart.hostel.entity.Payment;
+import com.smart.hostel.entity.PaymentType;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.exception.BadRequestException;
+import com.smart.hostel.exception.InsufficientBalanceException;
+import com.smart.hostel.exception.ResourceNotFoundException;
+import com.smart.hostel.repository.PaymentRepository;
+import com.smart.hostel.repository.StudentRepository;
+
+import lombok.AllArgsConstructor;
+
+@Service
+@AllArgsConstructor
+public class WalletServiceImpl implements WalletService {
+
+	private final StudentRepository studentRepository;
+	private final PaymentRepository paymentRepository;
+
+	@Override
+	@Transactional
+	public Payment debit(Student student, BigDecimal amount, PaymentType type) {
+		requirePositive(amount);
+		if (studentRepository.debitWallet(student.getStudentId(), amount) == 0) {
+			BigDecimal available = studentRepository.findWalletBalance(student.getStudentId());
+			if (available == null) {
+				throw new ResourceNotFoundException("Student not found");
+			}
+			throw new InsufficientBalanceException(
+					"Insufficient wallet balance. Required: ₹" + amount + ", Available: ₹" + available);
+		}
+		return record(student, amount.negate(), type);
+	}
+
+	@Override
+	@Transactional
+	public Payment credit(Student student, BigDecimal amount, PaymentType type) {
+		requirePositive(amount);
+		if (studentRepository.creditWallet(student.getStudentId(), amount) == 0) {
+			throw new ResourceNotFoundException("Student not found");
+		}
+		return record(student, amount, type);
+	}
+
+	private void requirePositive(BigDecimal amount) {
+		if (amount == null || amount.signum() <= 0) {
+			throw new BadRequestException("Wallet amount must be positive");
+		}
+	}
+
+	private Payment record(Student student, BigDecimal amount, PaymentType type) {
+		Payment payment = new Payment();
+		payment.setStudent(student);
+		payment.setAmount(amount);
+		payment.setPaymentType(type);
+		payment.setPaymentDate(LocalDateTime.now());
+		return paymentRepository.save(payment);
+	}
+}
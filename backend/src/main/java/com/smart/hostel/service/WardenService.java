@@ -1,5 +1,9 @@
 package com.smart.hostel.service;
 
+import java.util.List;
+
+import com.smart.hostel.dto.BuildingPresenceDTO;
+import com.smart.hostel.dto.StudentPresenceDTO;
 import com.smart.hostel.dto.WardenDashboardStatsDTO;
 import com.smart.hostel.dto.WardenProfileDTO;
 
@@ -7,4 +11,8 @@ public interface WardenService {
 	WardenDashboardStatsDTO getDashboardStats(String username);
 
 	WardenProfileDTO getProfile(String username);
+
+	List<BuildingPresenceDTO> getPresence(String username);
+
+	List<StudentPresenceDTO> getStudentsOut(String username, Long buildingId);
 }
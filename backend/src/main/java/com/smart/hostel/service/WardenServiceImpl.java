@@ -1,20 +1,27 @@
 package com.smart.hostel.service;
 
-import java.time.LocalDate;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.smart.hostel.dto.BuildingPresenceDTO;
+import com.smart.hostel.dto.StudentPresenceDTO;
 import com.smart.hostel.dto.WardenDashboardStatsDTO;
 import com.smart.hostel.dto.WardenProfileDTO;
 import com.smart.hostel.entity.HostelBuilding;
 import com.smart.hostel.entity.Staff;
 import com.smart.hostel.entity.StaffBuildingMap;
+import com.smart.hostel.entity.Student;
 import com.smart.hostel.entity.StudentStatus;
+import com.smart.hostel.exception.UnauthorizedException;
 import com.smart.hostel.repository.StaffBuildingMapRepository;
-import com.smart.hostel.repository.StudentAttendanceRepository;
 import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.repository.StudentRepository.BuildingCount;
+import com.smart.hostel.service.stats.BuildingPresenceIndex;
+import com.smart.hostel.service.stats.BuildingStatsCache;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,8 +32,9 @@ import lombok.extern.slf4j.Slf4j;
 public class WardenServiceImpl implements WardenService {
 
 	private final StudentRepository studentRepository;
-	private final StudentAttendanceRepository attendanceRepository;
+	private final BuildingStatsCache buildingStatsCache;
 	private final StaffBuildingMapRepository staffBuildingMapRepo;
+	private final BuildingPresenceIndex presenceIndex;
 
 	@Override
 	public WardenDashboardStatsDTO getDashboardStats(String username) {
@@ -36,19 +44,16 @@ public class WardenServiceImpl implements WardenService {
 			return new WardenDashboardStatsDTO(0, 0, 0, 0);
 		}
 
-		List<HostelBuilding> myBuildings = maps.stream().map(StaffBuildingMap::getBuilding)
-				.collect(Collectors.toList());
-		long totalStudents = studentRepository.findByStatus(StudentStatus.APPROVED).stream()
-				.filter(s -> myBuildings.contains(s.getBuilding())).count();
-		long pendingApprovals = studentRepository.findByStatus(StudentStatus.PENDING).size();
+		List<HostelBuilding> myBuildings = maps.stream().map(StaffBuildingMap::getBuilding).distinct().toList();
+		List<Long> buildingIds = myBuildings.stream().map(HostelBuilding::getBuildingId).toList();
 
-		long roomsAvailable = myBuildings.stream().mapToLong(HostelBuilding::getAvailableRooms).sum();
+		BuildingStatsCache.Totals totals = buildingStatsCache.totals(buildingIds);
+		long pendingApprovals = studentRepository.countByStatus(StudentStatus.PENDING);
 
-		long todaysAttendance = attendanceRepository.findByAttendanceDate(LocalDate.now()).stream()
-				.filter(a -> myBuildings.contains(a.getBuilding())) // Attendance has building ref
-				.map(a -> a.getStudent().getStudentId()).distinct().count();
+		long roomsAvailable = myBuildings.stream().mapToLong(HostelBuilding::getAvailableRooms).sum();
 
-		return new WardenDashboardStatsDTO(totalStudents, pendingApprovals, roomsAvailable, todaysAttendance);
+		return new WardenDashboardStatsDTO(totals.approvedStudents(), pendingApprovals, roomsAvailable,
+				totals.presentToday());
 	}
 
 	@Override
@@ -86,4 +91,42 @@ public class WardenServiceImpl implements WardenService {
 		log.debug("WardenProfile for {} -> BuildingId: {}, ManagesMess: {}", username, buildingId, managesMess);
 		return new WardenProfileDTO(staffId, fullName, buildingId, buildingName, managesMess, email, phoneNumber);
 	}
+
+	@Override
+	public List<BuildingPresenceDTO> getPresence(String username) {
+		List<HostelBuilding> buildings = staffBuildingMapRepo.findByStaff_User_Username(username).stream()
+				.map(StaffBuildingMap::getBuilding).distinct().toList();
+		if (buildings.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Long> residents = studentRepository
+				.countByStatusGroupedByBuilding(StudentStatus.APPROVED,
+						buildings.stream().map(HostelBuilding::getBuildingId).toList())
+				.stream().collect(Collectors.toMap(BuildingCount::getBuildingId, BuildingCount::getTotal));
+
+		return buildings.stream().map(b -> {
+			long total = residents.getOrDefault(b.getBuildingId(), 0L);
+			long inside = presenceIndex.occupancy(b.getBuildingId());
+			return new BuildingPresenceDTO(b.getBuildingId(), b.getBuildingName(), total, inside,
+					Math.max(total - inside, 0));
+		}).toList();
+	}
+
+	@Override
+	public List<StudentPresenceDTO> getStudentsOut(String username, Long buildingId) {
+		boolean managed = staffBuildingMapRepo.findByStaff_User_Username(username).stream()
+				.anyMatch(m -> m.getBuilding().getBuildingId().equals(buildingId));
+		if (!managed) {
+			throw new UnauthorizedException("You are not assigned to this building");
+		}
+		BitSet inside = presenceIndex.inside(buildingId);
+		return studentRepository.findResidents(buildingId, StudentStatus.APPROVED).stream()
+				.filter(s -> !inside.get(Math.toIntExact(s.getStudentId()))).map(this::toPresenceDto).toList();
+	}
+
+	private StudentPresenceDTO toPresenceDto(Student s) {
+		return new StudentPresenceDTO(s.getStudentId(), s.getFullName(), s.getRoomNumber(),
+				s.getUser() != null ? s.getUser().getPhoneNumber() : null);
+	}
 }
@@ -0,0 +1,251 @@
+package com.smart.hostel.service.attendance;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.smart.hostel.entity.Payment;
+import com.smart.hostel.entity.PaymentType;
+import com.smart.hostel.entity.StudentAttendance;
+import com.smart.hostel.exception.InsufficientBalanceException;
+import com.smart.hostel.repository.AttendanceBatchRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceGroupCommitter {
+
+	private final AttendanceBatchRepository attendanceBatchRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.attendance.group-commit.enabled:false}")
+	private boolean enabled;
+
+	@Value("${app.attendance.group-commit.window-ms:5}")
+	private long windowMs;
+
+	@Value("${app.attendance.group-commit.max-batch:64}")
+	private int maxBatch;
+
+	@Value("${app.attendance.group-commit.timeout-ms:2000}")
+	private long timeoutMs;
+
+	private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+	private ExecutorService executor;
+	private volatile boolean running;
+
+	private DistributionSummary batchSize;
+	private Timer commitTimer;
+	private Timer waitTimer;
+	private Counter rejected;
+	private Counter bypassed;
+
+	@PostConstruct
+	void start() {
+		if (!enabled) {
+			return;
+		}
+		meterRegistry.gauge("attendance.group_commit.queue.depth", queue, BlockingQueue::size);
+		batchSize = DistributionSummary.builder("attendance.group_commit.batch.size").publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+		commitTimer = Timer.builder("attendance.group_commit.commit").publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+		waitTimer = Timer.builder("attendance.group_commit.wait").publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+		rejected = meterRegistry.counter("attendance.group_commit.rejected");
+		bypassed = meterRegistry.counter("attendance.group_commit.bypassed");
+
+		running = true;
+		executor = Executors.newSingleThreadExecutor(r -> {
+			Thread t = new Thread(r, "attendance-group-commit");
+			t.setDaemon(true);
+			return t;
+		});
+		executor.submit(this::drain);
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		if (executor == null) {
+			return;
+		}
+		running = false;
+		executor.shutdown();
+		if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+			log.warn("Attendance group commit did not drain in time, {} writes left", queue.size());
+			executor.shutdownNow();
+		}
+	}
+
+	public boolean accepts() {
+		return running && !TransactionSynchronizationManager.isActualTransactionActive();
+	}
+
+	/**
+	 * Hands the row to the writer thread and waits for its batch to commit. Returns {@code null} when the row was never
+	 * picked up (the committer is stopped, or the writer did not reach it in time); the caller must then write it
+	 * itself.
+	 */
+	public StudentAttendance write(StudentAttendance row, BigDecimal walletDebit, PaymentType debitType) {
+		if (!running) {
+			return null;
+		}
+		PendingWrite pending = new PendingWrite(row, walletDebit, debitType);
+		queue.add(pending);
+		if (!running && queue.remove(pending)) {
+			bypassed.increment();
+			return null;
+		}
+		try {
+			row.setAttendanceId(pending.result.get(timeoutMs, TimeUnit.MILLISECONDS));
+			return row;
+		} catch (TimeoutException e) {
+			if (queue.remove(pending)) {
+				log.warn("Attendance group commit did not pick up a write within {} ms, writing directly", timeoutMs);
+				bypassed.increment();
+				return null;
+			}
+			throw new IllegalStateException("Timed out waiting for attendance commit", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for attendance commit", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("Attendance commit failed", e.getCause());
+		}
+	}
+
+	private void drain() {
+		try {
+			drainQueue();
+		} finally {
+			running = false;
+		}
+	}
+
+	private void drainQueue() {
+		List<PendingWrite> batch = new ArrayList<>(maxBatch);
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingWrite first = queue.poll(1, TimeUnit.SECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+				while (batch.size() < maxBatch) {
+					long remaining = deadline - System.nanoTime();
+					PendingWrite next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+				batchSize.record(batch.size());
+				commitTimer.record(() -> flush(batch));
+				complete(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				fail(batch, e);
+				return;
+			} catch (Exception e) {
+				log.error("Failed to commit {} attendance rows: {}", batch.size(), e.getMessage());
+				fail(batch, e);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<PendingWrite> batch) {
+		transactionTemplate.executeWithoutResult(status -> {
+			List<PendingWrite> debits = batch.stream().filter(p -> p.walletDebit != null).toList();
+			if (!debits.isEmpty()) {
+				int[] counts = attendanceBatchRepository.debitWallets(
+						debits.stream().map(p -> p.row.getStudent().getStudentId()).toList(),
+						debits.stream().map(p -> p.walletDebit).toList());
+				List<Payment> ledger = new ArrayList<>();
+				for (int i = 0; i < debits.size(); i++) {
+					PendingWrite p = debits.get(i);
+					if (counts[i] != 1) {
+						p.error = new InsufficientBalanceException("Insufficient wallet balance");
+						continue;
+					}
+					Payment debit = new Payment();
+					debit.setStudent(p.row.getStudent());
+					debit.setAmount(p.walletDebit.negate());
+					debit.setPaymentType(p.debitType);
+					debit.setPaymentDate(LocalDateTime.now());
+					ledger.add(debit);
+				}
+				attendanceBatchRepository.insertPayments(ledger);
+			}
+
+			List<PendingWrite> accepted = batch.stream().filter(p -> p.error == null).toList();
+			List<Long> ids = attendanceBatchRepository.insertAttendance(accepted.stream().map(p -> p.row).toList());
+			for (int i = 0; i < accepted.size(); i++) {
+				accepted.get(i).id = ids.get(i);
+			}
+		});
+	}
+
+	private void complete(List<PendingWrite> batch) {
+		for (PendingWrite p : batch) {
+			waitTimer.record(System.nanoTime() - p.enqueuedAt, TimeUnit.NANOSECONDS);
+			if (p.error != null) {
+				rejected.increment();
+				p.result.completeExceptionally(p.error);
+			} else {
+				p.result.complete(p.id);
+			}
+		}
+	}
+
+	private void fail(List<PendingWrite> batch, Exception e) {
+		for (PendingWrite p : batch) {
+			p.result.completeExceptionally(e);
+		}
+	}
+
+	private static final class PendingWrite {
+		private final StudentAttendance row;
+		private final BigDecimal walletDebit;
+		private final PaymentType debitType;
+		private final long enqueuedAt = System.nanoTime();
+		private final CompletableFuture<Long> result = new CompletableFuture<>();
+		private RuntimeException error;
+		private Long id;
+
+		private PendingWrite(StudentAttendance row, BigDecimal walletDebit, PaymentType debitType) {
+			this.row = row;
+			this.walletDebit = walletDebit;
+			this.debitType = debitType;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.smart.hostel.service.attendance;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.HostelAction;
+import com.smart.hostel.entity.StudentAttendance;
+import com.smart.hostel.event.StudentAttendanceMarkedEvent;
+import com.smart.hostel.repository.StudentAttendanceRepository;
+
+@Component
+public class HostelActionCache {
+
+	private final StudentAttendanceRepository attendanceRepository;
+	private final Cache<Long, HostelAction> lastActions;
+
+	public HostelActionCache(StudentAttendanceRepository attendanceRepository,
+			@Value("${app.attendance.hostel.last-action.max-size:50000}") long maxSize,
+			@Value("${app.attendance.hostel.last-action.expire-minutes:60}") long expireMinutes) {
+		this.attendanceRepository = attendanceRepository;
+		this.lastActions = Caffeine.newBuilder().maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofMinutes(expireMinutes)).build();
+	}
+
+	public HostelAction last(Long studentId) {
+		return lastActions.get(studentId, this::load);
+	}
+
+	public Map<Long, HostelAction> last(Collection<Long> studentIds) {
+		return lastActions.getAll(studentIds, this::loadAll);
+	}
+
+	public static HostelAction next(HostelAction last) {
+		return last == HostelAction.IN ? HostelAction.OUT : HostelAction.IN;
+	}
+
+	private void record(Long studentId, HostelAction action) {
+		if (action != null) {
+			lastActions.put(studentId, action);
+		}
+	}
+
+	/**
+	 * Runs ahead of other completion callbacks so the new action is cached before a held student lane is released.
+	 */
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAttendanceMarked(StudentAttendanceMarkedEvent event) {
+		if (event.attendanceType() == AttendanceType.HOSTEL) {
+			record(event.studentId(), event.hostelAction());
+		}
+	}
+
+	private HostelAction load(Long studentId) {
+		return attendanceRepository
+				.findFirstByStudent_StudentIdAndAttendanceTypeOrderByAttendanceDateDescAttendanceTimeDesc(studentId,
+						AttendanceType.HOSTEL)
+				.map(StudentAttendance::getHostelAction).orElse(HostelAction.OUT);
+	}
+
+	private Map<Long, HostelAction> loadAll(Set<? extends Long> studentIds) {
+		Map<Long, HostelAction> loaded = new HashMap<>();
+		for (Long studentId : studentIds) {
+			loaded.put(studentId, HostelAction.OUT);
+		}
+		for (var latest : attendanceRepository.findLatestActions(List.copyOf(studentIds),
+				AttendanceType.HOSTEL)) {
+			if (latest.getHostelAction() != null) {
+				loaded.put(latest.getStudentId(), latest.getHostelAction());
+			}
+		}
+		return loaded;
+	}
+}
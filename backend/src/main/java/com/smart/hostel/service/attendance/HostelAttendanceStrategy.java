@@ -1,12 +1,14 @@
 package com.smart.hostel.service.attendance;
 
+import java.util.List;
+
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.smart.hostel.dto.StudentAttendanceDTO;
 import com.smart.hostel.entity.AttendanceType;
 import com.smart.hostel.entity.HostelAction;
 import com.smart.hostel.entity.Student;
-import com.smart.hostel.repository.StudentAttendanceRepository;
 import com.smart.hostel.service.StudentAttendanceService;
 
 import lombok.RequiredArgsConstructor;
@@ -18,7 +20,8 @@ import lombok.extern.slf4j.Slf4j;
 public class HostelAttendanceStrategy implements AttendanceStrategy {
 
 	private final StudentAttendanceService studentAttendanceService;
-	private final StudentAttendanceRepository studentAttendanceRepository;
+	private final HostelActionCache hostelActionCache;
+	private final StudentLaneExecutor laneExecutor;
 
 	@Override
 	public boolean supports(AttendanceType type) {
@@ -29,19 +32,17 @@ public class HostelAttendanceStrategy implements AttendanceStrategy {
 	public StudentAttendanceDTO mark(Student student, AttendanceType type) {
 		log.info("Marking Hostel attendance for student: {}", student.getStudentId());
 
-		HostelAction nextAction = HostelAction.IN;
-
-		var lastAttendance = studentAttendanceRepository
-				.findFirstByStudent_StudentIdAndAttendanceTypeOrderByAttendanceDateDescAttendanceTimeDesc(
-						student.getStudentId(), AttendanceType.HOSTEL);
-
-		if (lastAttendance.isPresent()) {
-			HostelAction lastAction = lastAttendance.get().getHostelAction();
-			nextAction = (lastAction == HostelAction.IN) ? HostelAction.OUT : HostelAction.IN;
-			log.info("Last action was {}, next action will be {}", lastAction, nextAction);
-		} else {
-			log.info("No previous hostel attendance found, defaulting to IN");
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			laneExecutor.holdUntilCompletion(List.of(student.getStudentId()));
+			return toggle(student, type);
 		}
+		return laneExecutor.execute(student.getStudentId(), () -> toggle(student, type));
+	}
+
+	private StudentAttendanceDTO toggle(Student student, AttendanceType type) {
+		HostelAction lastAction = hostelActionCache.last(student.getStudentId());
+		HostelAction nextAction = HostelActionCache.next(lastAction);
+		log.info("Last action was {}, next action will be {}", lastAction, nextAction);
 
 		StudentAttendanceDTO dto = new StudentAttendanceDTO(null, student.getStudentId(),
 				student.getBuilding() != null ? student.getBuilding().getBuildingId() : null, type, nextAction, null,
@@ -0,0 +1,28 @@
+package com.smart.hostel.service.attendance;
+
+import java.time.LocalTime;
+
+import com.smart.hostel.entity.MealType;
+import com.smart.hostel.exception.MenuNotAvailableException;
+
+final class MealSchedule {
+
+	private MealSchedule() {
+	}
+
+	static MealType current() {
+		return at(LocalTime.now());
+	}
+
+	static MealType at(LocalTime now) {
+		if (now.isAfter(LocalTime.of(7, 0)) && now.isBefore(LocalTime.of(11, 0))) {
+			return MealType.BREAKFAST;
+		} else if (now.isAfter(LocalTime.of(12, 0)) && now.isBefore(LocalTime.of(14, 0))) {
+			return MealType.LUNCH;
+		} else if (now.isAfter(LocalTime.of(19, 0)) && now.isBefore(LocalTime.of(22, 0))) {
+			return MealType.DINNER;
+		}
+		throw new MenuNotAvailableException(
+				"Mess is currently closed. Allowed timings: Breakfast (7-11), Lunch (12-2), Dinner (7-10)");
+	}
+}
@@ -0,0 +1,99 @@
+package com.smart.hostel.service.attendance;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.smart.hostel.entity.MealType;
+
+final class MessWindow {
+
+	private final LocalDate date;
+	private final MealType mealType;
+	private final BitSet served = new BitSet();
+	private final Map<Long, MealBalance> subscriptions = new ConcurrentHashMap<>();
+	private volatile Map<MealType, Double> prices = new EnumMap<>(MealType.class);
+
+	MessWindow(LocalDate date, MealType mealType) {
+		this.date = date;
+		this.mealType = mealType;
+	}
+
+	LocalDate date() {
+		return date;
+	}
+
+	MealType mealType() {
+		return mealType;
+	}
+
+	boolean matches(LocalDate date, MealType mealType) {
+		return this.date.equals(date) && this.mealType == mealType;
+	}
+
+	synchronized boolean isServed(Long studentId) {
+		return served.get(Math.toIntExact(studentId));
+	}
+
+	synchronized boolean markServed(Long studentId) {
+		int bit = Math.toIntExact(studentId);
+		if (served.get(bit)) {
+			return false;
+		}
+		served.set(bit);
+		return true;
+	}
+
+	synchronized void unmarkServed(Long studentId) {
+		served.clear(Math.toIntExact(studentId));
+	}
+
+	MealBalance subscription(Long studentId) {
+		return subscriptions.get(studentId);
+	}
+
+	void putSubscription(Long studentId, MealBalance balance) {
+		if (balance == null) {
+			subscriptions.remove(studentId);
+		} else {
+			subscriptions.put(studentId, balance);
+		}
+	}
+
+	Double price() {
+		return prices.get(mealType);
+	}
+
+	void setPrices(Map<MealType, Double> prices) {
+		this.prices = prices;
+	}
+
+	static final class MealBalance {
+		private final Long subscriptionId;
+		private final AtomicInteger remaining;
+
+		MealBalance(Long subscriptionId, Integer remaining) {
+			this.subscriptionId = subscriptionId;
+			this.remaining = new AtomicInteger(remaining != null ? remaining : 0);
+		}
+
+		Long subscriptionId() {
+			return subscriptionId;
+		}
+
+		int remaining() {
+			return remaining.get();
+		}
+
+		int consume() {
+			return remaining.updateAndGet(r -> Math.max(r - 1, 0));
+		}
+
+		void exhaust() {
+			remaining.set(0);
+		}
+	}
+}
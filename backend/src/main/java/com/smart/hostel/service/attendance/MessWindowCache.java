@@ -0,0 +1,150 @@
+package com.smart.hostel.service.attendance;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.smart.hostel.entity.MealType;
+import com.smart.hostel.entity.MessMenu;
+import com.smart.hostel.exception.MenuNotAvailableException;
+import com.smart.hostel.repository.MessMenuRepository;
+import com.smart.hostel.repository.StudentAttendanceRepository;
+import com.smart.hostel.repository.StudentMessRepository;
+import com.smart.hostel.repository.StudentMessRepository.ActiveSubscription;
+import com.smart.hostel.service.attendance.MessWindow.MealBalance;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessWindowCache {
+
+	private final StudentMessRepository studentMessRepository;
+	private final MessMenuRepository messMenuRepository;
+	private final StudentAttendanceRepository studentAttendanceRepository;
+
+	private volatile MessWindow window;
+
+	@Scheduled(cron = "5 0 7,12,19 * * *")
+	public void preload() {
+		try {
+			window(MealSchedule.current());
+		} catch (MenuNotAvailableException e) {
+			log.debug("Skipping mess window preload: {}", e.getMessage());
+		}
+	}
+
+	MessWindow window(MealType mealType) {
+		LocalDate today = LocalDate.now();
+		MessWindow current = window;
+		if (current != null && current.matches(today, mealType)) {
+			return current;
+		}
+		synchronized (this) {
+			current = window;
+			if (current == null || !current.matches(today, mealType)) {
+				current = load(today, mealType);
+				window = current;
+			}
+			return current;
+		}
+	}
+
+	public void refreshSubscription(Long studentId) {
+		afterCommit(() -> reloadSubscription(studentId));
+	}
+
+	public void refreshMenus(LocalDate date) {
+		afterCommit(() -> {
+			MessWindow current = window;
+			if (current != null && current.date().equals(date)) {
+				current.setPrices(loadPrices(date));
+			}
+		});
+	}
+
+	int consumeOnCommit(MealBalance balance) {
+		afterCommit(balance::consume);
+		return Math.max(balance.remaining() - 1, 0);
+	}
+
+	void releaseOnRollback(MessWindow window, Collection<Long> studentIds) {
+		if (studentIds.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					studentIds.forEach(id -> release(window, id));
+				}
+			}
+		});
+	}
+
+	private void release(MessWindow window, Long studentId) {
+		window.unmarkServed(studentId);
+		reloadSubscription(studentId);
+	}
+
+	private void reloadSubscription(Long studentId) {
+		MessWindow current = window;
+		if (current != null) {
+			current.putSubscription(studentId,
+					toBalance(studentMessRepository.findActiveSubscriptionSummaries(studentId, current.date())));
+		}
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private MessWindow load(LocalDate date, MealType mealType) {
+		long start = System.currentTimeMillis();
+		MessWindow loaded = new MessWindow(date, mealType);
+		for (Long studentId : studentAttendanceRepository.findStudentIdsMarkedForMeal(date, mealType)) {
+			loaded.markServed(studentId);
+		}
+		for (ActiveSubscription sub : studentMessRepository.findActiveSubscriptionSummaries(date)) {
+			if (loaded.subscription(sub.getStudentId()) == null) {
+				loaded.putSubscription(sub.getStudentId(), new MealBalance(sub.getId(), sub.getRemainingMeals()));
+			}
+		}
+		loaded.setPrices(loadPrices(date));
+		log.info("Loaded mess window {} {} in {} ms", date, mealType, System.currentTimeMillis() - start);
+		return loaded;
+	}
+
+	private Map<MealType, Double> loadPrices(LocalDate date) {
+		Map<MealType, Double> prices = new EnumMap<>(MealType.class);
+		for (MessMenu menu : messMenuRepository.findByMenuDate(date)) {
+			prices.putIfAbsent(menu.getMealType(), menu.getPrice());
+		}
+		return prices;
+	}
+
+	private MealBalance toBalance(List<ActiveSubscription> subs) {
+		if (subs.isEmpty()) {
+			return null;
+		}
+		return new MealBalance(subs.get(0).getId(), subs.get(0).getRemainingMeals());
+	}
+}
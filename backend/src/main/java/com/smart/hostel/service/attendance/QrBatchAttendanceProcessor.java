@@ -0,0 +1,394 @@
+package com.smart.hostel.service.attendance;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.smart.hostel.dto.NotificationDTO;
+import com.smart.hostel.dto.QrPassSubject;
+import com.smart.hostel.dto.QrScanResultDTO;
+import com.smart.hostel.dto.StudentAttendanceDTO;
+import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.HostelAction;
+import com.smart.hostel.entity.MealType;
+import com.smart.hostel.entity.Payment;
+import com.smart.hostel.entity.PaymentType;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.entity.StudentAttendance;
+import com.smart.hostel.event.StudentAttendanceMarkedEvent;
+import com.smart.hostel.exception.BadRequestException;
+import com.smart.hostel.exception.MenuNotAvailableException;
+import com.smart.hostel.exception.UnsupportedAttendanceTypeException;
+import com.smart.hostel.repository.AttendanceBatchRepository;
+import com.smart.hostel.repository.StudentAttendanceRepository;
+import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.service.NotificationService;
+import com.smart.hostel.service.QRCodeService;
+import com.smart.hostel.service.StudentAttendanceService;
+import com.smart.hostel.service.attendance.MessWindow.MealBalance;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QrBatchAttendanceProcessor {
+
+	private final QRCodeService qrCodeService;
+	private final StudentRepository studentRepository;
+	private final HostelActionCache hostelActionCache;
+	private final StudentLaneExecutor laneExecutor;
+	private final QrReplayGuard qrReplayGuard;
+	private final MessWindowCache messWindowCache;
+	private final AttendanceBatchRepository attendanceBatchRepository;
+	private final StudentAttendanceRepository studentAttendanceRepository;
+	private final NotificationService notificationService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Value("${app.attendance.batch.max-size:500}")
+	private int maxBatchSize;
+
+	@Transactional
+	public List<QrScanResultDTO> process(List<String> tokens, AttendanceType type) {
+		if (type != AttendanceType.MESS && type != AttendanceType.HOSTEL) {
+			throw new UnsupportedAttendanceTypeException("Unsupported attendance type: " + type);
+		}
+		if (tokens == null || tokens.isEmpty()) {
+			return List.of();
+		}
+		if (tokens.size() > maxBatchSize) {
+			throw new BadRequestException(
+					"Batch too large. At most " + maxBatchSize + " scans are accepted per request");
+		}
+
+		Scan[] scans = new Scan[tokens.size()];
+		Set<String> usernames = new LinkedHashSet<>();
+		Set<Long> passStudentIds = new LinkedHashSet<>();
+		List<QrPassSubject> consumed = new ArrayList<>();
+		for (int i = 0; i < tokens.size(); i++) {
+			scans[i] = new Scan(i);
+			QrPassSubject subject = qrCodeService.resolve(tokens.get(i));
+			if (subject == null) {
+				scans[i].error = "QR code is invalid or has expired";
+				continue;
+			}
+			if (!qrReplayGuard.firstUse(subject)) {
+				scans[i].error = "QR code has already been used";
+				continue;
+			}
+			consumed.add(subject);
+			scans[i].subject = subject;
+			if (subject.studentId() != null) {
+				passStudentIds.add(subject.studentId());
+			} else {
+				usernames.add(subject.username());
+			}
+		}
+
+		Map<String, Student> studentsByUsername = new HashMap<>();
+		if (!usernames.isEmpty()) {
+			for (Student s : studentRepository.findAllByUsernames(usernames)) {
+				studentsByUsername.put(s.getUser().getUsername(), s);
+			}
+		}
+		Map<Long, Student> studentsById = new HashMap<>();
+		if (!passStudentIds.isEmpty()) {
+			for (Student s : studentRepository.findAllWithUserByIds(passStudentIds)) {
+				studentsById.put(s.getStudentId(), s);
+			}
+		}
+		for (Scan scan : scans) {
+			if (scan.error == null) {
+				scan.student = scan.subject.studentId() != null ? studentsById.get(scan.subject.studentId())
+						: studentsByUsername.get(scan.subject.username());
+				if (scan.student == null) {
+					scan.error = "Student not found";
+				}
+			}
+		}
+
+		if (type == AttendanceType.MESS) {
+			planMess(scans);
+		} else {
+			planHostel(scans);
+		}
+
+		qrReplayGuard.releaseOnRollback(consumed);
+		List<QrScanResultDTO> results = write(scans, type);
+		for (Scan scan : scans) {
+			if (scan.subject == null) {
+				continue;
+			}
+			if (scan.error != null) {
+				qrReplayGuard.release(scan.subject);
+			} else {
+				qrCodeService.evict(scan.student.getUser().getUsername());
+			}
+		}
+		return results;
+	}
+
+	private void planHostel(Scan[] scans) {
+		Set<Long> studentIds = resolvedStudentIds(scans);
+		laneExecutor.holdUntilCompletion(studentIds);
+		Map<Long, HostelAction> lastActions = new HashMap<>(hostelActionCache.last(studentIds));
+
+		for (Scan scan : scans) {
+			if (scan.error != null) {
+				continue;
+			}
+			HostelAction last = lastActions.get(scan.student.getStudentId());
+			HostelAction next = HostelActionCache.next(last);
+			lastActions.put(scan.student.getStudentId(), next);
+			scan.hostelAction = next;
+		}
+	}
+
+	private void planMess(Scan[] scans) {
+		MealType mealType;
+		try {
+			mealType = MealSchedule.current();
+		} catch (MenuNotAvailableException e) {
+			for (Scan scan : scans) {
+				if (scan.error == null) {
+					scan.error = e.getMessage();
+				}
+			}
+			return;
+		}
+
+		MessWindow window = messWindowCache.window(mealType);
+		BigDecimal price = window.price() != null ? BigDecimal.valueOf(window.price()) : null;
+		Set<Long> unserved = new HashSet<>();
+		for (Scan scan : scans) {
+			if (scan.error == null && !window.isServed(scan.student.getStudentId())) {
+				unserved.add(scan.student.getStudentId());
+			}
+		}
+		if (!unserved.isEmpty()) {
+			// Served sets are per node, so meals taken through another node only show up in the table.
+			studentAttendanceRepository.findStudentIdsMarkedForMeal(window.date(), mealType, unserved)
+					.forEach(window::markServed);
+		}
+		List<Long> claimed = new ArrayList<>();
+		for (Scan scan : scans) {
+			if (scan.error != null) {
+				continue;
+			}
+			Student student = scan.student;
+			scan.mealType = mealType;
+			if (window.isServed(student.getStudentId())) {
+				scan.error = "Attendance already marked for " + mealType + " today";
+				continue;
+			}
+
+			MealBalance subscription = window.subscription(student.getStudentId());
+			if (subscription != null) {
+				if (subscription.remaining() <= 0) {
+					scan.error = "No meals remaining in your subscription. Please renew your plan.";
+					continue;
+				}
+			} else if (price == null) {
+				scan.error = "No menu set for today and no active subscription. Cannot mark attendance.";
+				continue;
+			}
+			BigDecimal charge = subscription != null ? StudentAttendanceService.MEAL_COST
+					: price.add(StudentAttendanceService.MEAL_COST);
+			if (student.getWalletBalance().compareTo(charge) < 0) {
+				scan.error = "Insufficient wallet balance. Required: ₹" + charge + ", Available: ₹"
+						+ student.getWalletBalance();
+				continue;
+			}
+			scan.subscription = subscription;
+			scan.price = subscription != null ? null : price;
+			scan.charge = charge;
+
+			if (!window.markServed(student.getStudentId())) {
+				scan.error = "Attendance already marked for " + mealType + " today";
+				scan.subscription = null;
+				scan.price = null;
+				scan.charge = null;
+				continue;
+			}
+			scan.window = window;
+			claimed.add(student.getStudentId());
+		}
+		messWindowCache.releaseOnRollback(window, claimed);
+	}
+
+	private List<QrScanResultDTO> write(Scan[] scans, AttendanceType type) {
+		List<Scan> messScans = new ArrayList<>();
+		for (Scan scan : scans) {
+			if (scan.error == null && scan.charge != null) {
+				messScans.add(scan);
+			}
+		}
+
+		List<Payment> debits = new ArrayList<>();
+		if (!messScans.isEmpty()) {
+			int[] counts = attendanceBatchRepository.debitWallets(
+					messScans.stream().map(s -> s.student.getStudentId()).toList(),
+					messScans.stream().map(s -> s.charge).toList());
+			rejectUnapplied(messScans, counts, "Insufficient wallet balance");
+
+			List<Scan> subscriptionScans = messScans.stream().filter(s -> s.error == null && s.subscription != null)
+					.toList();
+			if (!subscriptionScans.isEmpty()) {
+				int[] consumed = attendanceBatchRepository
+						.consumeMeals(subscriptionScans.stream().map(s -> s.subscription.subscriptionId()).toList());
+				rejectUnapplied(subscriptionScans, consumed,
+						"No meals remaining in your subscription. Please renew your plan.");
+				List<Long> refunds = new ArrayList<>();
+				for (Scan scan : subscriptionScans) {
+					if (scan.error == null) {
+						scan.remainingMeals = messWindowCache.consumeOnCommit(scan.subscription);
+					} else {
+						scan.subscription.exhaust();
+						refunds.add(scan.student.getStudentId());
+					}
+				}
+				if (!refunds.isEmpty()) {
+					attendanceBatchRepository.creditWallets(refunds, StudentAttendanceService.MEAL_COST);
+				}
+			}
+
+			for (Scan scan : messScans) {
+				if (scan.error == null) {
+					if (scan.price != null) {
+						debits.add(debit(scan.student, scan.price));
+					}
+					debits.add(debit(scan.student, StudentAttendanceService.MEAL_COST));
+				}
+			}
+		}
+		attendanceBatchRepository.insertPayments(debits);
+
+		LocalDate today = LocalDate.now();
+		LocalTime now = LocalTime.now();
+		List<Scan> accepted = new ArrayList<>();
+		List<StudentAttendance> rows = new ArrayList<>();
+		for (Scan scan : scans) {
+			if (scan.error != null) {
+				continue;
+			}
+			StudentAttendance a = new StudentAttendance();
+			a.setStudent(scan.student);
+			a.setBuilding(scan.student.getBuilding());
+			a.setAttendanceType(type);
+			a.setAttendanceDate(today);
+			a.setAttendanceTime(now);
+			a.setHostelAction(scan.hostelAction);
+			a.setMealType(scan.mealType);
+			a.setCreatedAt(LocalDateTime.now());
+			rows.add(a);
+			accepted.add(scan);
+		}
+		List<Long> ids = attendanceBatchRepository.insertAttendance(rows);
+
+		List<QrScanResultDTO> results = new ArrayList<>(scans.length);
+		int next = 0;
+		for (Scan scan : scans) {
+			if (scan.error != null) {
+				results.add(new QrScanResultDTO(scan.index, false, null, scan.error));
+				continue;
+			}
+			StudentAttendance a = rows.get(next);
+			Long id = next < ids.size() ? ids.get(next) : null;
+			next++;
+			eventPublisher.publishEvent(new StudentAttendanceMarkedEvent(id, scan.student.getStudentId(),
+					a.getBuilding() != null ? a.getBuilding().getBuildingId() : null, type, a.getHostelAction(),
+					a.getMealType(), a.getAttendanceDate(), a.getAttendanceTime()));
+			results.add(new QrScanResultDTO(scan.index, true,
+					new StudentAttendanceDTO(id, scan.student.getStudentId(),
+							a.getBuilding() != null ? a.getBuilding().getBuildingId() : null, type,
+							a.getHostelAction(), a.getMealType(), a.getAttendanceDate(), a.getAttendanceTime(),
+							today),
+					null));
+		}
+
+		accepted.forEach(this::notifyStudent);
+		return results;
+	}
+
+	private void rejectUnapplied(List<Scan> scans, int[] counts, String error) {
+		for (int i = 0; i < scans.size(); i++) {
+			if (counts[i] != 1) {
+				Scan scan = scans.get(i);
+				scan.error = error;
+				scan.window.unmarkServed(scan.student.getStudentId());
+			}
+		}
+	}
+
+	private Payment debit(Student student, BigDecimal amount) {
+		Payment debit = new Payment();
+		debit.setStudent(student);
+		debit.setAmount(amount.negate());
+		debit.setPaymentType(PaymentType.MESS);
+		debit.setPaymentDate(LocalDateTime.now());
+		return debit;
+	}
+
+	private Set<Long> resolvedStudentIds(Scan[] scans) {
+		Set<Long> ids = new HashSet<>();
+		for (Scan scan : scans) {
+			if (scan.error == null) {
+				ids.add(scan.student.getStudentId());
+			}
+		}
+		return ids;
+	}
+
+	private void notifyStudent(Scan scan) {
+		Long userId = scan.student.getUser().getUserId();
+		String title;
+		String message;
+		if (scan.subscription != null) {
+			title = "Meal Consumed";
+			message = scan.mealType + " attendance marked. Remaining meals: " + scan.remainingMeals;
+		} else if (scan.price != null) {
+			title = "Mess Wallet Debited";
+			message = "₹" + scan.price + " deducted for " + scan.mealType + " attendance.";
+		} else {
+			title = "Attendance Marked";
+			message = "Your attendance has been marked: Hostel " + scan.hostelAction;
+		}
+		try {
+			notificationService.enqueue(new NotificationDTO(null, userId, title, message, false, null));
+		} catch (Exception e) {
+			log.error("Failed to send notification to user {}: {}", userId, e.getMessage());
+		}
+	}
+
+	private static final class Scan {
+		private final int index;
+		private QrPassSubject subject;
+		private Student student;
+		private String error;
+		private HostelAction hostelAction;
+		private MealType mealType;
+		private MessWindow window;
+		private MealBalance subscription;
+		private Integer remainingMeals;
+		private BigDecimal price;
+		private BigDecimal charge;
+
+		private Scan(int index) {
+			this.index = index;
+		}
+	}
+}
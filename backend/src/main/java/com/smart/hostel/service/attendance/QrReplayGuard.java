@@ -0,0 +1,93 @@
+package com.smart.hostel.service.attendance;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.smart.hostel.dto.QrPassSubject;
+import com.smart.hostel.security.JwtUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Remembers QR passes that have already been scanned until they expire. Passes are bucketed by the minute they
+ * expire in, so a pass always lands in the same bucket and a single set insert decides whether it was seen before.
+ * The ring covers the token validity window; a slot is recycled only once every pass in it has expired and would be
+ * rejected by signature/expiry checks anyway.
+ */
+@Component
+public class QrReplayGuard {
+
+	private final AtomicReferenceArray<Bucket> slots;
+	private final int expectedPerMinute;
+	private final Counter replays;
+
+	public QrReplayGuard(@Value("${app.attendance.replay-guard.expected-scans-per-minute:2000}") int expectedPerMinute,
+			MeterRegistry meterRegistry) {
+		this.slots = new AtomicReferenceArray<>((int) JwtUtil.QR_TOKEN_VALIDITY.toMinutes() + 2);
+		this.expectedPerMinute = expectedPerMinute;
+		this.replays = Counter.builder("attendance.qr.replays").description("QR scans rejected as already used")
+				.register(meterRegistry);
+	}
+
+	public boolean firstUse(QrPassSubject pass) {
+		if (bucket(pass).add(pass.fingerprint())) {
+			return true;
+		}
+		replays.increment();
+		return false;
+	}
+
+	public void release(QrPassSubject pass) {
+		bucket(pass).remove(pass.fingerprint());
+	}
+
+	public void releaseOnRollback(Collection<QrPassSubject> passes) {
+		if (passes.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					passes.forEach(QrReplayGuard.this::release);
+				}
+			}
+		});
+	}
+
+	private Set<Long> bucket(QrPassSubject pass) {
+		long minute = pass.expiresAt().getEpochSecond() / 60;
+		int slot = (int) Math.floorMod(minute, (long) slots.length());
+		while (true) {
+			Bucket current = slots.get(slot);
+			if (current != null && current.minute == minute) {
+				return current.fingerprints;
+			}
+			if (current != null && current.minute > minute) {
+				return ConcurrentHashMap.newKeySet();
+			}
+			Bucket fresh = new Bucket(minute, expectedPerMinute);
+			if (slots.compareAndSet(slot, current, fresh)) {
+				return fresh.fingerprints;
+			}
+		}
+	}
+
+	private static final class Bucket {
+		private final long minute;
+		private final Set<Long> fingerprints;
+
+		private Bucket(long minute, int expected) {
+			this.minute = minute;
+			this.fingerprints = ConcurrentHashMap.newKeySet(expected);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.smart.hostel.service.attendance;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.smart.hostel.dto.StaffAttendanceStatusDTO;
+import com.smart.hostel.dto.StaffDTO;
+import com.smart.hostel.entity.HostelAction;
+import com.smart.hostel.entity.Staff;
+import com.smart.hostel.entity.StaffBuildingMap;
+import com.smart.hostel.entity.StaffType;
+import com.smart.hostel.entity.User;
+import com.smart.hostel.exception.StaffNotFoundException;
+import com.smart.hostel.exception.UserNotFoundException;
+import com.smart.hostel.repository.StaffAttendanceRepository;
+import com.smart.hostel.repository.StaffAttendanceRepository.StaffAction;
+import com.smart.hostel.repository.StaffBuildingMapRepository;
+import com.smart.hostel.repository.StaffRepository;
+import com.smart.hostel.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class StaffRosterBuilder {
+
+	private final UserRepository userRepository;
+	private final StaffRepository staffRepository;
+	private final StaffBuildingMapRepository staffBuildingMapRepository;
+	private final StaffAttendanceRepository staffAttendanceRepository;
+
+	@Transactional(readOnly = true)
+	public List<StaffAttendanceStatusDTO> build(String username) {
+		User currentUser = userRepository.findByUsername(username)
+				.orElseThrow(() -> new UserNotFoundException("User not found"));
+		String role = currentUser.getRole().getRoleName();
+		if (!role.equals("ADMIN") && !role.equals("WARDEN")) {
+			return List.of();
+		}
+
+		List<Staff> allStaff = staffRepository.findAllWithUser();
+		Map<Long, List<Long>> buildingsByStaff = new HashMap<>();
+		for (StaffBuildingMap map : staffBuildingMapRepository.findAllWithBuilding()) {
+			buildingsByStaff.computeIfAbsent(map.getStaff().getStaffId(), id -> new ArrayList<>())
+					.add(map.getBuilding().getBuildingId());
+		}
+		Map<Long, Set<HostelAction>> actionsByStaff = new HashMap<>();
+		for (StaffAction action : staffAttendanceRepository.findActionsOn(LocalDate.now())) {
+			actionsByStaff.computeIfAbsent(action.getStaffId(), id -> EnumSet.noneOf(HostelAction.class))
+					.add(action.getAction());
+		}
+
+		Staff current = allStaff.stream()
+				.filter(s -> s.getUser() != null && s.getUser().getUserId().equals(currentUser.getUserId()))
+				.findFirst().orElse(null);
+		List<Long> currentBuildings = current != null
+				? buildingsByStaff.getOrDefault(current.getStaffId(), List.of())
+				: List.of();
+
+		List<Staff> roster;
+		if (role.equals("ADMIN")) {
+			roster = allStaff;
+		} else {
+			if (current == null) {
+				throw new StaffNotFoundException("Staff profile not found");
+			}
+			roster = allStaff.stream().filter(s -> markableByWarden(s, current, currentBuildings, buildingsByStaff))
+					.toList();
+		}
+
+		return roster.stream().map(s -> toStatus(s, currentBuildings, buildingsByStaff, actionsByStaff)).toList();
+	}
+
+	private static boolean markableByWarden(Staff staff, Staff warden, List<Long> wardenBuildings,
+			Map<Long, List<Long>> buildingsByStaff) {
+		if (staff.getStaffType() == StaffType.WARDEN && !staff.getStaffId().equals(warden.getStaffId())) {
+			return false;
+		}
+		List<Long> buildings = buildingsByStaff.getOrDefault(staff.getStaffId(), List.of());
+		if (buildings.stream().anyMatch(wardenBuildings::contains)) {
+			return true;
+		}
+		if (Boolean.TRUE.equals(warden.getManagesMess()) && staff.getStaffType() == StaffType.MESS) {
+			return true;
+		}
+		return buildings.isEmpty() && staff.getStaffType() != StaffType.WARDEN;
+	}
+
+	private static StaffAttendanceStatusDTO toStatus(Staff staff, List<Long> currentBuildings,
+			Map<Long, List<Long>> buildingsByStaff, Map<Long, Set<HostelAction>> actionsByStaff) {
+		List<Long> buildings = buildingsByStaff.getOrDefault(staff.getStaffId(), List.of());
+		Long buildingId = buildings.stream().filter(currentBuildings::contains).findFirst()
+				.orElse(buildings.isEmpty() ? null : buildings.get(0));
+		Set<HostelAction> actions = actionsByStaff.getOrDefault(staff.getStaffId(), Set.of());
+
+		StaffDTO dto = new StaffDTO(staff.getStaffId(), staff.getUser() != null ? staff.getUser().getUserId() : null,
+				staff.getFullName(), staff.getStaffType(),
+				buildingId != null ? Collections.singletonList(buildingId) : null, staff.getManagesMess(), null);
+		return new StaffAttendanceStatusDTO(dto, actions.contains(HostelAction.IN),
+				actions.contains(HostelAction.OUT));
+	}
+}
@@ -0,0 +1,87 @@
+package com.smart.hostel.service.attendance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class StudentLaneExecutor {
+
+	private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+	public <T> T execute(Long studentId, Supplier<T> task) {
+		Lane lane = acquire(studentId);
+		try {
+			return task.get();
+		} finally {
+			release(studentId, lane);
+		}
+	}
+
+	/**
+	 * Takes the lanes of all given students for the rest of the current transaction. Lanes are locked in id order so two
+	 * batches sharing students cannot deadlock, and are released once the transaction has completed, after
+	 * {@link HostelActionCache} has recorded the committed actions.
+	 */
+	public void holdUntilCompletion(Collection<Long> studentIds) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			throw new IllegalStateException("Student lanes can only be held inside a transaction");
+		}
+		List<Long> held = new ArrayList<>();
+		List<Lane> heldLanes = new ArrayList<>();
+		try {
+			for (Long studentId : new TreeSet<>(studentIds)) {
+				heldLanes.add(acquire(studentId));
+				held.add(studentId);
+			}
+		} catch (RuntimeException e) {
+			releaseAll(held, heldLanes);
+			throw e;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				releaseAll(held, heldLanes);
+			}
+		});
+	}
+
+	int activeLanes() {
+		return lanes.size();
+	}
+
+	private Lane acquire(Long studentId) {
+		Lane lane = lanes.compute(studentId, (id, existing) -> {
+			Lane l = existing != null ? existing : new Lane();
+			l.waiters++;
+			return l;
+		});
+		lane.lock.lock();
+		return lane;
+	}
+
+	private void release(Long studentId, Lane lane) {
+		lane.lock.unlock();
+		lanes.computeIfPresent(studentId, (id, l) -> --l.waiters == 0 ? null : l);
+	}
+
+	private void releaseAll(List<Long> studentIds, List<Lane> held) {
+		for (int i = held.size() - 1; i >= 0; i--) {
+			release(studentIds.get(i), held.get(i));
+		}
+	}
+
+	private static final class Lane {
+		private final ReentrantLock lock = new ReentrantLock(true);
+		private int waiters;
+	}
+}
@@ -0,0 +1,179 @@
+package com.smart.hostel.service.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smart.hostel.dto.IdempotentResult;
+import com.smart.hostel.entity.IdempotencyRecord;
+import com.smart.hostel.exception.BadRequestException;
+import com.smart.hostel.exception.ConflictException;
+import com.smart.hostel.repository.IdempotencyRecordRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Runs a write at most once per {@code Idempotency-Key} and caller. Completed responses are kept in a bounded
+ * in-memory cache and in {@code idempotency_keys}; the durable row is claimed and completed inside the same
+ * transaction as the write, so a duplicate on another node blocks on the row until the first request commits or rolls
+ * back. Duplicates arriving on the same node while the first is running wait for its result instead.
+ */
+@Slf4j
+@Component
+public class IdempotentExecutor {
+
+	public static final String HEADER = "Idempotency-Key";
+
+	private static final int MAX_KEY_LENGTH = 100;
+
+	private final IdempotencyRecordRepository repository;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final Duration ttl;
+	private final Cache<String, Completed> completed;
+	private final ConcurrentMap<String, CompletableFuture<Completed>> inFlight = new ConcurrentHashMap<>();
+
+	public IdempotentExecutor(IdempotencyRecordRepository repository, PlatformTransactionManager transactionManager,
+			ObjectMapper objectMapper, MeterRegistry meterRegistry,
+			@Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+			@Value("${app.idempotency.cache.max-size:10000}") long maxSize) {
+		this.repository = repository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.ttl = Duration.ofHours(ttlHours);
+		this.completed = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+	}
+
+	public <T> IdempotentResult<T> execute(String key, String endpoint, Object request, Class<T> responseType,
+			Supplier<T> action) {
+		if (key == null || key.isBlank()) {
+			return new IdempotentResult<>(action.get(), false);
+		}
+		if (key.length() > MAX_KEY_LENGTH) {
+			throw new BadRequestException(HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+		}
+		String recordKey = principal() + ":" + key;
+		String requestHash = hash(endpoint, request);
+
+		Completed hit = completed.getIfPresent(recordKey);
+		if (hit != null) {
+			return replay(hit, endpoint, requestHash, responseType, "memory_hit");
+		}
+
+		CompletableFuture<Completed> mine = new CompletableFuture<>();
+		CompletableFuture<Completed> running = inFlight.putIfAbsent(recordKey, mine);
+		if (running != null) {
+			return replay(await(running), endpoint, requestHash, responseType, "coalesced");
+		}
+		try {
+			Outcome outcome = transactionTemplate
+					.execute(status -> run(recordKey, endpoint, requestHash, responseType, action));
+			completed.put(recordKey, outcome.completed());
+			mine.complete(outcome.completed());
+			if (!outcome.executed()) {
+				return replay(outcome.completed(), endpoint, requestHash, responseType, "durable_hit");
+			}
+			count(endpoint, "executed");
+			return new IdempotentResult<>(responseType.cast(outcome.completed().response()), false);
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(recordKey, mine);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:3600000}")
+	public void purgeExpired() {
+		int purged = repository.deleteExpired(LocalDateTime.now());
+		if (purged > 0) {
+			log.debug("Purged {} expired idempotency keys", purged);
+		}
+	}
+
+	private <T> Outcome run(String recordKey, String endpoint, String requestHash, Class<T> responseType,
+			Supplier<T> action) {
+		LocalDateTime now = LocalDateTime.now();
+		if (repository.claim(recordKey, endpoint, requestHash, now, now.plus(ttl)) == 0
+				&& repository.claimExpired(recordKey, endpoint, requestHash, now, now.plus(ttl)) == 0) {
+			IdempotencyRecord record = repository.findById(recordKey).filter(r -> r.getResponseBody() != null)
+					.orElseThrow(() -> new ConflictException(
+							"A request with this " + HEADER + " is still being processed"));
+			return new Outcome(new Completed(record.getEndpoint(), record.getRequestHash(),
+					objectMapper.readValue(record.getResponseBody(), responseType)), false);
+		}
+
+		T response = action.get();
+		repository.complete(recordKey, objectMapper.writeValueAsString(response));
+		return new Outcome(new Completed(endpoint, requestHash, response), true);
+	}
+
+	private <T> IdempotentResult<T> replay(Completed hit, String endpoint, String requestHash, Class<T> responseType,
+			String outcome) {
+		if (!hit.endpoint().equals(endpoint) || !hit.requestHash().equals(requestHash)) {
+			count(endpoint, "mismatch");
+			throw new BadRequestException(HEADER + " was already used for a different request");
+		}
+		count(endpoint, outcome);
+		return new IdempotentResult<>(responseType.cast(hit.response()), true);
+	}
+
+	private static Completed await(CompletableFuture<Completed> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private String hash(String endpoint, Object request) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(endpoint.getBytes(StandardCharsets.UTF_8));
+			digest.update(objectMapper.writeValueAsBytes(request));
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String principal() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return authentication != null ? authentication.getName() : "anonymous";
+	}
+
+	private void count(String endpoint, String outcome) {
+		meterRegistry.counter("idempotency.requests", "endpoint", endpoint, "outcome", outcome).increment();
+	}
+
+	private record Completed(String endpoint, String requestHash, Object response) {
+	}
+
+	private record Outcome(Completed completed, boolean executed) {
+	}
+}
@@ -0,0 +1,159 @@
+package com.smart.hostel.service.notification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.smart.hostel.dto.BroadcastJobDTO;
+import com.smart.hostel.dto.NotificationDTO;
+import com.smart.hostel.dto.SendNotificationRequest;
+import com.smart.hostel.exception.BadRequestException;
+import com.smart.hostel.exception.ResourceNotFoundException;
+import com.smart.hostel.repository.NotificationBatchRepository;
+import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.repository.UserRepository.UserRef;
+import com.smart.hostel.websocket.NotificationSocketService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BroadcastEngine {
+
+	private final UserRepository userRepository;
+	private final StudentRepository studentRepository;
+	private final NotificationBatchRepository notificationBatchRepository;
+	private final NotificationSocketService socketService;
+
+	@Value("${app.notifications.broadcast.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${app.notifications.broadcast.threads:2}")
+	private int threads;
+
+	@Value("${app.notifications.broadcast.retention-minutes:60}")
+	private long retentionMinutes;
+
+	private final Map<String, BroadcastJob> jobs = new ConcurrentHashMap<>();
+	private ExecutorService executor;
+
+	@PostConstruct
+	void start() {
+		executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread t = new Thread(r, "notification-broadcast");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	@PreDestroy
+	void stop() {
+		executor.shutdown();
+	}
+
+	public BroadcastJobDTO submit(SendNotificationRequest request) {
+		if (Boolean.TRUE.equals(request.sendToAll()) && request.buildingId() != null) {
+			Long buildingId = request.buildingId();
+			return start(studentRepository.countUsersByBuildingId(buildingId), job -> sendPaged(job, request,
+					afterId -> studentRepository.findUserIdsByBuildingId(buildingId, afterId, Limit.of(chunkSize)),
+					"/topic/buildings/" + buildingId + "/announcements"));
+		} else if (Boolean.TRUE.equals(request.sendToAll())) {
+			String role = (request.targetRole() == null || request.targetRole().isEmpty()) ? "STUDENT"
+					: request.targetRole().toUpperCase();
+			return start(userRepository.countByRole_RoleName(role), job -> sendPaged(job, request,
+					afterId -> userRepository.findUserIdsByRole(role, afterId, Limit.of(chunkSize)),
+					"/topic/announcements/" + role));
+		} else if (request.userIds() != null && !request.userIds().isEmpty()) {
+			List<Long> userIds = request.userIds().stream().distinct().toList();
+			return start(userIds.size(), job -> sendToUsers(job, request, userIds));
+		}
+		throw new BadRequestException("No recipients selected for the broadcast");
+	}
+
+	public BroadcastJobDTO getJob(String jobId) {
+		BroadcastJob job = jobs.get(jobId);
+		if (job == null) {
+			throw new ResourceNotFoundException("Broadcast job not found");
+		}
+		return job.toDTO();
+	}
+
+	@Scheduled(fixedDelay = 600000)
+	public void evictFinishedJobs() {
+		LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+		jobs.values().removeIf(job -> job.finishedBefore(cutoff));
+	}
+
+	private BroadcastJobDTO start(long total, Consumer<BroadcastJob> work) {
+		BroadcastJob job = new BroadcastJob(UUID.randomUUID().toString(), total);
+		jobs.put(job.jobId(), job);
+		executor.submit(() -> {
+			job.start();
+			try {
+				work.accept(job);
+				job.complete();
+			} catch (Exception e) {
+				log.error("Broadcast job {} failed: {}", job.jobId(), e.getMessage());
+				job.fail(e.getMessage());
+			}
+		});
+		return job.toDTO();
+	}
+
+	private void sendPaged(BroadcastJob job, SendNotificationRequest request, LongFunction<List<Long>> page,
+			String topic) {
+		LocalDateTime createdAt = LocalDateTime.now();
+		long afterId = 0L;
+		List<Long> userIds;
+		do {
+			userIds = page.apply(afterId);
+			if (userIds.isEmpty()) {
+				break;
+			}
+			job.progress(
+					notificationBatchRepository.insertForUsers(userIds, request.title(), request.message(), createdAt));
+			afterId = userIds.get(userIds.size() - 1);
+		} while (userIds.size() == chunkSize);
+
+		socketService.sendToTopic(topic,
+				new NotificationDTO(null, null, request.title(), request.message(), false, createdAt));
+	}
+
+	private void sendToUsers(BroadcastJob job, SendNotificationRequest request, List<Long> userIds) {
+		LocalDateTime createdAt = LocalDateTime.now();
+		for (int from = 0; from < userIds.size(); from += chunkSize) {
+			List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+			List<UserRef> users = userRepository.findRefsByIds(chunk);
+			List<Long> existing = new ArrayList<>(users.size());
+			users.forEach(u -> existing.add(u.getUserId()));
+			job.progress(
+					notificationBatchRepository.insertForUsers(existing, request.title(), request.message(), createdAt));
+
+			for (UserRef user : users) {
+				try {
+					socketService.sendToUser(user.getUsername(), new NotificationDTO(null, user.getUserId(),
+							request.title(), request.message(), false, createdAt));
+				} catch (Exception e) {
+					log.error("Failed to push broadcast to user {}: {}", user.getUserId(), e.getMessage());
+				}
+			}
+		}
+	}
+}
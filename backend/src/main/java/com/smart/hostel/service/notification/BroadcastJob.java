@@ -0,0 +1,56 @@
+package com.smart.hostel.service.notification;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.smart.hostel.dto.BroadcastJobDTO;
+import com.smart.hostel.entity.BroadcastStatus;
+
+final class BroadcastJob {
+
+	private final String jobId;
+	private final long totalRecipients;
+	private final AtomicLong processedRecipients = new AtomicLong();
+	private final LocalDateTime createdAt = LocalDateTime.now();
+	private volatile BroadcastStatus status = BroadcastStatus.QUEUED;
+	private volatile LocalDateTime completedAt;
+	private volatile String error;
+
+	BroadcastJob(String jobId, long totalRecipients) {
+		this.jobId = jobId;
+		this.totalRecipients = totalRecipients;
+	}
+
+	String jobId() {
+		return jobId;
+	}
+
+	void start() {
+		status = BroadcastStatus.RUNNING;
+	}
+
+	void progress(int recipients) {
+		processedRecipients.addAndGet(recipients);
+	}
+
+	void complete() {
+		completedAt = LocalDateTime.now();
+		status = BroadcastStatus.COMPLETED;
+	}
+
+	void fail(String error) {
+		this.error = error;
+		completedAt = LocalDateTime.now();
+		status = BroadcastStatus.FAILED;
+	}
+
+	boolean finishedBefore(LocalDateTime cutoff) {
+		LocalDateTime finished = completedAt;
+		return finished != null && finished.isBefore(cutoff);
+	}
+
+	BroadcastJobDTO toDTO() {
+		return new BroadcastJobDTO(jobId, status, totalRecipients, processedRecipients.get(), createdAt, completedAt,
+				error);
+	}
+}
@@ -0,0 +1,185 @@
+package com.smart.hostel.service.notification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.smart.hostel.dto.NotificationDTO;
+import com.smart.hostel.entity.User;
+import com.smart.hostel.repository.NotificationBatchRepository;
+import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.websocket.NotificationSocketService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+	private final NotificationBatchRepository notificationBatchRepository;
+	private final UserRepository userRepository;
+	private final NotificationSocketService socketService;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.notifications.queue.capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${app.notifications.queue.offer-timeout-ms:50}")
+	private long offerTimeoutMs;
+
+	@Value("${app.notifications.batch.max-size:200}")
+	private int maxBatchSize;
+
+	private BlockingQueue<NotificationDTO> queue;
+	private ExecutorService executor;
+	private volatile boolean running;
+
+	private Counter enqueued;
+	private Counter backpressure;
+	private Counter dropped;
+	private Counter persisted;
+	private Counter failed;
+	private Timer flushTimer;
+
+	@PostConstruct
+	void start() {
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		meterRegistry.gauge("notifications.queue.depth", queue, BlockingQueue::size);
+		enqueued = meterRegistry.counter("notifications.enqueued");
+		backpressure = meterRegistry.counter("notifications.backpressure");
+		dropped = meterRegistry.counter("notifications.dropped");
+		persisted = meterRegistry.counter("notifications.persisted");
+		failed = meterRegistry.counter("notifications.failed");
+		flushTimer = meterRegistry.timer("notifications.flush");
+
+		running = true;
+		executor = Executors.newSingleThreadExecutor(r -> {
+			Thread t = new Thread(r, "notification-dispatcher");
+			t.setDaemon(true);
+			return t;
+		});
+		executor.submit(this::drain);
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		running = false;
+		executor.shutdown();
+		if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+			log.warn("Notification dispatcher did not drain in time, {} notifications left", queue.size());
+			executor.shutdownNow();
+		}
+	}
+
+	public void enqueue(NotificationDTO dto) {
+		if (dto == null || dto.userId() == null) {
+			log.warn("Ignoring notification without a recipient");
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					offer(dto);
+				}
+			});
+		} else {
+			offer(dto);
+		}
+	}
+
+	private void offer(NotificationDTO dto) {
+		if (queue.offer(dto)) {
+			enqueued.increment();
+			return;
+		}
+		backpressure.increment();
+		try {
+			if (queue.offer(dto, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+				enqueued.increment();
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		dropped.increment();
+		log.warn("Notification queue is full, dropped notification for user {}", dto.userId());
+	}
+
+	private void drain() {
+		List<NotificationDTO> batch = new ArrayList<>(maxBatchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				NotificationDTO first = queue.poll(1, TimeUnit.SECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, maxBatchSize - 1);
+				flushTimer.record(() -> flush(batch));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				failed.increment(batch.size());
+				log.error("Failed to deliver {} notifications: {}", batch.size(), e.getMessage());
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<NotificationDTO> batch) {
+		Map<Long, String> usernames = new HashMap<>();
+		for (User user : userRepository.findAllById(batch.stream().map(NotificationDTO::userId).distinct().toList())) {
+			usernames.put(user.getUserId(), user.getUsername());
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		List<NotificationDTO> rows = new ArrayList<>(batch.size());
+		for (NotificationDTO dto : batch) {
+			if (!usernames.containsKey(dto.userId())) {
+				failed.increment();
+				log.warn("Skipping notification for unknown user {}", dto.userId());
+				continue;
+			}
+			rows.add(new NotificationDTO(null, dto.userId(), dto.title(), dto.message(), false,
+					dto.createdAt() != null ? dto.createdAt() : now));
+		}
+
+		List<Long> ids = transactionTemplate.execute(status -> notificationBatchRepository.insert(rows));
+		persisted.increment(rows.size());
+
+		for (int i = 0; i < rows.size(); i++) {
+			NotificationDTO row = rows.get(i);
+			NotificationDTO saved = new NotificationDTO(ids != null && i < ids.size() ? ids.get(i) : null,
+					row.userId(), row.title(), row.message(), row.isRead(), row.createdAt());
+			try {
+				socketService.sendToUser(usernames.get(row.userId()), saved);
+			} catch (Exception e) {
+				log.error("Failed to push notification to user {}: {}", row.userId(), e.getMessage());
+			}
+		}
+	}
+}
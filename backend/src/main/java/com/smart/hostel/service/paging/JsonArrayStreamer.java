@@ -0,0 +1,54 @@
+package com.smart.hostel.service.paging;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+@Component
+public class JsonArrayStreamer {
+
+	private final TransactionTemplate transactionTemplate;
+	private final EntityManager entityManager;
+	private final ObjectWriter writer;
+
+	@Value("${app.paging.export.flush-every:500}")
+	private int flushEvery;
+
+	public JsonArrayStreamer(PlatformTransactionManager transactionManager, EntityManager entityManager,
+			ObjectMapper objectMapper) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.entityManager = entityManager;
+		this.writer = objectMapper.writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+	}
+
+	public <E> void write(OutputStream out, Supplier<Stream<E>> source, Function<E, ?> mapper) {
+		transactionTemplate.executeWithoutResult(status -> {
+			try (Stream<E> rows = source.get(); JsonGenerator generator = writer.createGenerator(out)) {
+				generator.writeStartArray();
+				int written = 0;
+				for (Iterator<E> it = rows.iterator(); it.hasNext();) {
+					generator.writePOJO(mapper.apply(it.next()));
+					if (++written % flushEvery == 0) {
+						generator.flush();
+						entityManager.clear();
+					}
+				}
+				generator.writeEndArray();
+			}
+		});
+	}
+}
@@ -0,0 +1,48 @@
+package com.smart.hostel.service.paging;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.smart.hostel.dto.CursorPage;
+
+@Component
+public class KeysetPager {
+
+	@Value("${app.paging.default-size:100}")
+	private int defaultSize;
+
+	@Value("${app.paging.max-size:500}")
+	private int maxSize;
+
+	public Limit limit(Integer requested) {
+		return Limit.of(size(requested) + 1);
+	}
+
+	public long before(Long cursor) {
+		return cursor != null ? cursor : Long.MAX_VALUE;
+	}
+
+	public long after(Long cursor) {
+		return cursor != null ? cursor : 0L;
+	}
+
+	public <E, D> CursorPage<D> page(List<E> rows, Integer requested, Function<E, Long> idOf,
+			Function<E, D> mapper) {
+		int size = size(requested);
+		boolean hasMore = rows.size() > size;
+		List<E> visible = hasMore ? rows.subList(0, size) : rows;
+		Long nextCursor = hasMore ? idOf.apply(visible.get(size - 1)) : null;
+		return new CursorPage<>(visible.stream().map(mapper).toList(), nextCursor);
+	}
+
+	private int size(Integer requested) {
+		if (requested == null || requested <= 0) {
+			return defaultSize;
+		}
+		return Math.min(requested, maxSize);
+	}
+}
@@ -0,0 +1,123 @@
+package com.smart.hostel.service.stats;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.HostelAction;
+import com.smart.hostel.event.StudentAttendanceMarkedEvent;
+import com.smart.hostel.repository.StudentAttendanceRepository;
+import com.smart.hostel.repository.StudentAttendanceRepository.HostelMovement;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BuildingPresenceIndex {
+
+	private final StudentAttendanceRepository attendanceRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	private Map<Long, BitSet> inside = new HashMap<>();
+	private List<StudentAttendanceMarkedEvent> pending = new ArrayList<>();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		synchronized (this) {
+			if (pending == null) {
+				pending = new ArrayList<>();
+			}
+		}
+		long started = System.currentTimeMillis();
+		Map<Long, BitSet> loaded = new HashMap<>();
+		TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+		readOnly.setReadOnly(true);
+		try {
+			readOnly.executeWithoutResult(status -> {
+				try (Stream<HostelMovement> movements = attendanceRepository.streamMovements(AttendanceType.HOSTEL)) {
+					fold(movements, loaded);
+				}
+			});
+		} catch (RuntimeException e) {
+			log.error("Failed to rebuild building presence index: {}", e.getMessage());
+			loaded.clear();
+		}
+
+		synchronized (this) {
+			inside = loaded;
+			pending.forEach(this::apply);
+			log.info("Building presence index rebuilt in {} ms: {} buildings, {} students inside, {} replayed",
+					System.currentTimeMillis() - started, loaded.size(), countInside(), pending.size());
+			pending = null;
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onAttendanceMarked(StudentAttendanceMarkedEvent event) {
+		if (event.attendanceType() != AttendanceType.HOSTEL || event.hostelAction() == null) {
+			return;
+		}
+		if (pending != null) {
+			pending.add(event);
+		} else {
+			apply(event);
+		}
+	}
+
+	public synchronized int occupancy(Long buildingId) {
+		BitSet set = inside.get(buildingId);
+		return set == null ? 0 : set.cardinality();
+	}
+
+	public synchronized BitSet inside(Long buildingId) {
+		BitSet set = inside.get(buildingId);
+		return set == null ? new BitSet() : (BitSet) set.clone();
+	}
+
+	private void fold(Stream<HostelMovement> movements, Map<Long, BitSet> target) {
+		Long studentId = null;
+		Long buildingId = null;
+		HostelAction last = null;
+		for (HostelMovement m : (Iterable<HostelMovement>) movements::iterator) {
+			if (studentId != null && !studentId.equals(m.getStudentId())) {
+				mark(target, studentId, buildingId, last);
+			}
+			studentId = m.getStudentId();
+			buildingId = m.getBuildingId();
+			last = m.getHostelAction();
+		}
+		if (studentId != null) {
+			mark(target, studentId, buildingId, last);
+		}
+	}
+
+	private void apply(StudentAttendanceMarkedEvent event) {
+		int bit = Math.toIntExact(event.studentId());
+		for (BitSet set : inside.values()) {
+			set.clear(bit);
+		}
+		mark(inside, event.studentId(), event.buildingId(), event.hostelAction());
+	}
+
+	private static void mark(Map<Long, BitSet> target, Long studentId, Long buildingId, HostelAction action) {
+		if (action == HostelAction.IN && buildingId != null) {
+			target.computeIfAbsent(buildingId, id -> new BitSet()).set(Math.toIntExact(studentId));
+		}
+	}
+
+	private long countInside() {
+		return inside.values().stream().mapToLong(BitSet::cardinality).sum();
+	}
+}
@@ -0,0 +1,136 @@
+package com.smart.hostel.service.stats;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.smart.hostel.entity.StudentStatus;
+import com.smart.hostel.event.StudentAttendanceMarkedEvent;
+import com.smart.hostel.event.StudentStatusChangedEvent;
+import com.smart.hostel.repository.StudentAttendanceRepository;
+import com.smart.hostel.repository.StudentAttendanceRepository.BuildingStudent;
+import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.repository.StudentRepository.BuildingCount;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class BuildingStatsCache {
+
+	private final StudentRepository studentRepository;
+	private final StudentAttendanceRepository attendanceRepository;
+
+	@Value("${app.warden.stats.ttl-seconds:30}")
+	private long ttlSeconds;
+
+	private final Map<Long, BuildingStats> stats = new ConcurrentHashMap<>();
+
+	public Totals totals(Collection<Long> buildingIds) {
+		LocalDate today = LocalDate.now();
+		long now = System.currentTimeMillis();
+
+		List<Long> stale = new ArrayList<>();
+		for (Long buildingId : buildingIds) {
+			BuildingStats s = stats.get(buildingId);
+			if (s == null || !s.isFresh(today, now, ttlSeconds * 1000)) {
+				stale.add(buildingId);
+			}
+		}
+		if (!stale.isEmpty()) {
+			load(stale, today, now);
+		}
+
+		long approved = 0;
+		long present = 0;
+		for (Long buildingId : buildingIds) {
+			BuildingStats s = stats.get(buildingId);
+			if (s != null) {
+				approved += s.approved.get();
+				present += s.presentCount();
+			}
+		}
+		return new Totals(approved, present);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAttendanceMarked(StudentAttendanceMarkedEvent event) {
+		if (event.buildingId() == null) {
+			return;
+		}
+		BuildingStats s = stats.get(event.buildingId());
+		if (s != null && s.date.equals(event.attendanceDate())) {
+			s.markPresent(event.studentId());
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onStudentStatusChanged(StudentStatusChangedEvent event) {
+		if (event.buildingId() == null) {
+			return;
+		}
+		BuildingStats s = stats.get(event.buildingId());
+		if (s == null) {
+			return;
+		}
+		boolean wasApproved = event.previousStatus() == StudentStatus.APPROVED;
+		boolean isApproved = event.currentStatus() == StudentStatus.APPROVED;
+		if (isApproved && !wasApproved) {
+			s.approved.incrementAndGet();
+		} else if (wasApproved && !isApproved) {
+			s.approved.decrementAndGet();
+		}
+	}
+
+	private void load(List<Long> buildingIds, LocalDate today, long now) {
+		Map<Long, BuildingStats> loaded = new HashMap<>();
+		for (Long buildingId : buildingIds) {
+			loaded.put(buildingId, new BuildingStats(today, now));
+		}
+		for (BuildingCount count : studentRepository.countByStatusGroupedByBuilding(StudentStatus.APPROVED,
+				buildingIds)) {
+			loaded.get(count.getBuildingId()).approved.set(count.getTotal());
+		}
+		for (BuildingStudent present : attendanceRepository.findStudentsPresentOn(today, buildingIds)) {
+			loaded.get(present.getBuildingId()).markPresent(present.getStudentId());
+		}
+		stats.putAll(loaded);
+	}
+
+	public record Totals(long approvedStudents, long presentToday) {
+	}
+
+	private static final class BuildingStats {
+		private final LocalDate date;
+		private final long loadedAt;
+		private final AtomicLong approved = new AtomicLong();
+		private final BitSet present = new BitSet();
+
+		private BuildingStats(LocalDate date, long loadedAt) {
+			this.date = date;
+			this.loadedAt = loadedAt;
+		}
+
+		private boolean isFresh(LocalDate today, long now, long ttlMillis) {
+			return date.equals(today) && now - loadedAt < ttlMillis;
+		}
+
+		private synchronized void markPresent(Long studentId) {
+			present.set(Math.toIntExact(studentId));
+		}
+
+		private synchronized long presentCount() {
+			return present.cardinality();
+		}
+	}
+}
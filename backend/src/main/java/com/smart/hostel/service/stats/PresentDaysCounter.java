@@ -0,0 +1,67 @@
+package com.smart.hostel.service.stats;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smart.hostel.event.StudentAttendanceMarkedEvent;
+import com.smart.hostel.repository.StudentAttendanceRepository;
+import com.smart.hostel.repository.StudentAttendanceRepository.PresentDays;
+
+@Component
+public class PresentDaysCounter {
+
+	private final StudentAttendanceRepository attendanceRepository;
+	private final Cache<Long, Counter> counters;
+
+	public PresentDaysCounter(StudentAttendanceRepository attendanceRepository,
+			@Value("${app.stats.present-days.max-size:50000}") long maxSize,
+			@Value("${app.stats.present-days.expire-minutes:60}") long expireMinutes) {
+		this.attendanceRepository = attendanceRepository;
+		this.counters = Caffeine.newBuilder().maximumSize(maxSize)
+				.expireAfterAccess(Duration.ofMinutes(expireMinutes)).build();
+	}
+
+	public long presentDays(Long studentId) {
+		return counters.get(studentId, this::load).presentDays();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAttendanceMarked(StudentAttendanceMarkedEvent event) {
+		Counter counter = counters.getIfPresent(event.studentId());
+		if (counter != null && event.attendanceDate() != null) {
+			counter.record(event.attendanceDate());
+		}
+	}
+
+	private Counter load(Long studentId) {
+		PresentDays summary = attendanceRepository.summarizePresentDays(studentId);
+		return new Counter(summary.getPresentDays(), summary.getLastPresentDate());
+	}
+
+	private static final class Counter {
+		private long presentDays;
+		private LocalDate lastPresentDate;
+
+		private Counter(long presentDays, LocalDate lastPresentDate) {
+			this.presentDays = presentDays;
+			this.lastPresentDate = lastPresentDate;
+		}
+
+		private synchronized long presentDays() {
+			return presentDays;
+		}
+
+		private synchronized void record(LocalDate date) {
+			if (lastPresentDate == null || date.isAfter(lastPresentDate)) {
+				presentDays++;
+				lastPresentDate = date;
+			}
+		}
+	}
+}
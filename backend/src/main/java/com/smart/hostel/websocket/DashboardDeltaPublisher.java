@@ -0,0 +1,117 @@
+package com.smart.hostel.websocket;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.smart.hostel.dto.ComplaintDTO;
+import com.smart.hostel.dto.DashboardDeltaDTO;
+import com.smart.hostel.dto.VisitorDTO;
+import com.smart.hostel.entity.ComplaintCategory;
+import com.smart.hostel.entity.ComplaintStatus;
+import com.smart.hostel.entity.StudentStatus;
+import com.smart.hostel.entity.VisitorStatus;
+import com.smart.hostel.event.ComplaintChangedEvent;
+import com.smart.hostel.event.StudentStatusChangedEvent;
+import com.smart.hostel.event.VisitorChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class DashboardDeltaPublisher {
+
+	public static final String ROLES_PREFIX = "/topic/roles/";
+	static final String MESS_COMPLAINTS = "WARDEN/complaints/mess";
+	static final String ADMIN_STATS = "ADMIN/stats";
+	static final String GUARD_VISITORS = "GUARD/visitors";
+	static final String GUARD_STATS = "GUARD/stats";
+	static final Set<String> ROLE_TOPICS = Set.of(MESS_COMPLAINTS, ADMIN_STATS, GUARD_VISITORS, GUARD_STATS);
+	static final String BUILDING_COMPLAINTS = "complaints";
+	static final String BUILDING_VISITORS = "visitors";
+	static final Set<String> BUILDING_FEEDS = Set.of(BUILDING_COMPLAINTS, BUILDING_VISITORS);
+
+	private final SimpMessagingTemplate messagingTemplate;
+
+	public DashboardDeltaPublisher(@Lazy SimpMessagingTemplate messagingTemplate) {
+		this.messagingTemplate = messagingTemplate;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onComplaintChanged(ComplaintChangedEvent event) {
+		ComplaintDTO complaint = event.complaint();
+		DashboardDeltaDTO delta = delta("COMPLAINT", event.previousStatus() == null ? "CREATED" : "STATUS_CHANGED",
+				complaint);
+		if (complaint.buildingId() != null) {
+			send("/topic/buildings/" + complaint.buildingId() + "/" + BUILDING_COMPLAINTS, delta);
+		}
+		if (complaint.category() == ComplaintCategory.MESS) {
+			send(ROLES_PREFIX + MESS_COMPLAINTS, delta);
+		}
+
+		long pending = change(event.previousStatus() == ComplaintStatus.OPEN,
+				complaint.status() == ComplaintStatus.OPEN);
+		if (pending != 0) {
+			send(ROLES_PREFIX + ADMIN_STATS, counts("pendingComplaints", pending));
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onVisitorChanged(VisitorChangedEvent event) {
+		VisitorDTO visitor = event.visitor();
+		DashboardDeltaDTO delta = delta("VISITOR", visitor.status().name(), visitor);
+		send(ROLES_PREFIX + GUARD_VISITORS, delta);
+		if (event.buildingId() != null) {
+			send("/topic/buildings/" + event.buildingId() + "/" + BUILDING_VISITORS, delta);
+		}
+
+		Map<String, Long> changes = new LinkedHashMap<>();
+		long active = change(event.previousStatus() == VisitorStatus.CHECKED_IN,
+				visitor.status() == VisitorStatus.CHECKED_IN);
+		if (active != 0) {
+			changes.put("activeVisitors", active);
+		}
+		if (event.previousStatus() == null && visitor.visitDate() != null
+				&& visitor.visitDate().toLocalDate().equals(LocalDateTime.now().toLocalDate())) {
+			changes.put("todayVisitors", 1L);
+		}
+		if (!changes.isEmpty()) {
+			send(ROLES_PREFIX + GUARD_STATS, delta("STATS", "COUNTS_CHANGED", changes));
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onStudentStatusChanged(StudentStatusChangedEvent event) {
+		long approved = change(event.previousStatus() == StudentStatus.APPROVED,
+				event.currentStatus() == StudentStatus.APPROVED);
+		if (approved != 0) {
+			send(ROLES_PREFIX + ADMIN_STATS, counts("totalStudents", approved));
+		}
+	}
+
+	private static long change(boolean before, boolean after) {
+		return before == after ? 0 : after ? 1 : -1;
+	}
+
+	private static DashboardDeltaDTO counts(String counter, long change) {
+		return delta("STATS", "COUNTS_CHANGED", Map.of(counter, change));
+	}
+
+	private static DashboardDeltaDTO delta(String type, String action, Object data) {
+		return new DashboardDeltaDTO(type, action, data, LocalDateTime.now());
+	}
+
+	private void send(String destination, DashboardDeltaDTO delta) {
+		try {
+			messagingTemplate.convertAndSend(destination, delta);
+		} catch (Exception e) {
+			log.warn("Failed to publish {} delta to {}: {}", delta.type(), destination, e.getMessage());
+		}
+	}
+}
@@ -18,4 +18,8 @@ public class NotificationSocketService {
 	public void sendToUser(String username, NotificationDTO dto) {
 		messagingTemplate.convertAndSendToUser(username, "/queue/notifications", dto);
 	}
+
+	public void sendToTopic(String destination, NotificationDTO dto) {
+		messagingTemplate.convertAndSend(destination, dto);
+	}
 }
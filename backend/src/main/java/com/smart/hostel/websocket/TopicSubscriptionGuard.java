@@ -0,0 +1,73 @@
+package com.smart.hostel.websocket;
+
+import java.security.Principal;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import com.smart.hostel.repository.StaffBuildingMapRepository;
+import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Allowlist of STOMP destinations a session may subscribe to. Anything not matched here is refused, so a new topic
+ * stays private until a rule for it is added.
+ */
+@Component
+@RequiredArgsConstructor
+public class TopicSubscriptionGuard {
+
+	private static final String USER_QUEUE_PREFIX = "/user/queue/";
+	private static final String ANNOUNCEMENTS_PREFIX = "/topic/announcements/";
+	private static final String BUILDINGS_PREFIX = "/topic/buildings/";
+	private static final String BUILDING_ANNOUNCEMENTS = "announcements";
+
+	private final UserRepository userRepository;
+	private final StudentRepository studentRepository;
+	private final StaffBuildingMapRepository staffBuildingMapRepository;
+
+	public boolean canSubscribe(Principal principal, String destination) {
+		if (destination == null || !(principal instanceof Authentication auth)) {
+			return false;
+		}
+		if (destination.startsWith(USER_QUEUE_PREFIX)) {
+			return true;
+		}
+		if (destination.startsWith(ANNOUNCEMENTS_PREFIX)) {
+			return hasRole(auth, destination.substring(ANNOUNCEMENTS_PREFIX.length()));
+		}
+		if (destination.startsWith(DashboardDeltaPublisher.ROLES_PREFIX)) {
+			String topic = destination.substring(DashboardDeltaPublisher.ROLES_PREFIX.length());
+			return DashboardDeltaPublisher.ROLE_TOPICS.contains(topic)
+					&& (hasRole(auth, "ADMIN") || hasRole(auth, topic.substring(0, topic.indexOf('/'))));
+		}
+		if (destination.startsWith(BUILDINGS_PREFIX)) {
+			String[] parts = destination.substring(BUILDINGS_PREFIX.length()).split("/", -1);
+			if (parts.length != 2) {
+				return false;
+			}
+			return canSubscribeToBuilding(auth, parts[0], parts[1]);
+		}
+		return false;
+	}
+
+	private boolean canSubscribeToBuilding(Authentication auth, String buildingId, String feed) {
+		if (hasRole(auth, "STUDENT")) {
+			return feed.equals(BUILDING_ANNOUNCEMENTS)
+					&& userRepository.findByUsername(auth.getName()).flatMap(studentRepository::findByUser)
+							.filter(s -> s.getBuilding() != null)
+							.map(s -> s.getBuilding().getBuildingId().toString().equals(buildingId)).orElse(false);
+		}
+		if (!feed.equals(BUILDING_ANNOUNCEMENTS) && !DashboardDeltaPublisher.BUILDING_FEEDS.contains(feed)) {
+			return false;
+		}
+		return hasRole(auth, "ADMIN") || staffBuildingMapRepository.findByStaff_User_Username(auth.getName()).stream()
+				.anyMatch(m -> m.getBuilding().getBuildingId().toString().equals(buildingId));
+	}
+
+	private boolean hasRole(Authentication auth, String role) {
+		return auth.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_" + role));
+	}
+}
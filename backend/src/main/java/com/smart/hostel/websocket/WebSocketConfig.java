@@ -17,8 +17,8 @@ import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBr
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
-import com.smart.hostel.security.CustomUserDetailsService;
 import com.smart.hostel.security.JwtUtil;
+import com.smart.hostel.security.UserDetailsCache;
 
 import lombok.AllArgsConstructor;
 
@@ -28,7 +28,8 @@ import lombok.AllArgsConstructor;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	private final JwtUtil jwtUtil;
-	private final CustomUserDetailsService userDetailsService;
+	private final UserDetailsCache userDetailsCache;
+	private final TopicSubscriptionGuard topicSubscriptionGuard;
 
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -63,7 +64,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 					if (jwtToken != null) {
 						try {
 							String username = jwtUtil.getUsernameFromToken(jwtToken);
-							UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+							UserDetails userDetails = userDetailsCache.get(username);
 
 							if (jwtUtil.validateToken(jwtToken, userDetails)) {
 								UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
@@ -75,6 +76,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 						}
 					}
 				}
+
+				if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())
+						&& !topicSubscriptionGuard.canSubscribe(accessor.getUser(), accessor.getDestination())) {
+					return null;
+				}
 				return message;
 			}
 		});
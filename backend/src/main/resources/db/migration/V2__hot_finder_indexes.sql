@@ -0,0 +1,30 @@
+-- Composite indexes for the hot repository finders.
+-- Indexes with a leading student_id/user_id/building_id column replace the implicit FK indexes.
+
+-- StudentAttendanceRepository.findByStudent_StudentIdOrderByAttendanceDateDesc, summarizePresentDays,
+-- findFirstByStudent_StudentIdAndAttendanceTypeOrderByAttendanceDateDescAttendanceTimeDesc, findLatestActions
+CREATE INDEX `idx_attendance_student_date` ON `student_attendance` (`student_id`, `attendance_date`, `attendance_time`);
+
+-- StudentAttendanceRepository.findStudentIdsMarkedForMeal
+CREATE INDEX `idx_attendance_date_meal` ON `student_attendance` (`attendance_date`, `meal_type`, `student_id`);
+
+-- StudentAttendanceRepository.findStudentsPresentOn
+CREATE INDEX `idx_attendance_date_building` ON `student_attendance` (`attendance_date`, `building_id`, `student_id`);
+
+-- ComplaintRepository.findPageByBuildingAndStatus, findPageByBuilding
+CREATE INDEX `idx_complaints_building_status` ON `complaints` (`building_id`, `status`);
+
+-- ComplaintRepository.findPageByCategory
+CREATE INDEX `idx_complaints_category` ON `complaints` (`category`);
+
+-- NotificationRepository.findByUserAndIsReadFalse
+CREATE INDEX `idx_notifications_user_read` ON `notifications` (`user_id`, `is_read`);
+
+-- VisitorRepository.findByStudent_Building_BuildingIdAndStatus
+CREATE INDEX `idx_visitors_student_status` ON `visitors` (`student_id`, `status`);
+
+-- VisitorRepository.countByVisitDateBetween
+CREATE INDEX `idx_visitors_visit_date` ON `visitors` (`visit_date`);
+
+-- StudentRepository.findPageByStatus, countByStatusGroupedByBuilding, countByStatus
+CREATE INDEX `idx_students_status_building` ON `students` (`status`, `building_id`);
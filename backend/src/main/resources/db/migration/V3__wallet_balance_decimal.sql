@@ -0,0 +1,4 @@
+-- Wallet balances are debited/credited in place by StudentRepository.debitWallet/creditWallet,
+-- so they need exact decimal arithmetic like payments.amount.
+UPDATE `students` SET `wallet_balance` = 0 WHERE `wallet_balance` IS NULL;
+ALTER TABLE `students` MODIFY `wallet_balance` DECIMAL(10,2) NOT NULL DEFAULT 0.00;
@@ -0,0 +1,19 @@
+-- Table-backed sequences for the high-volume entities (MySQL has no native sequences).
+-- Hibernate's pooled optimizer (allocationSize = 50) treats a fetched next_val as the top of a block
+-- and hands out next_val - 49 .. next_val, so each table is seeded at MAX(id) + 50.
+-- The JDBC batch writers draw their ids from the same generators via EntityIdAllocator.
+
+CREATE TABLE `notifications_seq` (`next_val` bigint NOT NULL) ENGINE=InnoDB;
+INSERT INTO `notifications_seq` SELECT COALESCE(MAX(`notification_id`), 0) + 50 FROM `notifications`;
+
+CREATE TABLE `student_attendance_seq` (`next_val` bigint NOT NULL) ENGINE=InnoDB;
+INSERT INTO `student_attendance_seq` SELECT COALESCE(MAX(`attendance_id`), 0) + 50 FROM `student_attendance`;
+
+CREATE TABLE `payments_seq` (`next_val` bigint NOT NULL) ENGINE=InnoDB;
+INSERT INTO `payments_seq` SELECT COALESCE(MAX(`payment_id`), 0) + 50 FROM `payments`;
+
+CREATE TABLE `audit_logs_seq` (`next_val` bigint NOT NULL) ENGINE=InnoDB;
+INSERT INTO `audit_logs_seq` SELECT COALESCE(MAX(`log_id`), 0) + 50 FROM `audit_logs`;
+
+CREATE TABLE `staff_attendance_seq` (`next_val` bigint NOT NULL) ENGINE=InnoDB;
+INSERT INTO `staff_attendance_seq` SELECT COALESCE(MAX(`staff_attendance_id`), 0) + 50 FROM `staff_attendance`;
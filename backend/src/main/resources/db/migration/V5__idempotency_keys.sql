@@ -0,0 +1,14 @@
+-- Stored responses for requests carrying an Idempotency-Key header (see IdempotentExecutor).
+-- The row is inserted and completed in the same transaction as the business write, so a
+-- committed row always carries the response of a committed operation.
+
+CREATE TABLE `idempotency_keys` (
+  `record_key` varchar(255) NOT NULL,
+  `endpoint` varchar(100) NOT NULL,
+  `request_hash` varchar(64) NOT NULL,
+  `response_body` varchar(4000) DEFAULT NULL,
+  `created_at` datetime(6) NOT NULL,
+  `expires_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`record_key`),
+  KEY `idx_idempotency_keys_expires_at` (`expires_at`)
+) ENGINE=InnoDB;
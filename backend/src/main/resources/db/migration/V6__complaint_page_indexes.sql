@@ -0,0 +1,9 @@
+-- Keyset pages over complaints sort by complaint_id, so it is spelled out as the trailing column.
+
+-- ComplaintRepository.findPageByBuildingAndStatus
+CREATE INDEX `idx_complaints_building_status_id` ON `complaints` (`building_id`, `status`, `complaint_id`);
+
+-- ComplaintRepository.findPageByBuilding, streamByBuilding
+CREATE INDEX `idx_complaints_building_id` ON `complaints` (`building_id`, `complaint_id`);
+
+DROP INDEX `idx_complaints_building_status` ON `complaints`;
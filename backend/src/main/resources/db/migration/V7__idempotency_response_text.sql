@@ -0,0 +1,4 @@
+-- Responses larger than the old varchar(4000) left the claim row without a body, so every retry
+-- with the same key was answered 409 until the row expired.
+
+ALTER TABLE `idempotency_keys` MODIFY `response_body` mediumtext DEFAULT NULL;
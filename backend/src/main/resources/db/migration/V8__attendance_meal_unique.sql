@@ -0,0 +1,13 @@
+-- One mess attendance per student and meal. The in-memory served set only covers scans seen by
+-- the same node, so the table has to reject a second row for the same meal itself.
+-- Hostel rows have a NULL meal_type and never conflict.
+
+-- Keep the earliest row of any duplicates recorded before the key existed.
+DELETE a FROM `student_attendance` a JOIN `student_attendance` b
+    ON a.`student_id` = b.`student_id` AND a.`attendance_date` = b.`attendance_date`
+    AND a.`meal_type` = b.`meal_type` AND a.`attendance_id` > b.`attendance_id`;
+
+-- StudentAttendanceRepository.findStudentIdsMarkedForMeal
+CREATE UNIQUE INDEX `uk_attendance_date_meal_student` ON `student_attendance` (`attendance_date`, `meal_type`, `student_id`);
+
+DROP INDEX `idx_attendance_date_meal` ON `student_attendance`;
@@ -0,0 +1,202 @@
+package com.smart.hostel.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.smart.hostel.entity.BuildingType;
+import com.smart.hostel.entity.ComplaintStatus;
+import com.smart.hostel.entity.HostelBuilding;
+import com.smart.hostel.entity.Role;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.entity.StudentStatus;
+import com.smart.hostel.entity.User;
+import com.smart.hostel.entity.VisitorStatus;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.smart.hostel.repository.HotFinderExplainTest$SqlRecorder")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class HotFinderExplainTest {
+
+	private static final int STUDENTS = 200;
+	private static final int DAYS = 60;
+
+	@Autowired
+	private TestEntityManager entityManager;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private RoleRepository roleRepository;
+	@Autowired
+	private StudentAttendanceRepository attendanceRepository;
+	@Autowired
+	private ComplaintRepository complaintRepository;
+	@Autowired
+	private NotificationRepository notificationRepository;
+	@Autowired
+	private VisitorRepository visitorRepository;
+
+	private final LocalDate today = LocalDate.now();
+	private HostelBuilding building;
+	private Student student;
+	private User user;
+
+	@BeforeEach
+	void seed() {
+		String run = UUID.randomUUID().toString().substring(0, 8);
+		building = new HostelBuilding();
+		building.setBuildingName("explain-" + run);
+		building.setBuildingType(BuildingType.CO_ED);
+		entityManager.persist(building);
+		HostelBuilding other = new HostelBuilding();
+		other.setBuildingName("explain-other-" + run);
+		other.setBuildingType(BuildingType.CO_ED);
+		entityManager.persist(other);
+
+		Role role = roleRepository.findByRoleName("STUDENT").orElseThrow();
+		List<Student> students = new ArrayList<>();
+		for (int i = 0; i < STUDENTS; i++) {
+			User u = new User();
+			u.setRole(role);
+			u.setUsername("explain-" + run + "-" + i);
+			u.setPasswordHash("x");
+			entityManager.persist(u);
+			Student s = new Student();
+			s.setUser(u);
+			s.setFullName("Explain " + i);
+			s.setStatus(i % 4 == 0 ? StudentStatus.PENDING : StudentStatus.APPROVED);
+			s.setBuilding(i % 2 == 0 ? building : other);
+			entityManager.persist(s);
+			students.add(s);
+		}
+		entityManager.flush();
+		student = students.get(0);
+		user = student.getUser();
+
+		List<Object[]> attendance = new ArrayList<>();
+		List<Object[]> complaints = new ArrayList<>();
+		List<Object[]> notifications = new ArrayList<>();
+		List<Object[]> visitors = new ArrayList<>();
+		for (Student s : students) {
+			Long buildingId = s.getBuilding().getBuildingId();
+			for (int d = 0; d < DAYS; d += 3) {
+				attendance.add(new Object[] { s.getStudentId(), buildingId, Date.valueOf(today.minusDays(d)),
+						Time.valueOf(LocalTime.of(8, 0)), "HOSTEL", d % 2 == 0 ? "IN" : "OUT", null });
+				attendance.add(new Object[] { s.getStudentId(), buildingId, Date.valueOf(today.minusDays(d)),
+						Time.valueOf(LocalTime.of(13, 0)), "MESS", null, "LUNCH" });
+			}
+			for (int c = 0; c < 5; c++) {
+				complaints.add(new Object[] { s.getStudentId(), buildingId, c % 2 == 0 ? "MESS" : "ELECTRIC",
+						ComplaintStatus.values()[c % ComplaintStatus.values().length].name() });
+			}
+			for (int n = 0; n < 10; n++) {
+				notifications.add(new Object[] { s.getUser().getUserId(), "t", "m", n % 3 == 0 });
+			}
+			for (int v = 0; v < 5; v++) {
+				visitors.add(new Object[] { s.getStudentId(), "visitor",
+						VisitorStatus.values()[v % VisitorStatus.values().length].name(),
+						Timestamp.valueOf(today.minusDays((s.getStudentId() + v) % DAYS).atTime(10, 0)) });
+			}
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO student_attendance (student_id, building_id, attendance_date, "
+				+ "attendance_time, attendance_type, hostel_action, meal_type) VALUES (?, ?, ?, ?, ?, ?, ?)", attendance);
+		jdbcTemplate.batchUpdate("INSERT INTO complaints (student_id, building_id, category, status, created_at) "
+				+ "VALUES (?, ?, ?, ?, NOW())", complaints);
+		jdbcTemplate.batchUpdate("INSERT INTO notifications (user_id, title, message, is_read, created_at) "
+				+ "VALUES (?, ?, ?, ?, NOW())", notifications);
+		jdbcTemplate.batchUpdate("INSERT INTO visitors (student_id, visitor_name, status, visit_date) "
+				+ "VALUES (?, ?, ?, ?)", visitors);
+		entityManager.clear();
+		SqlRecorder.STATEMENTS.clear();
+	}
+
+	@Test
+	void attendanceHistoryUsesStudentDateIndex() {
+		attendanceRepository.findHistory(student.getStudentId());
+
+		assertPlan(explainFinder(student.getStudentId()), "idx_attendance_student_date");
+	}
+
+	@Test
+	void complaintsByBuildingAndStatusUseCompositeIndex() {
+		complaintRepository.findPageByBuildingAndStatus(building.getBuildingId(), ComplaintStatus.OPEN,
+				Long.MAX_VALUE, Limit.of(50));
+
+		assertPlan(explainFinder(building.getBuildingId(), ComplaintStatus.OPEN.name(), Long.MAX_VALUE, 50),
+				"idx_complaints_building_status_id");
+	}
+
+	@Test
+	void complaintsByBuildingUseBuildingIdIndex() {
+		complaintRepository.findPageByBuilding(building.getBuildingId(), Long.MAX_VALUE, Limit.of(50));
+
+		assertPlan(explainFinder(building.getBuildingId(), Long.MAX_VALUE, 50), "idx_complaints_building_id");
+	}
+
+	@Test
+	void unreadNotificationsUseUserReadIndex() {
+		notificationRepository.findByUserAndIsReadFalse(user);
+
+		assertPlan(explainFinder(user.getUserId()), "idx_notifications_user_read");
+	}
+
+	@Test
+	void pendingVisitorsByBuildingUseStudentStatusIndex() {
+		visitorRepository.findByBuildingAndStatus(building.getBuildingId(), VisitorStatus.PENDING);
+
+		assertPlan(explainFinder(building.getBuildingId(), VisitorStatus.PENDING.name()), "idx_visitors_student_status");
+	}
+
+	@Test
+	void visitorsCountedByDateUseVisitDateIndex() {
+		LocalDateTime start = today.atStartOfDay();
+		LocalDateTime end = today.atTime(LocalTime.MAX);
+		visitorRepository.countByVisitDateBetween(start, end);
+
+		assertPlan(explainFinder(Timestamp.valueOf(start), Timestamp.valueOf(end)), "idx_visitors_visit_date");
+	}
+
+	private List<Map<String, Object>> explainFinder(Object... args) {
+		assertThat(SqlRecorder.STATEMENTS).isNotEmpty();
+		String sql = SqlRecorder.STATEMENTS.get(0);
+		return jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+	}
+
+	private void assertPlan(List<Map<String, Object>> plan, String expectedIndex) {
+		assertThat(plan).as("EXPLAIN %s", plan).anySatisfy(row -> assertThat(row.get("key")).isEqualTo(expectedIndex));
+		assertThat(plan).as("EXPLAIN %s", plan).noneSatisfy(row -> assertThat(row.get("type")).isEqualTo("ALL"));
+		assertThat(plan).as("EXPLAIN %s", plan)
+				.noneSatisfy(row -> assertThat(String.valueOf(row.get("Extra"))).contains("Using filesort"));
+	}
+
+	public static class SqlRecorder implements StatementInspector {
+
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.smart.hostel.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.smart.hostel.entity.BuildingType;
+import com.smart.hostel.entity.HostelBuilding;
+import com.smart.hostel.entity.Role;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ReferenceDataCacheTest {
+
+	@Autowired
+	private RoleRepository roleRepository;
+	@Autowired
+	private HostelBuildingRepository buildingRepository;
+	@Autowired
+	private StaffBuildingMapRepository mapRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Statistics statistics;
+	private Role role;
+	private HostelBuilding building;
+
+	@BeforeEach
+	void seed() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		role = roleRepository.save(new Role(null, "R" + suffix));
+		HostelBuilding b = new HostelBuilding();
+		b.setBuildingName("Cached " + suffix);
+		b.setBuildingType(BuildingType.CO_ED);
+		b.setAvailableRooms(10);
+		building = buildingRepository.save(b);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		buildingRepository.deleteById(building.getBuildingId());
+		roleRepository.deleteById(role.getRoleId());
+	}
+
+	@Test
+	void repeatedReferenceReadsIssueNoSql() {
+		inTransaction(() -> roleRepository.findByRoleName(role.getRoleName()));
+		inTransaction(() -> buildingRepository.findById(building.getBuildingId()));
+		inTransaction(() -> mapRepository.findByBuilding(building));
+
+		long statements = statistics.getPrepareStatementCount();
+		double hits = meterRegistry.get("hibernate.second.level.cache.requests").tag("result", "hit").functionCounter()
+				.count();
+
+		assertThat(inTransaction(() -> roleRepository.findByRoleName(role.getRoleName()))).isPresent();
+		assertThat(inTransaction(() -> buildingRepository.findById(building.getBuildingId()))).isPresent();
+		assertThat(inTransaction(() -> mapRepository.findByBuilding(building))).isEmpty();
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+		assertThat(meterRegistry.get("hibernate.second.level.cache.requests").tag("result", "hit").functionCounter()
+				.count()).isGreaterThan(hits);
+	}
+
+	@Test
+	void writesThroughRepositoriesInvalidateCachedRows() {
+		inTransaction(() -> buildingRepository.findById(building.getBuildingId()));
+
+		building.setAvailableRooms(3);
+		buildingRepository.save(building);
+
+		assertThat(inTransaction(() -> buildingRepository.findById(building.getBuildingId())).orElseThrow()
+				.getAvailableRooms()).isEqualTo(3);
+		assertThat(inTransaction(() -> buildingRepository.findAll())).extracting(HostelBuilding::getBuildingId)
+				.contains(building.getBuildingId());
+	}
+
+	private <T> T inTransaction(Supplier<T> work) {
+		return transactionTemplate.execute(status -> work.get());
+	}
+}
@@ -0,0 +1,81 @@
+package com.smart.hostel.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.smart.hostel.security.RateLimitFilter.Budget;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitFilterTest {
+
+	private static final long SECOND = 1_000_000_000L;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AtomicLong clock = new AtomicLong();
+	private final RateLimitFilter filter = new RateLimitFilter(meterRegistry, true, 1000, clock::get,
+			new Budget(1, 2, 3), new Budget(1, 1, 100), new Budget(100, 100, 100));
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void clientIsThrottledAfterBurstAndRefilled() throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("guard1", null, "ROLE_GUARD"));
+
+		assertThat(call("/api/v1/attendance/qr", "10.0.0.1").getStatus()).isEqualTo(200);
+		assertThat(call("/api/v1/attendance/qr", "10.0.0.1").getStatus()).isEqualTo(200);
+		MockHttpServletResponse rejected = call("/api/v1/attendance/qr", "10.0.0.1");
+		assertThat(rejected.getStatus()).isEqualTo(429);
+		assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+
+		assertThat(call("/api/v1/students/me", "10.0.0.1").getStatus()).isEqualTo(200);
+
+		clock.addAndGet(SECOND);
+		assertThat(call("/api/v1/attendance/qr", "10.0.0.1").getStatus()).isEqualTo(200);
+		assertThat(throttled("qr", "client")).isEqualTo(1);
+	}
+
+	@Test
+	void endpointBudgetCapsManyClients() throws Exception {
+		for (int i = 1; i <= 3; i++) {
+			assertThat(call("/api/v1/attendance/qr", "10.0.0." + i).getStatus()).isEqualTo(200);
+		}
+		assertThat(call("/api/v1/attendance/qr", "10.0.0.4").getStatus()).isEqualTo(429);
+		assertThat(throttled("qr", "endpoint")).isEqualTo(1);
+
+		clock.addAndGet(SECOND / 3 + 1);
+		assertThat(call("/api/v1/attendance/qr", "10.0.0.4").getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void anonymousLoginsAreLimitedPerAddress() throws Exception {
+		assertThat(call("/api/v1/auth/login", "192.168.1.5").getStatus()).isEqualTo(200);
+		assertThat(call("/api/v1/auth/login", "192.168.1.5").getStatus()).isEqualTo(429);
+		assertThat(call("/api/v1/auth/login", "192.168.1.6").getStatus()).isEqualTo(200);
+		assertThat(throttled("login", "client")).isEqualTo(1);
+	}
+
+	private MockHttpServletResponse call(String uri, String remoteAddr) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+		request.setRemoteAddr(remoteAddr);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+
+	private double throttled(String limit, String scope) {
+		return meterRegistry.counter("http.server.requests.throttled", "limit", limit, "scope", scope).count();
+	}
+}
@@ -0,0 +1,199 @@
+package com.smart.hostel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.DecodeHintType;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
+import com.smart.hostel.dto.QrImageDTO;
+import com.smart.hostel.dto.QrPassSubject;
+import com.smart.hostel.entity.QrImageFormat;
+import com.smart.hostel.entity.Role;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.entity.StudentStatus;
+import com.smart.hostel.entity.User;
+import com.smart.hostel.repository.RoleRepository;
+import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.security.JwtUtil;
+import com.smart.hostel.security.QrPassCodec;
+
+@AutoConfigureMockMvc
+@SpringBootTest(properties = { "app.qr.pass.compact-enabled=true",
+		"app.qr.pass.private-key=" + QRCodeServiceTest.PRIVATE_KEY,
+		"app.qr.pass.public-key=MCowBQYDK2VwAyEA1kxRL/odmxOQU/Jg//lI9NGKKIPG3T+k8Pg1Quhdc4s=" })
+class QRCodeServiceTest {
+
+	static final String PRIVATE_KEY = "MC4CAQAwBQYDK2VwBCIEIE5agnusxv0cQ6sPpllNaYe6Iz+xKUpiMdOnQRjQGFTg";
+
+	@Autowired
+	private QRCodeService qrCodeService;
+	@Autowired
+	private QrPassCodec qrPassCodec;
+	@Autowired
+	private JwtUtil jwtUtil;
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private RoleRepository roleRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private StudentRepository studentRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void imageIsRenderedOncePerUserAndEpoch() throws Exception {
+		Instant now = Instant.now();
+		QrImageDTO first = qrCodeService.getAttendanceQr("qr-student", QrImageFormat.PNG, now);
+		QrImageDTO again = qrCodeService.getAttendanceQr("qr-student", QrImageFormat.PNG, now.plusSeconds(1));
+		QrImageDTO nextEpoch = qrCodeService.getAttendanceQr("qr-student", QrImageFormat.PNG, now.plusSeconds(300));
+
+		assertThat(again).isSameAs(first);
+		assertThat(nextEpoch.etag()).isNotEqualTo(first.etag());
+		assertThat(first.freshUntil()).isAfter(now);
+
+		String token = new QRCodeReader().decode(new BinaryBitmap(new HybridBinarizer(
+				new BufferedImageLuminanceSource(ImageIO.read(new ByteArrayInputStream(first.content()))))),
+				Map.of(DecodeHintType.PURE_BARCODE, Boolean.TRUE)).getText();
+		assertThat(qrCodeService.resolve(token).username()).isEqualTo("qr-student");
+	}
+
+	@Test
+	void compactPassesVerifyAndLegacyJwtPassesStillResolve() {
+		Instant now = Instant.now();
+		String pass = qrPassCodec.issue(42L, now.plus(JwtUtil.QR_TOKEN_VALIDITY));
+
+		assertThat(pass).startsWith(QrPassCodec.PREFIX).hasSizeLessThan(130)
+				.matches("[0-9A-Z $%*+\\-./:]+");
+		QrPassSubject subject = qrCodeService.resolve(pass);
+		assertThat(subject.studentId()).isEqualTo(42L);
+		assertThat(subject.expiresAt()).isEqualTo(now.plus(JwtUtil.QR_TOKEN_VALIDITY).truncatedTo(ChronoUnit.SECONDS));
+		assertThat(qrPassCodec.verify(pass, now.plus(JwtUtil.QR_TOKEN_VALIDITY).plusSeconds(1))).isNull();
+
+		char last = pass.charAt(pass.length() - 1);
+		String tampered = pass.substring(0, pass.length() - 1) + (last == '0' ? '1' : '0');
+		assertThat(qrCodeService.resolve(tampered)).isNull();
+		assertThat(qrCodeService.resolve(QrPassCodec.PREFIX + "%%%")).isNull();
+
+		QrPassSubject legacy = qrCodeService.resolve(jwtUtil.generateQrToken("legacy-student"));
+		assertThat(legacy.username()).isEqualTo("legacy-student");
+		assertThat(legacy.fingerprint())
+				.isNotEqualTo(qrCodeService.resolve(jwtUtil.generateQrToken("legacy-student")).fingerprint());
+	}
+
+	@Test
+	void compactPassesRequireConfiguredKeys() {
+		QrPassCodec unconfigured = new QrPassCodec("", "");
+
+		assertThat(unconfigured.verify(qrPassCodec.issue(42L, Instant.now().plusSeconds(60)), Instant.now())).isNull();
+		assertThatThrownBy(() -> new QRCodeService(jwtUtil, unconfigured, null, true, 300, 8, 10))
+				.isInstanceOf(IllegalStateException.class);
+		assertThat(new QRCodeService(jwtUtil, unconfigured, null, false, 300, 8, 10).resolve(
+				jwtUtil.generateQrToken("jwt-only")).username()).isEqualTo("jwt-only");
+	}
+
+	@Test
+	void mismatchedKeyPairFailsAtStartup() throws Exception {
+		String otherPublicKey = Base64.getEncoder().encodeToString(
+				KeyPairGenerator.getInstance(QrPassCodec.ALGORITHM).generateKeyPair().getPublic().getEncoded());
+
+		assertThatThrownBy(() -> new QrPassCodec(PRIVATE_KEY, otherPublicKey))
+				.isInstanceOf(IllegalStateException.class).hasMessageContaining("does not match");
+	}
+
+	@Test
+	void svgIsServedWithValidatorsAndRevalidates() throws Exception {
+		String etag = mockMvc
+				.perform(get("/api/v1/students/qr").param("format", "SVG")
+						.with(SecurityMockMvcRequestPostProcessors.user("qr-student").roles("STUDENT")))
+				.andExpect(status().isOk()).andExpect(content().contentType("image/svg+xml"))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/api/v1/students/qr").param("format", "SVG").header(HttpHeaders.IF_NONE_MATCH, etag)
+				.with(SecurityMockMvcRequestPostProcessors.user("qr-student").roles("STUDENT")))
+				.andExpect(status().isNotModified());
+
+		String legacy = mockMvc
+				.perform(get("/api/v1/students/qr")
+						.with(SecurityMockMvcRequestPostProcessors.user("qr-student").roles("STUDENT")))
+				.andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+		assertThat(legacy).startsWith("iVBORw0KGgo");
+	}
+
+	@Test
+	void compactPassIsAcceptedThroughAnEncodedQueryString() throws Exception {
+		Role role = roleRepository.findByRoleName("STUDENT")
+				.orElseGet(() -> roleRepository.save(new Role(null, "STUDENT")));
+		User user = new User();
+		user.setRole(role);
+		user.setUsername("qr-pass-" + UUID.randomUUID().toString().substring(0, 8));
+		user.setPasswordHash("x");
+		user = userRepository.save(user);
+		Student student = new Student();
+		student.setUser(user);
+		student.setFullName("Compact Pass");
+		student.setStatus(StudentStatus.APPROVED);
+		student = studentRepository.save(student);
+		try {
+			String pass;
+			do {
+				pass = qrPassCodec.issue(student.getStudentId(), Instant.now().plus(JwtUtil.QR_TOKEN_VALIDITY));
+			} while (!pass.matches(".*[ +%/:].*"));
+			String query = "token=" + URLEncoder.encode(pass, StandardCharsets.UTF_8).replace("+", "%20")
+					+ "&type=HOSTEL";
+
+			mockMvc.perform(post(URI.create("/api/v1/attendance/qr?" + query))
+					.with(SecurityMockMvcRequestPostProcessors.user("gate").roles("GUARD")))
+					.andExpect(status().isOk()).andExpect(jsonPath("$.studentId").value(student.getStudentId()))
+					.andExpect(jsonPath("$.hostelAction").value("IN"));
+		} finally {
+			awaitNotification(user.getUserId());
+			jdbcTemplate.update("DELETE FROM notifications WHERE user_id = ?", user.getUserId());
+			jdbcTemplate.update("DELETE FROM student_attendance WHERE student_id = ?", student.getStudentId());
+			studentRepository.delete(student);
+			userRepository.delete(user);
+		}
+	}
+
+	private void awaitNotification(Long userId) throws InterruptedException {
+		for (int i = 0; i < 100 && jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE user_id = ?",
+				Long.class, userId) == 0; i++) {
+			Thread.sleep(100);
+		}
+	}
+}
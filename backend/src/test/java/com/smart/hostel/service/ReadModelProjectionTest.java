@@ -0,0 +1,202 @@
+package com.smart.hostel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.smart.hostel.config.SqlStatementCounter;
+import com.smart.hostel.dto.ComplaintDTO;
+import com.smart.hostel.dto.CursorPage;
+import com.smart.hostel.dto.StudentAttendanceDTO;
+import com.smart.hostel.dto.StudentDTO;
+import com.smart.hostel.dto.VisitorDTO;
+import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.BuildingType;
+import com.smart.hostel.entity.Complaint;
+import com.smart.hostel.entity.ComplaintCategory;
+import com.smart.hostel.entity.ComplaintStatus;
+import com.smart.hostel.entity.HostelAction;
+import com.smart.hostel.entity.HostelBuilding;
+import com.smart.hostel.entity.Role;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.entity.StudentAttendance;
+import com.smart.hostel.entity.StudentStatus;
+import com.smart.hostel.entity.User;
+import com.smart.hostel.entity.Visitor;
+import com.smart.hostel.entity.VisitorStatus;
+import com.smart.hostel.repository.ComplaintRepository;
+import com.smart.hostel.repository.HostelBuildingRepository;
+import com.smart.hostel.repository.RoleRepository;
+import com.smart.hostel.repository.StudentAttendanceRepository;
+import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.repository.VisitorRepository;
+import com.smart.hostel.support.QueryBudget;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ReadModelProjectionTest {
+
+	private static final int ROWS = 20;
+
+	@Autowired
+	private ComplaintService complaintService;
+	@Autowired
+	private VisitorService visitorService;
+	@Autowired
+	private StudentService studentService;
+	@Autowired
+	private StudentAttendanceService studentAttendanceService;
+	@Autowired
+	private RoleRepository roleRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private StudentRepository studentRepository;
+	@Autowired
+	private HostelBuildingRepository buildingRepository;
+	@Autowired
+	private ComplaintRepository complaintRepository;
+	@Autowired
+	private VisitorRepository visitorRepository;
+	@Autowired
+	private StudentAttendanceRepository attendanceRepository;
+	@Autowired
+	private SqlStatementCounter statementCounter;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private HostelBuilding building;
+	private User user;
+	private Student student;
+	private Student walkIn;
+	private Complaint walkInComplaint;
+
+	@BeforeEach
+	void seed() {
+		HostelBuilding b = new HostelBuilding();
+		b.setBuildingName("Projection " + UUID.randomUUID().toString().substring(0, 8));
+		b.setBuildingType(BuildingType.CO_ED);
+		building = buildingRepository.save(b);
+
+		Role role = roleRepository.findByRoleName("STUDENT")
+				.orElseGet(() -> roleRepository.save(new Role(null, "STUDENT")));
+		User u = new User();
+		u.setRole(role);
+		u.setUsername("projection-" + UUID.randomUUID().toString().substring(0, 8));
+		u.setEmail(u.getUsername() + "@example.com");
+		u.setPasswordHash("x");
+		user = userRepository.save(u);
+
+		Student s = new Student();
+		s.setUser(user);
+		s.setFullName("Projection Student");
+		s.setRoomNumber("P-101");
+		s.setStatus(StudentStatus.APPROVED);
+		s.setBuilding(building);
+		student = studentRepository.save(s);
+
+		for (int i = 0; i < ROWS; i++) {
+			Complaint c = new Complaint();
+			c.setStudent(student);
+			c.setBuilding(building);
+			c.setCategory(ComplaintCategory.MAINTENANCE);
+			c.setDescription("Leak " + i);
+			c.setStatus(ComplaintStatus.OPEN);
+			c.setCreatedAt(LocalDateTime.now());
+			complaintRepository.save(c);
+
+			Visitor v = new Visitor();
+			v.setStudent(student);
+			v.setVisitorName("Guest " + i);
+			v.setStatus(VisitorStatus.PENDING);
+			v.setVisitDate(LocalDateTime.now());
+			visitorRepository.save(v);
+
+			StudentAttendance a = new StudentAttendance();
+			a.setStudent(student);
+			a.setBuilding(building);
+			a.setAttendanceType(AttendanceType.HOSTEL);
+			a.setHostelAction(i % 2 == 0 ? HostelAction.IN : HostelAction.OUT);
+			a.setAttendanceDate(LocalDate.now().minusDays(i));
+			a.setAttendanceTime(LocalTime.NOON);
+			a.setCreatedAt(LocalDateTime.now());
+			attendanceRepository.save(a);
+		}
+
+		Student w = new Student();
+		w.setFullName("Walk-in Student");
+		w.setBuilding(building);
+		walkIn = studentRepository.save(w);
+		Complaint c = new Complaint();
+		c.setStudent(walkIn);
+		c.setBuilding(building);
+		c.setCategory(ComplaintCategory.MAINTENANCE);
+		c.setStatus(ComplaintStatus.OPEN);
+		c.setCreatedAt(LocalDateTime.now());
+		walkInComplaint = complaintRepository.save(c);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		for (Student s : List.of(student, walkIn)) {
+			jdbcTemplate.update("DELETE FROM complaints WHERE student_id = ?", s.getStudentId());
+			jdbcTemplate.update("DELETE FROM visitors WHERE student_id = ?", s.getStudentId());
+			jdbcTemplate.update("DELETE FROM student_attendance WHERE student_id = ?", s.getStudentId());
+			jdbcTemplate.update("DELETE FROM students WHERE student_id = ?", s.getStudentId());
+		}
+		userRepository.deleteById(user.getUserId());
+		buildingRepository.deleteById(building.getBuildingId());
+	}
+
+	@Test
+	void listEndpointsReadDtoColumnsInOneQuery() throws Exception {
+		CursorPage<ComplaintDTO> complaints = QueryBudget.assertWithin(statementCounter, 2,
+				() -> complaintService.getAllByBuilding(building.getBuildingId(), null, ROWS));
+		assertThat(complaints.items()).hasSize(ROWS)
+				.filteredOn(c -> student.getStudentId().equals(c.studentId())).hasSize(ROWS - 1).allSatisfy(c -> {
+			assertThat(c.studentName()).isEqualTo("Projection Student");
+			assertThat(c.roomNumber()).isEqualTo("P-101");
+			assertThat(c.buildingId()).isEqualTo(building.getBuildingId());
+		});
+		assertThat(complaints.nextCursor()).isNotNull();
+
+		List<VisitorDTO> visitors = QueryBudget.assertWithin(statementCounter, 1,
+				() -> visitorService.getPendingRequestsByBuilding(building.getBuildingId()));
+		assertThat(visitors).hasSize(ROWS).extracting(VisitorDTO::studentName).containsOnly("Projection Student");
+
+		List<StudentDTO> residents = QueryBudget.assertWithin(statementCounter, 2,
+				() -> studentService.getStudentsByBuilding(building.getBuildingId()));
+		assertThat(residents).filteredOn(r -> r.userId() != null).singleElement().satisfies(r -> {
+			assertThat(r.username()).isEqualTo(user.getUsername());
+			assertThat(r.email()).isEqualTo(user.getEmail());
+		});
+
+		List<StudentAttendanceDTO> history = QueryBudget.assertWithin(statementCounter, 1,
+				() -> studentAttendanceService.getByStudentId(student.getStudentId()));
+		assertThat(history).hasSize(ROWS).first().satisfies(a -> {
+			assertThat(a.attendanceDate()).isEqualTo(LocalDate.now());
+			assertThat(a.createdAt()).isEqualTo(LocalDate.now());
+		});
+	}
+
+	@Test
+	void writesStillMapLazyAssociationsWithoutOpenSessionInView() {
+		ComplaintDTO updated = complaintService.updateStatus(walkInComplaint.getComplaintId(),
+				ComplaintStatus.RESOLVED, "Fixed");
+
+		assertThat(updated.studentName()).isEqualTo("Walk-in Student");
+		assertThat(updated.status()).isEqualTo(ComplaintStatus.RESOLVED);
+		assertThat(studentService.getStudentByUsername(user.getUsername()).email()).isEqualTo(user.getEmail());
+	}
+}
@@ -0,0 +1,149 @@
+package com.smart.hostel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.smart.hostel.entity.PaymentType;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.exception.InsufficientBalanceException;
+import com.smart.hostel.repository.StudentRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class WalletServiceConcurrencyTest {
+
+	private static final int STUDENTS = 4;
+	private static final int DEBITS_PER_STUDENT = 400;
+	private static final int THREADS = 32;
+	private static final BigDecimal MEAL = new BigDecimal("0.10");
+
+	@Autowired
+	private WalletService walletService;
+	@Autowired
+	private StudentRepository studentRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<Student> students = new ArrayList<>();
+	private ExecutorService executor;
+
+	@BeforeEach
+	void seed() {
+		for (int i = 0; i < STUDENTS; i++) {
+			Student s = new Student();
+			s.setFullName("Wallet Stress " + i);
+			students.add(studentRepository.save(s));
+		}
+		executor = Executors.newFixedThreadPool(THREADS);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		executor.shutdownNow();
+		for (Student s : students) {
+			jdbcTemplate.update("DELETE FROM payments WHERE student_id = ?", s.getStudentId());
+			jdbcTemplate.update("DELETE FROM students WHERE student_id = ?", s.getStudentId());
+		}
+	}
+
+	@Test
+	void parallelDebitsNeverLoseUpdatesOrOverdraw() throws Exception {
+		BigDecimal opening = new BigDecimal("25.00");
+		for (Student s : students) {
+			walletService.credit(s, opening, PaymentType.WALLET);
+		}
+
+		List<Callable<Boolean>> debits = new ArrayList<>();
+		for (int i = 0; i < DEBITS_PER_STUDENT; i++) {
+			for (Student s : students) {
+				debits.add(() -> {
+					try {
+						walletService.debit(s, MEAL, PaymentType.MESS);
+						return true;
+					} catch (InsufficientBalanceException e) {
+						return false;
+					}
+				});
+			}
+		}
+		long applied = runAll(debits).stream().filter(Boolean::booleanValue).count();
+
+		int affordable = opening.divide(MEAL).intValueExact();
+		assertThat(applied).isEqualTo((long) affordable * STUDENTS);
+		for (Student s : students) {
+			assertThat(studentRepository.findWalletBalance(s.getStudentId())).isEqualByComparingTo(BigDecimal.ZERO);
+			assertThat(ledgerCount(s, PaymentType.MESS)).isEqualTo(affordable);
+			assertThat(ledgerSum(s)).isEqualByComparingTo(BigDecimal.ZERO);
+		}
+	}
+
+	@Test
+	void interleavedCreditsAndDebitsMatchLedger() throws Exception {
+		BigDecimal topUp = new BigDecimal("0.25");
+		List<Callable<Boolean>> operations = new ArrayList<>();
+		for (int i = 0; i < DEBITS_PER_STUDENT; i++) {
+			for (Student s : students) {
+				operations.add(() -> walletService.credit(s, topUp, PaymentType.WALLET) != null);
+				operations.add(() -> {
+					try {
+						return walletService.debit(s, MEAL, PaymentType.MESS) != null;
+					} catch (InsufficientBalanceException e) {
+						return false;
+					}
+				});
+			}
+		}
+		runAll(operations);
+
+		for (Student s : students) {
+			BigDecimal credited = topUp.multiply(BigDecimal.valueOf(DEBITS_PER_STUDENT));
+			BigDecimal debited = MEAL.multiply(BigDecimal.valueOf(ledgerCount(s, PaymentType.MESS)));
+			BigDecimal balance = studentRepository.findWalletBalance(s.getStudentId());
+			assertThat(balance).isEqualByComparingTo(credited.subtract(debited));
+			assertThat(balance).isEqualByComparingTo(ledgerSum(s));
+			assertThat(balance.signum()).isGreaterThanOrEqualTo(0);
+		}
+	}
+
+	private List<Boolean> runAll(List<Callable<Boolean>> tasks) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> futures = new ArrayList<>();
+		for (Callable<Boolean> task : tasks) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				return task.call();
+			}));
+		}
+		start.countDown();
+		List<Boolean> results = new ArrayList<>();
+		for (Future<Boolean> future : futures) {
+			results.add(future.get(60, TimeUnit.SECONDS));
+		}
+		return results;
+	}
+
+	private int ledgerCount(Student s, PaymentType type) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments WHERE student_id = ? AND payment_type = ?",
+				Integer.class, s.getStudentId(), type.name());
+	}
+
+	private BigDecimal ledgerSum(Student s) {
+		return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM payments WHERE student_id = ?",
+				BigDecimal.class, s.getStudentId());
+	}
+}
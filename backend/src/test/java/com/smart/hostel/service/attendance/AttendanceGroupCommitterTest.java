@@ -0,0 +1,146 @@
+package com.smart.hostel.service.attendance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.smart.hostel.dto.StudentAttendanceDTO;
+import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.HostelAction;
+import com.smart.hostel.entity.PaymentType;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.entity.StudentAttendance;
+import com.smart.hostel.exception.InsufficientBalanceException;
+import com.smart.hostel.repository.AttendanceBatchRepository;
+import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.service.StudentAttendanceService;
+import com.smart.hostel.service.WalletService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"app.attendance.group-commit.enabled=true", "app.attendance.group-commit.window-ms=20",
+		"app.attendance.group-commit.max-batch=16" })
+class AttendanceGroupCommitterTest {
+
+	private static final int SCANS = 64;
+
+	@Autowired
+	private StudentAttendanceService studentAttendanceService;
+	@Autowired
+	private WalletService walletService;
+	@Autowired
+	private StudentRepository studentRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private MeterRegistry meterRegistry;
+	@Autowired
+	private AttendanceBatchRepository attendanceBatchRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private final List<Student> students = new ArrayList<>();
+	private ExecutorService executor;
+
+	@BeforeEach
+	void seed() {
+		for (int i = 0; i < SCANS; i++) {
+			Student s = new Student();
+			s.setFullName("Group Commit " + i);
+			students.add(studentRepository.save(s));
+		}
+		executor = Executors.newFixedThreadPool(SCANS);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		executor.shutdownNow();
+		for (Student s : students) {
+			jdbcTemplate.update("DELETE FROM student_attendance WHERE student_id = ?", s.getStudentId());
+			jdbcTemplate.update("DELETE FROM payments WHERE student_id = ?", s.getStudentId());
+			jdbcTemplate.update("DELETE FROM students WHERE student_id = ?", s.getStudentId());
+		}
+	}
+
+	@Test
+	void concurrentScansShareBatchesAndReturnDurableRows() throws Exception {
+		DistributionSummary batches = meterRegistry.get("attendance.group_commit.batch.size").summary();
+		long batchesBefore = batches.count();
+
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<StudentAttendanceDTO>> futures = new ArrayList<>();
+		for (Student s : students) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				return studentAttendanceService.mark(new StudentAttendanceDTO(null, s.getStudentId(), null,
+						AttendanceType.HOSTEL, HostelAction.IN, null, null, null, null));
+			}));
+		}
+		start.countDown();
+
+		for (Future<StudentAttendanceDTO> future : futures) {
+			StudentAttendanceDTO dto = future.get(30, TimeUnit.SECONDS);
+			assertThat(dto.attendanceId()).isNotNull();
+			assertThat(jdbcTemplate.queryForObject("SELECT student_id FROM student_attendance WHERE attendance_id = ?",
+					Long.class, dto.attendanceId())).isEqualTo(dto.studentId());
+		}
+		assertThat(batches.count() - batchesBefore).isLessThan(SCANS);
+	}
+
+	@Test
+	void mealDebitIsAppliedWithTheRowOrRejectedWithoutIt() {
+		Student paying = students.get(0);
+		Student broke = students.get(1);
+		walletService.credit(paying, new BigDecimal("50.00"), PaymentType.WALLET);
+
+		StudentAttendanceDTO marked = studentAttendanceService
+				.mark(new StudentAttendanceDTO(null, paying.getStudentId(), null, AttendanceType.MESS, null, null,
+						null, null, null));
+		assertThat(marked.attendanceId()).isNotNull();
+		assertThat(studentRepository.findWalletBalance(paying.getStudentId())).isEqualByComparingTo(BigDecimal.ZERO);
+
+		assertThatThrownBy(() -> studentAttendanceService.mark(new StudentAttendanceDTO(null, broke.getStudentId(),
+				null, AttendanceType.MESS, null, null, null, null, null)))
+				.isInstanceOf(InsufficientBalanceException.class);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM student_attendance WHERE student_id = ?",
+				Integer.class, broke.getStudentId())).isZero();
+	}
+
+	@Test
+	void stoppedCommitterHandsWritesBackToTheCaller() throws Exception {
+		AttendanceGroupCommitter stopped = new AttendanceGroupCommitter(attendanceBatchRepository, transactionTemplate,
+				meterRegistry);
+		ReflectionTestUtils.setField(stopped, "enabled", true);
+		ReflectionTestUtils.setField(stopped, "windowMs", 5L);
+		ReflectionTestUtils.setField(stopped, "maxBatch", 16);
+		ReflectionTestUtils.setField(stopped, "timeoutMs", 200L);
+		stopped.start();
+		stopped.stop();
+
+		StudentAttendance row = new StudentAttendance();
+		row.setStudent(students.get(0));
+		assertThat(stopped.accepts()).isFalse();
+		assertThat(stopped.write(row, null, PaymentType.MESS)).isNull();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM student_attendance WHERE student_id = ?",
+				Integer.class, students.get(0).getStudentId())).isZero();
+	}
+}
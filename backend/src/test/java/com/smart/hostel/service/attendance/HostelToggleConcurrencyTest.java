@@ -0,0 +1,137 @@
+package com.smart.hostel.service.attendance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.HostelAction;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.repository.StudentRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class HostelToggleConcurrencyTest {
+
+	private static final int STUDENTS = 8;
+	private static final int SCANS_PER_STUDENT = 25;
+
+	@Autowired
+	private HostelAttendanceStrategy hostelAttendanceStrategy;
+	@Autowired
+	private StudentLaneExecutor laneExecutor;
+	@Autowired
+	private StudentRepository studentRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private HostelActionCache hostelActionCache;
+
+	private final List<Student> students = new ArrayList<>();
+	private ExecutorService executor;
+
+	@BeforeEach
+	void seed() {
+		for (int i = 0; i < STUDENTS; i++) {
+			Student s = new Student();
+			s.setFullName("Turnstile " + i);
+			students.add(studentRepository.save(s));
+		}
+		executor = Executors.newFixedThreadPool(32);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		executor.shutdownNow();
+		for (Student s : students) {
+			jdbcTemplate.update("DELETE FROM student_attendance WHERE student_id = ?", s.getStudentId());
+			jdbcTemplate.update("DELETE FROM students WHERE student_id = ?", s.getStudentId());
+		}
+	}
+
+	@Test
+	void simultaneousScansForOneStudentAlternateInAndOut() throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < SCANS_PER_STUDENT; i++) {
+			for (Student s : students) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return hostelAttendanceStrategy.mark(s, AttendanceType.HOSTEL);
+				}));
+			}
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+
+		for (Student s : students) {
+			List<String> actions = jdbcTemplate.queryForList(
+					"SELECT hostel_action FROM student_attendance WHERE student_id = ? ORDER BY attendance_id",
+					String.class, s.getStudentId());
+			assertThat(actions).hasSize(SCANS_PER_STUDENT);
+			for (int i = 0; i < actions.size(); i++) {
+				assertThat(actions.get(i)).isEqualTo(i % 2 == 0 ? HostelAction.IN.name() : HostelAction.OUT.name());
+			}
+		}
+		assertThat(laneExecutor.activeLanes()).isZero();
+	}
+
+	@Test
+	void heldLanesBlockSingleScansUntilTheTransactionCompletes() throws Exception {
+		Long studentId = students.get(0).getStudentId();
+		CountDownLatch held = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+		Future<?> batch = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+			laneExecutor.holdUntilCompletion(List.of(studentId));
+			held.countDown();
+			try {
+				finish.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}));
+		held.await(10, TimeUnit.SECONDS);
+
+		Future<String> single = executor.submit(() -> laneExecutor.execute(studentId, () -> "done"));
+		assertThat(catchThrowable(() -> single.get(200, TimeUnit.MILLISECONDS))).isInstanceOf(TimeoutException.class);
+
+		finish.countDown();
+		batch.get(10, TimeUnit.SECONDS);
+		assertThat(single.get(10, TimeUnit.SECONDS)).isEqualTo("done");
+		assertThat(laneExecutor.activeLanes()).isZero();
+	}
+
+	@Test
+	void rolledBackScanLeavesTheLastActionUntouched() {
+		Student student = students.get(0);
+		transactionTemplate.executeWithoutResult(status -> {
+			assertThat(hostelAttendanceStrategy.mark(student, AttendanceType.HOSTEL).hostelAction())
+					.isEqualTo(HostelAction.IN);
+			status.setRollbackOnly();
+		});
+
+		assertThat(hostelActionCache.last(student.getStudentId())).isEqualTo(HostelAction.OUT);
+		assertThat(hostelAttendanceStrategy.mark(student, AttendanceType.HOSTEL).hostelAction())
+				.isEqualTo(HostelAction.IN);
+		assertThat(laneExecutor.activeLanes()).isZero();
+	}
+}
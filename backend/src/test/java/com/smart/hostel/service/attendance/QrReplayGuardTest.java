@@ -0,0 +1,75 @@
+package com.smart.hostel.service.attendance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.smart.hostel.dto.QrPassSubject;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class QrReplayGuardTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final QrReplayGuard guard = new QrReplayGuard(16, meterRegistry);
+
+	@Test
+	void passIsAcceptedOnceUntilReleased() {
+		QrPassSubject pass = pass(7L, Instant.now().plusSeconds(300));
+
+		assertThat(guard.firstUse(pass)).isTrue();
+		assertThat(guard.firstUse(pass)).isFalse();
+		assertThat(guard.firstUse(pass(8L, pass.expiresAt()))).isTrue();
+
+		guard.release(pass);
+		assertThat(guard.firstUse(pass)).isTrue();
+		assertThat(meterRegistry.counter("attendance.qr.replays").count()).isEqualTo(1);
+	}
+
+	@Test
+	void expiredBucketsAreRecycled() {
+		Instant expiry = Instant.now().plusSeconds(120);
+		QrPassSubject old = pass(1L, expiry);
+		assertThat(guard.firstUse(old)).isTrue();
+
+		Instant sameSlotLater = expiry.plusSeconds(60L * 12);
+		assertThat(guard.firstUse(pass(1L, sameSlotLater))).isTrue();
+		assertThat(guard.firstUse(pass(1L, sameSlotLater))).isFalse();
+	}
+
+	@Test
+	void concurrentDuplicatesAdmitExactlyOne() throws Exception {
+		QrPassSubject pass = pass(99L, Instant.now().plusSeconds(300));
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 64; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return guard.firstUse(pass);
+				}));
+			}
+			start.countDown();
+			int admitted = 0;
+			for (Future<Boolean> result : results) {
+				admitted += result.get() ? 1 : 0;
+			}
+			assertThat(admitted).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static QrPassSubject pass(long fingerprint, Instant expiresAt) {
+		return new QrPassSubject(fingerprint, null, fingerprint, expiresAt);
+	}
+}
@@ -0,0 +1,184 @@
+package com.smart.hostel.service.attendance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.smart.hostel.config.SqlStatementCounter;
+import com.smart.hostel.config.SqlStatementFilter;
+import com.smart.hostel.dto.StaffAttendanceStatusDTO;
+import com.smart.hostel.entity.BuildingType;
+import com.smart.hostel.entity.HostelAction;
+import com.smart.hostel.entity.HostelBuilding;
+import com.smart.hostel.entity.Role;
+import com.smart.hostel.entity.Staff;
+import com.smart.hostel.entity.StaffAttendance;
+import com.smart.hostel.entity.StaffBuildingMap;
+import com.smart.hostel.entity.StaffType;
+import com.smart.hostel.entity.User;
+import com.smart.hostel.repository.HostelBuildingRepository;
+import com.smart.hostel.repository.RoleRepository;
+import com.smart.hostel.repository.StaffAttendanceRepository;
+import com.smart.hostel.repository.StaffBuildingMapRepository;
+import com.smart.hostel.repository.StaffRepository;
+import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.support.QueryBudget;
+
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "app.sql.statements.expose-header=true")
+class StaffRosterBuilderTest {
+
+	private static final int BUILDING_STAFF = 30;
+	private static final int BUDGET = 5;
+
+	@Autowired
+	private StaffRosterBuilder rosterBuilder;
+	@Autowired
+	private RoleRepository roleRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private StaffRepository staffRepository;
+	@Autowired
+	private StaffBuildingMapRepository mapRepository;
+	@Autowired
+	private StaffAttendanceRepository staffAttendanceRepository;
+	@Autowired
+	private HostelBuildingRepository buildingRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private SqlStatementCounter statementCounter;
+	@Autowired
+	private MockMvc mockMvc;
+
+	private final List<User> users = new ArrayList<>();
+	private final List<Staff> staff = new ArrayList<>();
+	private final List<StaffBuildingMap> maps = new ArrayList<>();
+	private HostelBuilding own;
+	private HostelBuilding other;
+	private User warden;
+	private Staff otherWarden;
+	private Staff foreignLaundry;
+	private Staff unmapped;
+	private final List<Staff> ownStaff = new ArrayList<>();
+
+	@BeforeEach
+	void seed() {
+		own = building("Roster Own");
+		other = building("Roster Other");
+
+		warden = user("WARDEN");
+		Staff wardenStaff = staff(warden, StaffType.WARDEN);
+		map(wardenStaff, own);
+		otherWarden = staff(user("WARDEN"), StaffType.WARDEN);
+		map(otherWarden, own);
+
+		for (int i = 0; i < BUILDING_STAFF; i++) {
+			Staff s = staff(null, StaffType.CLEANER);
+			map(s, own);
+			ownStaff.add(s);
+		}
+		foreignLaundry = staff(null, StaffType.LAUNDRY);
+		map(foreignLaundry, other);
+		unmapped = staff(null, StaffType.PLUMBER);
+
+		for (int i = 0; i < 3; i++) {
+			StaffAttendance a = new StaffAttendance();
+			a.setStaff(ownStaff.get(i));
+			a.setBuilding(own);
+			a.setAttendanceDate(LocalDate.now());
+			a.setAttendanceTime(LocalTime.now());
+			a.setAction(HostelAction.IN);
+			staffAttendanceRepository.save(a);
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		for (Staff s : staff) {
+			jdbcTemplate.update("DELETE FROM staff_attendance WHERE staff_id = ?", s.getStaffId());
+		}
+		mapRepository.deleteAll(maps);
+		staffRepository.deleteAll(staff);
+		userRepository.deleteAll(users);
+		buildingRepository.deleteAll(List.of(own, other));
+	}
+
+	@Test
+	void wardenRosterIsBuiltWithConstantStatements() throws Exception {
+		List<StaffAttendanceStatusDTO> roster = QueryBudget.assertWithin(statementCounter, BUDGET,
+				() -> rosterBuilder.build(warden.getUsername()));
+
+		List<Long> ids = roster.stream().map(r -> r.staff().staffId()).toList();
+		assertThat(ids).containsAll(ownStaff.stream().map(Staff::getStaffId).toList())
+				.contains(unmapped.getStaffId())
+				.doesNotContain(otherWarden.getStaffId(), foreignLaundry.getStaffId());
+		assertThat(roster).filteredOn(r -> ownStaff.get(0).getStaffId().equals(r.staff().staffId())).singleElement()
+				.satisfies(r -> {
+					assertThat(r.isMarkedIn()).isTrue();
+					assertThat(r.isMarkedOut()).isFalse();
+					assertThat(r.staff().buildingIds()).containsExactly(own.getBuildingId());
+				});
+	}
+
+	@Test
+	void markableStaffEndpointStaysWithinBudget() throws Exception {
+		QueryBudget.assertWithin(statementCounter, BUDGET,
+				() -> mockMvc
+						.perform(get("/api/v1/attendance/markable-staff")
+								.with(SecurityMockMvcRequestPostProcessors.user(warden.getUsername()).roles("WARDEN")))
+						.andExpect(status().isOk()).andExpect(header().exists(SqlStatementFilter.HEADER)));
+	}
+
+	private HostelBuilding building(String name) {
+		HostelBuilding b = new HostelBuilding();
+		b.setBuildingName(name);
+		b.setBuildingType(BuildingType.CO_ED);
+		return buildingRepository.save(b);
+	}
+
+	private User user(String roleName) {
+		Role role = roleRepository.findByRoleName(roleName)
+				.orElseGet(() -> roleRepository.save(new Role(null, roleName)));
+		User u = new User();
+		u.setRole(role);
+		u.setUsername("roster-" + UUID.randomUUID().toString().substring(0, 8));
+		u.setPasswordHash("x");
+		users.add(userRepository.save(u));
+		return u;
+	}
+
+	private Staff staff(User user, StaffType type) {
+		Staff s = new Staff();
+		s.setUser(user);
+		s.setStaffType(type);
+		s.setFullName(type + " " + staff.size());
+		staff.add(staffRepository.save(s));
+		return s;
+	}
+
+	private void map(Staff s, HostelBuilding building) {
+		StaffBuildingMap m = new StaffBuildingMap();
+		m.setStaff(s);
+		m.setBuilding(building);
+		maps.add(mapRepository.save(m));
+	}
+}
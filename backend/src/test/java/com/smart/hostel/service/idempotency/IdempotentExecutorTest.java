@@ -0,0 +1,189 @@
+package com.smart.hostel.service.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.smart.hostel.dto.IdempotentResult;
+import com.smart.hostel.dto.PaymentDTO;
+import com.smart.hostel.entity.Payment;
+import com.smart.hostel.entity.PaymentType;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.exception.BadRequestException;
+import com.smart.hostel.repository.IdempotencyRecordRepository;
+import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.service.WalletService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class IdempotentExecutorTest {
+
+	private static final BigDecimal AMOUNT = new BigDecimal("150.00");
+
+	@Autowired
+	private IdempotentExecutor executor;
+	@Autowired
+	private IdempotencyRecordRepository repository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private ObjectMapper objectMapper;
+	@Autowired
+	private MeterRegistry meterRegistry;
+	@Autowired
+	private WalletService walletService;
+	@Autowired
+	private StudentRepository studentRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Student student;
+	private final AtomicInteger credits = new AtomicInteger();
+
+	@BeforeEach
+	void seed() {
+		Student s = new Student();
+		s.setFullName("Idempotent Payer");
+		student = studentRepository.save(s);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.update("DELETE FROM payments WHERE student_id = ?", student.getStudentId());
+		jdbcTemplate.update("DELETE FROM students WHERE student_id = ?", student.getStudentId());
+		repository.deleteAll();
+	}
+
+	@Test
+	void concurrentDuplicatesAreCoalescedIntoOneCredit() throws Exception {
+		String key = UUID.randomUUID().toString();
+		ExecutorService pool = Executors.newFixedThreadPool(16);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<IdempotentResult<PaymentDTO>>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				results.add(pool.submit(() -> {
+					start.await();
+					return executor.execute(key, "payments.add-cash", AMOUNT, PaymentDTO.class, credit(50));
+				}));
+			}
+			start.countDown();
+
+			List<IdempotentResult<PaymentDTO>> responses = new ArrayList<>();
+			for (Future<IdempotentResult<PaymentDTO>> result : results) {
+				responses.add(result.get());
+			}
+			assertThat(credits).hasValue(1);
+			assertThat(responses).filteredOn(r -> !r.replayed()).hasSize(1);
+			assertThat(responses).extracting(r -> r.body().paymentId()).containsOnly(responses.get(0).body().paymentId());
+			assertThat(balance()).isEqualByComparingTo(AMOUNT);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void storedResponseIsReplayedByAnotherNodeWithoutRunningTheAction() {
+		String key = UUID.randomUUID().toString();
+		PaymentDTO first = executor.execute(key, "payments.add-cash", AMOUNT, PaymentDTO.class, credit(0)).body();
+
+		IdempotentExecutor otherNode = new IdempotentExecutor(repository, transactionManager, objectMapper,
+				meterRegistry, 24, 100);
+		IdempotentResult<PaymentDTO> replay = otherNode.execute(key, "payments.add-cash", AMOUNT, PaymentDTO.class,
+				credit(0));
+
+		assertThat(replay.replayed()).isTrue();
+		assertThat(replay.body()).isEqualTo(first);
+		assertThat(credits).hasValue(1);
+		assertThat(meterRegistry.counter("idempotency.requests", "endpoint", "payments.add-cash", "outcome",
+				"durable_hit").count()).isGreaterThanOrEqualTo(1);
+
+		assertThatThrownBy(() -> executor.execute(key, "payments.add-cash", new BigDecimal("1.00"), PaymentDTO.class,
+				credit(0))).isInstanceOf(BadRequestException.class);
+	}
+
+	@Test
+	void failedAttemptsAreNotRemembered() {
+		String key = UUID.randomUUID().toString();
+		assertThatThrownBy(() -> executor.execute(key, "payments.add-cash", AMOUNT, PaymentDTO.class, () -> {
+			throw new IllegalStateException("gateway timeout");
+		})).isInstanceOf(IllegalStateException.class);
+
+		IdempotentResult<PaymentDTO> retry = executor.execute(key, "payments.add-cash", AMOUNT, PaymentDTO.class,
+				credit(0));
+		assertThat(retry.replayed()).isFalse();
+		assertThat(credits).hasValue(1);
+	}
+
+	@Test
+	void largeResponsesAreStoredForOtherNodes() {
+		String key = UUID.randomUUID().toString();
+		String large = "x".repeat(10_000);
+		executor.execute(key, "reports.export", "all", String.class, () -> large);
+
+		IdempotentExecutor otherNode = new IdempotentExecutor(repository, transactionManager, objectMapper,
+				meterRegistry, 24, 100);
+		IdempotentResult<String> replay = otherNode.execute(key, "reports.export", "all", String.class, () -> {
+			throw new IllegalStateException("must be replayed");
+		});
+		assertThat(replay.replayed()).isTrue();
+		assertThat(replay.body()).isEqualTo(large);
+	}
+
+	@Test
+	void expiredRowsAreTakenOverInsteadOfReplayed() {
+		String key = UUID.randomUUID().toString();
+		LocalDateTime past = LocalDateTime.now().minusDays(2);
+		jdbcTemplate.update("INSERT INTO idempotency_keys (record_key, endpoint, request_hash, response_body, "
+				+ "created_at, expires_at) VALUES (?, ?, ?, ?, ?, ?)", "anonymous:" + key, "payments.add-cash",
+				"stale", "{\"paymentId\":-1}", past, past.plusDays(1));
+
+		IdempotentResult<PaymentDTO> result = executor.execute(key, "payments.add-cash", AMOUNT, PaymentDTO.class,
+				credit(0));
+		assertThat(result.replayed()).isFalse();
+		assertThat(result.body().paymentId()).isPositive();
+		assertThat(credits).hasValue(1);
+		assertThat(repository.findById("anonymous:" + key)).hasValueSatisfying(
+				r -> assertThat(r.getExpiresAt()).isAfter(LocalDateTime.now()));
+	}
+
+	private Supplier<PaymentDTO> credit(long delayMillis) {
+		return () -> {
+			credits.incrementAndGet();
+			Payment payment = walletService.credit(student, AMOUNT, PaymentType.WALLET);
+			try {
+				Thread.sleep(delayMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new PaymentDTO(payment.getPaymentId(), student.getStudentId(), payment.getAmount(),
+					payment.getPaymentType(), payment.getPaymentDate(), null, null, null);
+		};
+	}
+
+	private BigDecimal balance() {
+		return jdbcTemplate.queryForObject("SELECT wallet_balance FROM students WHERE student_id = ?",
+				BigDecimal.class, student.getStudentId());
+	}
+}
@@ -0,0 +1,150 @@
+package com.smart.hostel.service.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.smart.hostel.dto.StudentPresenceDTO;
+import com.smart.hostel.entity.AttendanceType;
+import com.smart.hostel.entity.BuildingType;
+import com.smart.hostel.entity.HostelBuilding;
+import com.smart.hostel.entity.Role;
+import com.smart.hostel.entity.Staff;
+import com.smart.hostel.entity.StaffBuildingMap;
+import com.smart.hostel.entity.StaffType;
+import com.smart.hostel.entity.Student;
+import com.smart.hostel.entity.StudentStatus;
+import com.smart.hostel.entity.User;
+import com.smart.hostel.exception.UnauthorizedException;
+import com.smart.hostel.repository.HostelBuildingRepository;
+import com.smart.hostel.repository.RoleRepository;
+import com.smart.hostel.repository.StaffBuildingMapRepository;
+import com.smart.hostel.repository.StaffRepository;
+import com.smart.hostel.repository.StudentRepository;
+import com.smart.hostel.repository.UserRepository;
+import com.smart.hostel.service.WardenService;
+import com.smart.hostel.service.attendance.HostelAttendanceStrategy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class BuildingPresenceIndexTest {
+
+	@Autowired
+	private BuildingPresenceIndex presenceIndex;
+	@Autowired
+	private HostelAttendanceStrategy hostelAttendanceStrategy;
+	@Autowired
+	private WardenService wardenService;
+	@Autowired
+	private HostelBuildingRepository buildingRepository;
+	@Autowired
+	private StudentRepository studentRepository;
+	@Autowired
+	private RoleRepository roleRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private StaffRepository staffRepository;
+	@Autowired
+	private StaffBuildingMapRepository mapRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private HostelBuilding north;
+	private HostelBuilding south;
+	private final List<Student> students = new ArrayList<>();
+	private User warden;
+	private Staff wardenStaff;
+	private StaffBuildingMap wardenMap;
+
+	@BeforeEach
+	void seed() {
+		north = building("Presence North");
+		south = building("Presence South");
+		for (int i = 0; i < 3; i++) {
+			Student s = new Student();
+			s.setFullName("Resident " + i);
+			s.setRoomNumber("N-10" + i);
+			s.setStatus(StudentStatus.APPROVED);
+			s.setBuilding(north);
+			students.add(studentRepository.save(s));
+		}
+
+		Role role = roleRepository.findByRoleName("WARDEN")
+				.orElseGet(() -> roleRepository.save(new Role(null, "WARDEN")));
+		warden = new User();
+		warden.setRole(role);
+		warden.setUsername("presence-" + UUID.randomUUID().toString().substring(0, 8));
+		warden.setPasswordHash("x");
+		warden = userRepository.save(warden);
+		wardenStaff = new Staff();
+		wardenStaff.setUser(warden);
+		wardenStaff.setStaffType(StaffType.WARDEN);
+		wardenStaff.setFullName("Presence Warden");
+		wardenStaff = staffRepository.save(wardenStaff);
+		wardenMap = mapRepository.save(new StaffBuildingMap(null, wardenStaff, north));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		mapRepository.delete(wardenMap);
+		staffRepository.delete(wardenStaff);
+		userRepository.delete(warden);
+		for (Student s : students) {
+			jdbcTemplate.update("DELETE FROM student_attendance WHERE student_id = ?", s.getStudentId());
+			jdbcTemplate.update("DELETE FROM students WHERE student_id = ?", s.getStudentId());
+		}
+		buildingRepository.deleteAll(List.of(north, south));
+	}
+
+	@Test
+	void tracksScansAndSurvivesRebuild() {
+		Student first = students.get(0);
+		Student second = students.get(1);
+		Student third = students.get(2);
+
+		hostelAttendanceStrategy.mark(first, AttendanceType.HOSTEL);
+		hostelAttendanceStrategy.mark(second, AttendanceType.HOSTEL);
+		hostelAttendanceStrategy.mark(third, AttendanceType.HOSTEL);
+		hostelAttendanceStrategy.mark(second, AttendanceType.HOSTEL);
+
+		third.setBuilding(south);
+		studentRepository.save(third);
+		hostelAttendanceStrategy.mark(third, AttendanceType.HOSTEL);
+		hostelAttendanceStrategy.mark(third, AttendanceType.HOSTEL);
+
+		assertPresence();
+		presenceIndex.rebuild();
+		assertPresence();
+	}
+
+	@Test
+	void studentsOutAreOnlyListedForAssignedBuildings() {
+		assertThat(wardenService.getStudentsOut(warden.getUsername(), north.getBuildingId())).hasSize(3);
+		assertThatThrownBy(() -> wardenService.getStudentsOut(warden.getUsername(), south.getBuildingId()))
+				.isInstanceOf(UnauthorizedException.class);
+	}
+
+	private void assertPresence() {
+		assertThat(presenceIndex.occupancy(north.getBuildingId())).isEqualTo(1);
+		assertThat(presenceIndex.occupancy(south.getBuildingId())).isEqualTo(1);
+		assertThat(wardenService.getStudentsOut(warden.getUsername(), north.getBuildingId())).extracting(StudentPresenceDTO::studentId)
+				.containsExactly(students.get(1).getStudentId());
+	}
+
+	private HostelBuilding building(String name) {
+		HostelBuilding b = new HostelBuilding();
+		b.setBuildingName(name);
+		b.setBuildingType(BuildingType.CO_ED);
+		return buildingRepository.save(b);
+	}
+}
@@ -0,0 +1,22 @@
+package com.smart.hostel.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Callable;
+
+import com.smart.hostel.config.SqlStatementCounter;
+
+public final class QueryBudget {
+
+	private QueryBudget() {
+	}
+
+	public static <T> T assertWithin(SqlStatementCounter counter, int budget, Callable<T> work) throws Exception {
+		try (SqlStatementCounter.Recording recording = counter.record()) {
+			T result = work.call();
+			assertThat(recording.total()).as("SQL statements %s", recording.statements())
+					.isLessThanOrEqualTo(budget);
+			return result;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.smart.hostel.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+
+import com.smart.hostel.entity.HostelBuilding;
+import com.smart.hostel.entity.StaffBuildingMap;
+import com.smart.hostel.repository.StaffBuildingMapRepository;
+
+class TopicSubscriptionGuardTest {
+
+	private final TopicSubscriptionGuard guard = new TopicSubscriptionGuard(null, null, assignments());
+
+	@Test
+	void unknownDestinationsAreDenied() {
+		TestingAuthenticationToken admin = user("admin", "ADMIN");
+
+		assertThat(guard.canSubscribe(admin, "/topic/new-feature")).isFalse();
+		assertThat(guard.canSubscribe(admin, "/queue/notifications-user123")).isFalse();
+		assertThat(guard.canSubscribe(admin, "/topic/roles/ADMIN/unknown")).isFalse();
+		assertThat(guard.canSubscribe(admin, null)).isFalse();
+		assertThat(guard.canSubscribe(null, "/user/queue/notifications")).isFalse();
+	}
+
+	@Test
+	void knownDestinationsFollowRoles() {
+		TestingAuthenticationToken guardUser = user("gate", "GUARD");
+
+		assertThat(guard.canSubscribe(guardUser, "/user/queue/notifications")).isTrue();
+		assertThat(guard.canSubscribe(guardUser, "/topic/announcements/GUARD")).isTrue();
+		assertThat(guard.canSubscribe(guardUser, "/topic/announcements/WARDEN")).isFalse();
+		assertThat(guard.canSubscribe(guardUser, "/topic/roles/GUARD/visitors")).isTrue();
+		assertThat(guard.canSubscribe(guardUser, "/topic/roles/ADMIN/stats")).isFalse();
+		assertThat(guard.canSubscribe(user("admin", "ADMIN"), "/topic/roles/GUARD/stats")).isTrue();
+	}
+
+	@Test
+	void buildingFeedsAreLimitedToAssignedStaff() {
+		TestingAuthenticationToken warden = user("warden7", "WARDEN");
+
+		assertThat(guard.canSubscribe(warden, "/topic/buildings/7/complaints")).isTrue();
+		assertThat(guard.canSubscribe(warden, "/topic/buildings/7/visitors")).isTrue();
+		assertThat(guard.canSubscribe(warden, "/topic/buildings/8/complaints")).isFalse();
+		assertThat(guard.canSubscribe(warden, "/topic/buildings/8/announcements")).isFalse();
+		assertThat(guard.canSubscribe(warden, "/topic/buildings/7/unknown")).isFalse();
+		assertThat(guard.canSubscribe(user("gate", "GUARD"), "/topic/buildings/7/visitors")).isFalse();
+		assertThat(guard.canSubscribe(user("admin", "ADMIN"), "/topic/buildings/8/visitors")).isTrue();
+	}
+
+	private static StaffBuildingMapRepository assignments() {
+		HostelBuilding building = new HostelBuilding();
+		building.setBuildingId(7L);
+		StaffBuildingMap map = new StaffBuildingMap(1L, null, building);
+		return (StaffBuildingMapRepository) Proxy.newProxyInstance(StaffBuildingMapRepository.class.getClassLoader(),
+				new Class<?>[] { StaffBuildingMapRepository.class }, (proxy, method, args) -> {
+					if (method.getName().equals("findByStaff_User_Username")) {
+						return "warden7".equals(args[0]) ? List.of(map) : List.of();
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+	private static TestingAuthenticationToken user(String name, String role) {
+		TestingAuthenticationToken auth = new TestingAuthenticationToken(name, null, "ROLE_" + role);
+		auth.setAuthenticated(true);
+		return auth;
+	}
+}
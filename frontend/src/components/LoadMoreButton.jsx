@@ -0,0 +1,19 @@
+import React from 'react';
+
+const LoadMoreButton = ({ hasMore, loading, onClick }) => {
+    if (!hasMore) return null;
+    return (
+        <div className="flex justify-center py-4">
+            <button
+                type="button"
+                onClick={onClick}
+                disabled={loading}
+                className="px-4 py-2 text-sm font-medium text-indigo-600 bg-indigo-50 rounded-md hover:bg-indigo-100 disabled:opacity-50"
+            >
+                {loading ? 'Loading...' : 'Load more'}
+            </button>
+        </div>
+    );
+};
+
+export default LoadMoreButton;
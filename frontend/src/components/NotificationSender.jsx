@@ -65,8 +65,13 @@ const NotificationSender = () => {
                 targetRole
             };
 
-            await notificationService.broadcast(payload);
-            setStatusData({ type: 'success', msg: 'Notification sent successfully!' });
+            const job = await notificationService.broadcast(payload);
+            setStatusData({
+                type: 'success',
+                msg: job?.totalRecipients != null
+                    ? `Notification queued for ${job.totalRecipients} recipient(s).`
+                    : 'Notification sent successfully!'
+            });
 
             setTitle('');
             setMessage('');
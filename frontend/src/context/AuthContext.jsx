@@ -20,9 +20,9 @@ export const AuthContextProvider = ({ children }) => {
 
     const [authLoading, setAuthLoading] = useState(false); 
 
-    const login = (username, role, authToken, userId, roleId, managesMess) => {
+    const login = (username, role, authToken, userId, roleId, managesMess, buildingId) => {
         setAuthLoading(true);
-        const userData = { username, role, userId, roleId, managesMess };
+        const userData = { username, role, userId, roleId, managesMess, buildingId };
         setUser(userData);
         setToken(authToken);
         localStorage.setItem('user', JSON.stringify(userData));
@@ -0,0 +1,14 @@
+import { useEffect, useRef } from 'react';
+import notificationService from '../services/notificationService';
+
+const useDeltaTopic = (destination, onDelta) => {
+    const handlerRef = useRef(onDelta);
+    handlerRef.current = onDelta;
+
+    useEffect(() => {
+        if (!destination) return undefined;
+        return notificationService.subscribeTopic(destination, (delta) => handlerRef.current(delta));
+    }, [destination]);
+};
+
+export default useDeltaTopic;
@@ -0,0 +1,37 @@
+import { useCallback, useRef, useState } from 'react';
+
+const usePagedList = () => {
+    const [items, setItems] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
+    const [loadingMore, setLoadingMore] = useState(false);
+    const fetchRef = useRef(null);
+
+    const load = useCallback(async (fetchPage) => {
+        fetchRef.current = fetchPage;
+        const page = await fetchPage();
+        if (fetchRef.current === fetchPage) {
+            setItems(page.data);
+            setNextCursor(page.nextCursor);
+        }
+        return page;
+    }, []);
+
+    const loadMore = useCallback(async () => {
+        const fetchPage = fetchRef.current;
+        if (!fetchPage || !nextCursor) return;
+        setLoadingMore(true);
+        try {
+            const page = await fetchPage(nextCursor);
+            if (fetchRef.current === fetchPage) {
+                setItems((prev) => [...prev, ...page.data]);
+                setNextCursor(page.nextCursor);
+            }
+        } finally {
+            setLoadingMore(false);
+        }
+    }, [nextCursor]);
+
+    return { items, setItems, load, loadMore, loadingMore, hasMore: Boolean(nextCursor) };
+};
+
+export default usePagedList;
@@ -1,6 +1,8 @@
 import React, { useState, useEffect } from 'react';
 import api from '../../services/api';
 import NotificationSender from '../../components/NotificationSender';
+import useDeltaTopic from '../../hooks/useDeltaTopic';
+import { applyCounts } from '../../utils/deltas';
 import {
     Users,
     Buildings,
@@ -23,6 +25,10 @@ const Dashboard = () => {
         fetchStats();
     }, []);
 
+    useDeltaTopic('/topic/roles/ADMIN/stats', (delta) => {
+        setStats((prev) => applyCounts(prev, delta));
+    });
+
     const fetchStats = async () => {
         setLoading(true);
         setError(null);
@@ -27,13 +27,13 @@ const Login = () => {
 
         try {
             const response = await authService.login(formData.username, formData.password);
-            const { token, role, userId, roleId, managesMess, username: responseUsername } = response;
+            const { token, role, userId, roleId, managesMess, buildingId, username: responseUsername } = response;
             const username = responseUsername || formData.username;
 
             const roleKey = role ? role.toLowerCase() : '';
 
             console.log("Login Success:", { username, role, roleKey, managesMess });
-            login(username, roleKey, token, userId, roleId, managesMess);
+            login(username, roleKey, token, userId, roleId, managesMess, buildingId);
             showToast('Success', 'Login Successful', 'success');
 
             switch (roleKey) {
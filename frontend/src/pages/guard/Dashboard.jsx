@@ -1,6 +1,8 @@
 import React, { useEffect, useState } from 'react';
 import guardService from '../../services/guardService';
 import Loader from '../../components/Loader';
+import useDeltaTopic from '../../hooks/useDeltaTopic';
+import { applyCounts } from '../../utils/deltas';
 import {
     Users,
     UserPlus
@@ -31,6 +33,10 @@ const Dashboard = () => {
         fetchStats();
     }, []);
 
+    useDeltaTopic('/topic/roles/GUARD/stats', (delta) => {
+        setStats((prev) => applyCounts(prev, delta));
+    });
+
     if (loading) return <Loader />;
 
     return (
@@ -1,11 +1,15 @@
 import React, { useEffect, useState } from 'react';
 import guardService from '../../services/guardService';
 import Loader from '../../components/Loader';
+import LoadMoreButton from '../../components/LoadMoreButton';
 import { useNotification } from '../../context/NotificationContext';
+import useDeltaTopic from '../../hooks/useDeltaTopic';
+import usePagedList from '../../hooks/usePagedList';
+import { upsertById } from '../../utils/deltas';
 
 const VisitorEntry = () => {
     const { showToast } = useNotification();
-    const [visitors, setVisitors] = useState([]);
+    const { items: visitors, setItems: setVisitors, load, loadMore, loadingMore, hasMore } = usePagedList();
     const [loading, setLoading] = useState(true);
     const [formData, setFormData] = useState({
         visitorName: '',
@@ -21,10 +25,13 @@ const VisitorEntry = () => {
         fetchVisitors();
     }, []);
 
+    useDeltaTopic('/topic/roles/GUARD/visitors', (delta) => {
+        setVisitors((prev) => upsertById(prev, delta.data, 'visitorId'));
+    });
+
     const fetchVisitors = async () => {
         try {
-            const data = await guardService.getRecentVisitors();
-            setVisitors(data);
+            await load(guardService.getRecentVisitors);
         } catch (err) {
             console.error("Failed to fetch visitors", err);
             setVisitors([]); 
@@ -85,8 +92,8 @@ const VisitorEntry = () => {
         }
 
         try {
-            await guardService.logVisitor(formData);
-            fetchVisitors(); 
+            const visitor = await guardService.logVisitor(formData);
+            setVisitors((prev) => upsertById(prev, visitor, 'visitorId'));
             setFormData({ visitorName: '', purpose: '', contactNumber: '', studentId: '' });
             setSelectedStudentName('');
             setShowModal(false);
@@ -98,8 +105,8 @@ const VisitorEntry = () => {
 
     const handleMarkExit = async (id) => {
         try {
-            await guardService.checkoutVisitor(id);
-            fetchVisitors();
+            const visitor = await guardService.checkoutVisitor(id);
+            setVisitors((prev) => upsertById(prev, visitor, 'visitorId'));
             showToast('Success', 'Visitor exit marked successfully!', 'success');
         } catch (err) {
             console.error(err);
@@ -186,6 +193,7 @@ const VisitorEntry = () => {
                             ))}
                         </tbody>
                     </table>
+                    <LoadMoreButton hasMore={hasMore} loading={loadingMore} onClick={loadMore} />
                 </div>
             )}
 
@@ -1,10 +1,12 @@
 import React, { useState, useEffect } from 'react';
 import complaintService from '../../services/complaintService';
 import Loader from '../../components/Loader';
+import LoadMoreButton from '../../components/LoadMoreButton';
+import usePagedList from '../../hooks/usePagedList';
 import { useNotification } from '../../context/NotificationContext';
 
 const StaffComplaints = () => {
-    const [complaints, setComplaints] = useState([]);
+    const { items: complaints, setItems: setComplaints, load, loadMore, loadingMore, hasMore } = usePagedList();
     const [filteredComplaints, setFilteredComplaints] = useState([]);
     const [loading, setLoading] = useState(true);
     const [statusFilter, setStatusFilter] = useState('ALL');
@@ -24,8 +26,7 @@ const StaffComplaints = () => {
 
     const fetchComplaints = async () => {
         try {
-            const response = await complaintService.getBuildingComplaints();
-            setComplaints(response.data);
+            await load((cursor) => complaintService.getBuildingComplaints(undefined, undefined, cursor));
         } catch (error) {
             console.error("Failed to fetch complaints", error);
         } finally {
@@ -139,6 +140,7 @@ const StaffComplaints = () => {
                         </tbody>
                     </table>
                 </div>
+                <LoadMoreButton hasMore={hasMore} loading={loadingMore} onClick={loadMore} />
             </div>
         </div>
     );
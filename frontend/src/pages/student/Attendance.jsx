@@ -110,12 +110,12 @@ const Attendance = () => {
                             <h3 className="text-lg leading-6 font-medium text-gray-900">Your Attendance QR</h3>
                             <div className="mt-4 flex justify-center">
                                 {qrCode ? (
-                                    <img src={`data:image/png;base64,${qrCode}`} alt="Attendance QR Code" className="w-64 h-64" />
+                                    <img src={qrCode} alt="Attendance QR Code" className="w-64 h-64" />
                                 ) : (
                                     <p>Loading...</p>
                                 )}
                             </div>
-                            <p className="mt-2 text-xs text-orange-600 font-medium">Valid for 10 minutes. Refresh if scanning fails.</p>
+                            <p className="mt-2 text-xs text-orange-600 font-medium">Valid for at least 5 minutes. Refresh if scanning fails.</p>
                             <p className="mt-2 text-sm text-gray-500">Show this to the Guard/Warden to mark attendance.</p>
                             <div className="mt-4 px-4 py-3">
                                 <button
@@ -2,6 +2,8 @@ import React, { useState, useEffect } from 'react';
 import complaintService from '../../services/complaintService';
 import studentService from '../../services/studentService';
 import Loader from '../../components/Loader';
+import LoadMoreButton from '../../components/LoadMoreButton';
+import usePagedList from '../../hooks/usePagedList';
 import { useAuth } from '../../context/AuthContext';
 import { useNotification } from '../../context/NotificationContext';
 import {
@@ -14,7 +16,7 @@ import {
 } from 'phosphor-react';
 
 const StudentComplaints = () => {
-    const [complaints, setComplaints] = useState([]);
+    const { items: complaints, load, loadMore, loadingMore, hasMore } = usePagedList();
     const [loading, setLoading] = useState(true);
 
     const [submitting, setSubmitting] = useState(false);
@@ -52,8 +54,7 @@ const StudentComplaints = () => {
     const fetchComplaints = async (id) => {
         try {
             if (id) {
-                const response = await complaintService.getStudentComplaints(id);
-                setComplaints(response.data);
+                await load((cursor) => complaintService.getStudentComplaints(id, cursor));
             }
         } catch (error) {
             console.error("Failed to fetch complaints", error);
@@ -216,6 +217,7 @@ const StudentComplaints = () => {
                         </tbody>
                     </table>
                 </div>
+                <LoadMoreButton hasMore={hasMore} loading={loadingMore} onClick={loadMore} />
             </div>
         </div>
     );
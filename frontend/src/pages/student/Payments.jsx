@@ -1,13 +1,15 @@
 import React, { useState, useEffect } from 'react';
 import studentService from '../../services/studentService';
 import Loader from '../../components/Loader';
+import LoadMoreButton from '../../components/LoadMoreButton';
+import usePagedList from '../../hooks/usePagedList';
 import { useNotification } from '../../context/NotificationContext';
 import { useAuth } from '../../context/AuthContext';
 
 const Payments = () => {
     const { addNotification } = useNotification();
     const [stats, setStats] = useState(null);
-    const [history, setHistory] = useState([]);
+    const { items: history, load, loadMore, loadingMore, hasMore } = usePagedList();
     const [amount, setAmount] = useState('');
     const [loading, setLoading] = useState(true);
 
@@ -20,12 +22,11 @@ const Payments = () => {
 
     const fetchData = async () => {
         try {
-            const [statsData, historyData] = await Promise.all([
+            const [statsData] = await Promise.all([
                 studentService.getStats(),
-                studentService.getPayments()
+                load(studentService.getPayments)
             ]);
             setStats(statsData);
-            setHistory(historyData);
         } catch (error) {
             console.error("Failed to fetch payment info", error);
         } finally {
@@ -294,6 +295,7 @@ const Payments = () => {
                         </tbody>
                     </table>
                 </div>
+                <LoadMoreButton hasMore={hasMore} loading={loadingMore} onClick={loadMore} />
             </div>
         </div>
     );
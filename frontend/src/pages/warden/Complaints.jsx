@@ -2,10 +2,14 @@ import React, { useState, useEffect } from 'react';
 import wardenService from '../../services/wardenService';
 import complaintService from '../../services/complaintService';
 import Loader from '../../components/Loader';
+import LoadMoreButton from '../../components/LoadMoreButton';
 import { useNotification } from '../../context/NotificationContext';
+import useDeltaTopic from '../../hooks/useDeltaTopic';
+import usePagedList from '../../hooks/usePagedList';
+import { upsertById } from '../../utils/deltas';
 
 const WardenComplaints = () => {
-    const [complaints, setComplaints] = useState([]);
+    const { items: complaints, setItems: setComplaints, load, loadMore, loadingMore, hasMore } = usePagedList();
     const [filteredComplaints, setFilteredComplaints] = useState([]);
     const [loading, setLoading] = useState(true);
     const [statusFilter, setStatusFilter] = useState('ALL');
@@ -35,9 +39,8 @@ const WardenComplaints = () => {
                 if (profile && profile.managesMess) {
                     console.log("DEBUG: Warden manages mess. Fetching mess complaints.");
                     setIsMessWarden(true);
-                    const response = await complaintService.getMessComplaints();
+                    const response = await load(complaintService.getMessComplaints);
                     console.log("DEBUG: Mess Complaints Response:", response.data);
-                    setComplaints(response.data || []);
                 } else if (profile && profile.buildingId) {
                     setBuildingId(profile.buildingId);
                     console.log("DEBUG: Fetching complaints for Building ID:", profile.buildingId);
@@ -79,15 +82,22 @@ const WardenComplaints = () => {
         }
     };
 
+    const complaintTopic = isMessWarden
+        ? '/topic/roles/WARDEN/complaints/mess'
+        : buildingId ? `/topic/buildings/${buildingId}/complaints` : null;
+
+    useDeltaTopic(complaintTopic, (delta) => {
+        setComplaints((prev) => upsertById(prev, delta.data, 'complaintId'));
+    });
+
     const fetchComplaints = async (bId) => {
         try {
             const id = bId || buildingId;
             console.log("DEBUG: fetchComplaints called with ID:", id);
             if (!id) return;
 
-            const response = await complaintService.getBuildingComplaints(id, 'ALL');
+            const response = await load((cursor) => complaintService.getBuildingComplaints(id, 'ALL', cursor));
             console.log("DEBUG: fetchComplaints response data:", response.data);
-            setComplaints(response.data || []);
         } catch (error) {
             console.error("Failed to fetch complaints", error);
         }
@@ -160,8 +170,7 @@ const WardenComplaints = () => {
             showToast('Success', 'Staff assigned successfully', 'success');
             setShowAssignModal(false);
             if (isMessWarden) {
-                const response = await complaintService.getMessComplaints();
-                setComplaints(response.data || []);
+                await load(complaintService.getMessComplaints);
             } else if (buildingId) {
                 fetchComplaints(buildingId);
             }
@@ -276,6 +285,7 @@ const WardenComplaints = () => {
                         </tbody>
                     </table>
                 </div>
+                <LoadMoreButton hasMore={hasMore} loading={loadingMore} onClick={loadMore} />
             </div>
 
             {/* Assign Staff Modal */}
@@ -1,11 +1,13 @@
 import React, { useState, useEffect } from 'react';
 import wardenService from '../../services/wardenService';
 import Loader from '../../components/Loader';
+import LoadMoreButton from '../../components/LoadMoreButton';
+import usePagedList from '../../hooks/usePagedList';
 import { useNotification } from '../../context/NotificationContext';
 
 const WardenLaundry = () => {
     const { showToast } = useNotification();
-    const [bookings, setBookings] = useState([]);
+    const { items: bookings, setItems: setBookings, load, loadMore, loadingMore, hasMore } = usePagedList();
     const [loading, setLoading] = useState(true);
 
     useEffect(() => {
@@ -14,8 +16,7 @@ const WardenLaundry = () => {
 
     const fetchBookings = async () => {
         try {
-            const data = await wardenService.getAllLaundry();
-            setBookings(data);
+            await load(wardenService.getAllLaundry);
         } catch (error) {
             console.error(error);
         } finally {
@@ -95,6 +96,7 @@ const WardenLaundry = () => {
                         </tbody>
                     </table>
                 </div>
+                <LoadMoreButton hasMore={hasMore} loading={loadingMore} onClick={loadMore} />
             </div>
         </div>
     );
@@ -2,12 +2,14 @@ import React, { useEffect, useState } from 'react';
 import wardenService from '../../services/wardenService';
 import adminService from '../../services/adminService';
 import Loader from '../../components/Loader';
+import LoadMoreButton from '../../components/LoadMoreButton';
+import usePagedList from '../../hooks/usePagedList';
 import { useNotification } from '../../context/NotificationContext';
 import { CheckCircle, XCircle, Info, CurrencyInr, Door, House, IdentificationCard, GenderIntersex } from 'phosphor-react';
 
 const PendingStudents = () => {
     const { showToast } = useNotification();
-    const [students, setStudents] = useState([]);
+    const { items: students, load, loadMore, loadingMore, hasMore } = usePagedList();
     const [buildings, setBuildings] = useState([]);
     const [loading, setLoading] = useState(true);
 
@@ -28,11 +30,10 @@ const PendingStudents = () => {
 
     const fetchPendingStudents = async () => {
         try {
-            const [studentsData, buildingsData] = await Promise.all([
-                wardenService.getPendingStudents(),
+            const [, buildingsData] = await Promise.all([
+                load(wardenService.getPendingStudents),
                 wardenService.getMyBuildings()
             ]);
-            setStudents(studentsData);
             setBuildings(buildingsData);
         } catch (err) {
             console.error("Failed to fetch data", err);
@@ -162,6 +163,7 @@ const PendingStudents = () => {
                             ))}
                         </tbody>
                     </table>
+                    <LoadMoreButton hasMore={hasMore} loading={loadingMore} onClick={loadMore} />
                 </div>
             )}
             {/* Approval Modal */}
@@ -2,6 +2,8 @@ import React, { useState, useEffect } from 'react';
 import wardenService from '../../services/wardenService';
 import Loader from '../../components/Loader';
 import { useNotification } from '../../context/NotificationContext';
+import useDeltaTopic from '../../hooks/useDeltaTopic';
+import { upsertById } from '../../utils/deltas';
 
 const WardenVisitors = () => {
     const { showToast } = useNotification();
@@ -27,6 +29,13 @@ const WardenVisitors = () => {
         init();
     }, []);
 
+    useDeltaTopic(buildingId ? `/topic/buildings/${buildingId}/visitors` : null, (delta) => {
+        const visitor = delta.data;
+        setVisitors((prev) => visitor.status === 'PENDING'
+            ? upsertById(prev, visitor, 'visitorId')
+            : prev.filter((v) => v.visitorId !== visitor.visitorId));
+    });
+
     const fetchPending = async (bId) => {
         try {
             const data = await wardenService.getPendingVisitors(bId);
@@ -42,7 +51,7 @@ const WardenVisitors = () => {
         try {
             await wardenService.updateVisitorStatus(id, status);
             showToast('Success', `Visitor request ${status.toLowerCase()}`, 'success');
-            if (buildingId) fetchPending(buildingId);
+            setVisitors((prev) => prev.filter((v) => v.visitorId !== id));
         } catch (err) {
             console.error(err);
             showToast('Error', 'Failed to update status', 'error');
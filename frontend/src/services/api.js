@@ -52,4 +52,9 @@ api.interceptors.response.use(
     }
 );
 
+export const getPage = async (url, cursor, config = {}) => {
+    const response = await api.get(url, { ...config, params: { ...config.params, cursor } });
+    return { data: response.data, nextCursor: response.headers['x-next-cursor'] || null };
+};
+
 export default api;
@@ -7,7 +7,9 @@ const attendanceService = {
     },
 
     markByQr: async (token, type) => {
-        const response = await api.post(`/attendance/qr?token=${token}&type=${type}`);
+        const response = await api.post('/attendance/qr', null, {
+            params: { token, type }
+        });
         return response.data;
     },
 
@@ -9,6 +9,7 @@ const authService = {
                 userId: response.data.userId,
                 roleId: response.data.roleId,
                 role: response.data.role,
+                buildingId: response.data.buildingId,
                 username: username
             }));
         }
@@ -1,23 +1,23 @@
-import api from './api';
+import api, { getPage } from './api';
 
 const complaintService = {
     raiseComplaint: async (data) => {
         return await api.post('/complaints', data);
     },
 
-    getStudentComplaints: async (studentId) => {
-        return await api.get(`/complaints/student/${studentId}`);
+    getStudentComplaints: async (studentId, cursor) => {
+        return await getPage(`/complaints/student/${studentId}`, cursor);
     },
 
-    getMessComplaints: async () => {
-        return await api.get('/complaints/mess');
+    getMessComplaints: async (cursor) => {
+        return await getPage('/complaints/mess', cursor);
     },
 
-    getBuildingComplaints: async (buildingId, status) => {
+    getBuildingComplaints: async (buildingId, status, cursor) => {
         if (status === 'ALL') {
-            return await api.get(`/complaints/building/${buildingId}/all`);
+            return await getPage(`/complaints/building/${buildingId}/all`, cursor);
         }
-        return await api.get(`/complaints/building/${buildingId}/status/${status}`);
+        return await getPage(`/complaints/building/${buildingId}/status/${status}`, cursor);
     },
 
     updateComplaintStatus: async (complaintId, status, comment) => {
@@ -1,4 +1,4 @@
-import api from './api';
+import api, { getPage } from './api';
 
 const guardService = {
     getStats: async () => {
@@ -6,9 +6,8 @@ const guardService = {
         return response.data;
     },
 
-    getRecentVisitors: async () => {
-        const response = await api.get('/guard/visitors/recent');
-        return response.data;
+    getRecentVisitors: async (cursor) => {
+        return await getPage('/guard/visitors/recent', cursor);
     },
 
     logVisitor: async (data) => {
@@ -17,7 +16,9 @@ const guardService = {
     },
 
     markQrAttendance: async (qrString, type) => {
-        const response = await api.post(`/attendance/qr?token=${qrString}&type=${type}`);
+        const response = await api.post('/attendance/qr', null, {
+            params: { token: qrString, type }
+        });
         return response.data;
     },
 
@@ -4,6 +4,8 @@ class NotificationService {
     constructor() {
         this.client = null;
         this.connected = false;
+        this.topicHandlers = new Map();
+        this.topicSubscriptions = new Map();
     }
 
     connect(onMessageReceived) {
@@ -31,12 +33,25 @@ class NotificationService {
                 console.log('Connected to WebSocket');
                 this.connected = true;
 
-                this.client.subscribe('/user/queue/notifications', (message) => {
+                const handleMessage = (message) => {
                     if (message.body) {
                         const parsedMessage = JSON.parse(message.body);
                         onMessageReceived(parsedMessage);
                     }
-                });
+                };
+
+                this.client.subscribe('/user/queue/notifications', handleMessage);
+
+                const user = JSON.parse(localStorage.getItem('user') || 'null');
+                if (user?.role) {
+                    this.client.subscribe(`/topic/announcements/${user.role.toUpperCase()}`, handleMessage);
+                }
+                if (user?.buildingId) {
+                    this.client.subscribe(`/topic/buildings/${user.buildingId}/announcements`, handleMessage);
+                }
+
+                this.topicSubscriptions.clear();
+                this.topicHandlers.forEach((_, destination) => this.subscribeDestination(destination));
             },
             onStompError: (frame) => {
                 console.error('Broker reported error: ' + frame.headers['message']);
@@ -44,6 +59,7 @@ class NotificationService {
             },
             onWebSocketClose: () => {
                 this.connected = false;
+                this.topicSubscriptions.clear();
                 console.log('WebSocket connection closed');
             }
         });
@@ -55,7 +71,39 @@ class NotificationService {
         if (this.client) {
             this.client.deactivate();
             this.connected = false;
+            this.topicSubscriptions.clear();
+        }
+    }
+
+    subscribeTopic(destination, handler) {
+        if (!this.topicHandlers.has(destination)) {
+            this.topicHandlers.set(destination, new Set());
         }
+        this.topicHandlers.get(destination).add(handler);
+        if (this.connected) {
+            this.subscribeDestination(destination);
+        }
+
+        return () => {
+            const handlers = this.topicHandlers.get(destination);
+            if (!handlers) return;
+            handlers.delete(handler);
+            if (handlers.size === 0) {
+                this.topicHandlers.delete(destination);
+                this.topicSubscriptions.get(destination)?.unsubscribe();
+                this.topicSubscriptions.delete(destination);
+            }
+        };
+    }
+
+    subscribeDestination(destination) {
+        if (this.topicSubscriptions.has(destination) || !this.client?.connected) return;
+        const subscription = this.client.subscribe(destination, (message) => {
+            if (!message.body) return;
+            const payload = JSON.parse(message.body);
+            this.topicHandlers.get(destination)?.forEach((handler) => handler(payload));
+        });
+        this.topicSubscriptions.set(destination, subscription);
     }
 
     async sendNotification(data) {
@@ -75,6 +123,12 @@ class NotificationService {
         const response = await api.post('/notifications/broadcast', data);
         return response.data;
     }
+
+    async getBroadcastJob(jobId) {
+        const { default: api } = await import('./api');
+        const response = await api.get(`/notifications/broadcast/${jobId}`);
+        return response.data;
+    }
 }
 
 const notificationService = new NotificationService();
@@ -16,7 +16,9 @@ const paymentService = {
     
     confirmPayment: async (paymentData) => {
         try {
-            const response = await api.post('/payments/confirm', paymentData);
+            const response = await api.post('/payments/confirm', paymentData, {
+                headers: { 'Idempotency-Key': paymentData.razorpayPaymentId }
+            });
             return response.data;
         } catch (error) {
             console.error("Error confirming payment:", error);
@@ -1,4 +1,4 @@
-import api from './api';
+import api, { getPage } from './api';
 
 const studentService = {
     getStats: async () => {
@@ -21,9 +21,8 @@ const studentService = {
         return response.data;
     },
 
-    getMyComplaints: async (studentId) => {
-        const response = await api.get(`/complaints/student/${studentId}`);
-        return response.data;
+    getMyComplaints: async (studentId, cursor) => {
+        return await getPage(`/complaints/student/${studentId}`, cursor);
     },
 
     subscribeMess: async (data) => {
@@ -55,8 +54,11 @@ const studentService = {
     },
 
     getQrCode: async () => {
-        const response = await api.get('/students/qr');
-        return response.data;
+        const response = await api.get('/students/qr', {
+            params: { format: 'SVG' },
+            responseType: 'text'
+        });
+        return `data:image/svg+xml;charset=utf-8,${encodeURIComponent(response.data)}`;
     },
 
     getLaundryBookings: async () => {
@@ -64,9 +66,8 @@ const studentService = {
         return response.data;
     },
 
-    getPayments: async () => {
-        const response = await api.get('/payments/history');
-        return response.data;
+    getPayments: async (cursor) => {
+        return await getPage('/payments/history', cursor);
     },
 
     createOrder: async (data) => {
@@ -75,7 +76,9 @@ const studentService = {
     },
 
     verifyPayment: async (data) => {
-        const response = await api.post('/payments/confirm', data);
+        const response = await api.post('/payments/confirm', data, {
+            headers: { 'Idempotency-Key': data.razorpayPaymentId }
+        });
         return response.data;
     },
 
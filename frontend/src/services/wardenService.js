@@ -1,4 +1,4 @@
-import api from './api';
+import api, { getPage } from './api';
 
 const wardenService = {
     getStats: async () => {
@@ -6,9 +6,8 @@ const wardenService = {
         return response.data;
     },
 
-    getPendingStudents: async () => {
-        const response = await api.get('/students/status/PENDING');
-        return response.data;
+    getPendingStudents: async (cursor) => {
+        return await getPage('/students/status/PENDING', cursor);
     },
 
     getMyBuildings: async () => {
@@ -66,9 +65,8 @@ const wardenService = {
         return response.data;
     },
 
-    getAllLaundry: async () => {
-        const response = await api.get('/laundry/all');
-        return response.data;
+    getAllLaundry: async (cursor) => {
+        return await getPage('/laundry/all', cursor);
     },
 
     updateLaundryStatus: async (id, status) => {
@@ -82,7 +80,9 @@ const wardenService = {
     },
 
     markQrAttendance: async (qrString, type) => {
-        const response = await api.post(`/attendance/qr?token=${qrString}&type=${type}`);
+        const response = await api.post('/attendance/qr', null, {
+            params: { token: qrString, type }
+        });
         return response.data;
     },
 
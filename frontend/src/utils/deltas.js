@@ -0,0 +1,15 @@
+export const upsertById = (list, item, idKey) => {
+    const index = list.findIndex((existing) => existing[idKey] === item[idKey]);
+    if (index === -1) return [item, ...list];
+    const next = [...list];
+    next[index] = { ...next[index], ...item };
+    return next;
+};
+
+export const applyCounts = (stats, delta) => {
+    const next = { ...stats };
+    Object.entries(delta.data || {}).forEach(([counter, change]) => {
+        next[counter] = Math.max((next[counter] || 0) + change, 0);
+    });
+    return next;
+};